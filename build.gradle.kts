@@ -35,6 +35,7 @@ val jeiVersion: String = "15.2.0.21"
 val patchouliVersion: String = "1.20.1-81-FORGE"
 val jadeVersion: String = "4614153"
 val topVersion: String = "4629624"
+val jmhVersion: String = "1.37"
 
 val modId: String = "tfc"
 val modVersion: String = System.getenv("VERSION") ?: "0.0.0-indev"
@@ -45,6 +46,8 @@ val mappingsVersion: String = project.findProperty("mappings_version") as String
 val minifyResources: Boolean = project.findProperty("minify_resources") as Boolean? ?: false
 val zipResources: Boolean = project.findProperty("zip_resources") as Boolean? ?: false
 val useAdvancedClassRedef: Boolean = project.findProperty("use_advanced_class_redefinition") as Boolean? ?: false
+val jmhInclude: String? = project.findProperty("jmh_include") as String?
+val jmhArgs: String? = project.findProperty("jmh_args") as String?
 
 println("Using mappings $mappingsChannel / $mappingsVersion with version $modVersion")
 
@@ -64,6 +67,17 @@ idea {
     }
 }
 
+// JMH benchmarks, in src/jmh. These run headless, against the main and test classes (for TestHelper), without a Minecraft server.
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+}
+
+configurations {
+    named(jmh.implementationConfigurationName) { extendsFrom(configurations.testImplementation.get()) }
+    named(jmh.runtimeOnlyConfigurationName) { extendsFrom(configurations.testRuntimeOnly.get()) }
+}
+
 repositories {
     mavenCentral()
     mavenLocal()
@@ -118,6 +132,10 @@ dependencies {
     // There is not a testImplementation-like configuration, AFAIK, that is available at minecraft runtime, so we use minecraftLibrary
     minecraftLibrary("org.junit.jupiter:junit-jupiter-api:5.9.2")
     minecraftLibrary("org.junit.jupiter:junit-jupiter-engine:5.9.2")
+
+    // JMH
+    jmh.implementationConfigurationName("org.openjdk.jmh:jmh-core:$jmhVersion")
+    jmh.annotationProcessorConfigurationName("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
 }
 
 minecraft {
@@ -240,6 +258,59 @@ tasks {
         }
     }
 
+    // Runs the headless world generation throughput harness in WorldGenThroughputTest, which writes JSON results to build/reports/worldgen/throughput.json
+    // Accepts -Ptfc.worldgen.seed, -Ptfc.worldgen.radius, -Ptfc.worldgen.threads and -Ptfc.worldgen.draw
+    register<Test>("worldgenThroughput") {
+        group = "verification"
+        description = "Measures world generation throughput."
+
+        val results = layout.buildDirectory.file("reports/worldgen/throughput.json")
+
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = sourceSets.test.get().runtimeClasspath
+        useJUnitPlatform()
+        filter {
+            includeTestsMatching("net.dries007.tfc.drawing.WorldGenThroughputTest")
+        }
+        outputs.upToDateWhen { false }
+
+        systemProperty("tfc.worldgen.throughput", "true")
+        systemProperty("tfc.worldgen.output", results.get().asFile.absolutePath)
+        listOf("seed", "radius", "threads", "draw").forEach { key ->
+            project.findProperty("tfc.worldgen.$key")?.let { systemProperty("tfc.worldgen.$key", it) }
+        }
+        maxHeapSize = "4G"
+        testLogging {
+            showStandardStreams = true
+        }
+
+        doFirst {
+            results.get().asFile.parentFile.mkdirs()
+        }
+    }
+
+    // Runs all benchmarks, or those matching -Pjmh_include=<regex>. Additional JMH options can be passed with -Pjmh_args="..."
+    // Results are written as JSON to build/reports/jmh/results.json, to compare between commits
+    register<JavaExec>("jmh") {
+        group = "verification"
+        description = "Runs the JMH benchmarks."
+
+        val results = layout.buildDirectory.file("reports/jmh/results.json")
+
+        classpath = jmh.runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        outputs.file(results)
+        outputs.upToDateWhen { false }
+
+        jmhInclude?.let { args(it) }
+        jmhArgs?.let { args(it.split(" ").filter(String::isNotBlank)) }
+        args("-rf", "json", "-rff", results.get().asFile.absolutePath)
+
+        doFirst {
+            results.get().asFile.parentFile.mkdirs()
+        }
+    }
+
     jar {
         manifest {
             attributes["Implementation-Version"] = project.version
@@ -1473,6 +1473,9 @@ DEFAULT_LANG = {
     'tfc.commands.clear_world.starting': 'Clearing world. Prepare for lag...',
     'tfc.commands.clear_world.done': 'Cleared %d Block(s).',
     'tfc.commands.count_block.done': 'Found %d',
+    'tfc.commands.metrics.header': 'TFC metrics over %s ticks:',
+    'tfc.commands.metrics.reset': 'Reset TFC metrics',
+    'tfc.commands.metrics.disabled': 'TFC metrics are disabled. They can be enabled with enableMetrics in the server config.',
     'tfc.commands.player.query_hunger': 'Hunger is %s / 20',
     'tfc.commands.player.query_saturation': 'Saturation is %s / 20',
     'tfc.commands.player.query_water': 'Water is %s / 100',
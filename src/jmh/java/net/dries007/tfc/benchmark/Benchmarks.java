@@ -0,0 +1,34 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.settings.Settings;
+
+/**
+ * Shared setup for benchmarks. Everything is created from a fixed seed, so results are comparable between runs and commits.
+ */
+public final class Benchmarks
+{
+    public static final long SEED = 0x5EED_7FC0_1234L;
+
+    /**
+     * Bootstraps vanilla registries, for benchmarks that need blocks or items. This does not start a server.
+     */
+    public static void bootstrap()
+    {
+        TestHelper.bootstrap();
+    }
+
+    public static RegionGenerator regionGenerator()
+    {
+        return new RegionGenerator(new Settings(false, 0, 0, 0, 20_000, 0, 20_000, 0, null, 0.5f, 0.5f), new XoroshiroRandomSource(SEED));
+    }
+}
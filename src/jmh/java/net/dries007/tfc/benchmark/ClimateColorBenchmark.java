@@ -0,0 +1,164 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.climate.ClimateColorGrid;
+import net.dries007.tfc.util.climate.OverworldClimateModel;
+import net.dries007.tfc.world.chunkdata.ChunkData;
+import net.dries007.tfc.world.chunkdata.ForestType;
+import net.dries007.tfc.world.chunkdata.LerpFloatLayer;
+
+/**
+ * Benchmarks resolving the climate colormap index of every position in a chunk section, as meshing a section full of grass does, in resolver calls per second.
+ * Compares querying the climate model for each position, against reading from a {@link ClimateColorGrid}, both when the grid is already computed, and when it is created by the first query of a new hour.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClimateColorBenchmark
+{
+    private static final int SECTION_Y = 64;
+    private static final int CALLS = 16 * 16 * 16;
+    private static final int DAYS_IN_MONTH = 8;
+
+    private final Map<ChunkPos, ChunkData> chunkData = new HashMap<>();
+    private final OverworldClimateModel model = new OverworldClimateModel();
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+    private long calendarTicks;
+
+    @Setup
+    public void setup()
+    {
+        Benchmarks.bootstrap();
+
+        for (int x = -1; x <= 1; x++)
+        {
+            for (int z = -1; z <= 1; z++)
+            {
+                final ChunkData data = new ChunkData(new ChunkPos(x, z));
+                data.onUpdatePacket(new LerpFloatLayer(200 + x * 10, 210, 220 + z * 10, 230), new LerpFloatLayer(10 + x, 11, 12 + z, 13), ForestType.NONE, 0, 0);
+                chunkData.put(data.getPos(), data);
+            }
+        }
+        calendarTicks = 6 * ICalendar.TICKS_IN_HOUR;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public int resolveFromClimateModel()
+    {
+        int sum = 0;
+        for (int y = SECTION_Y; y < SECTION_Y + 16; y++)
+        {
+            for (int x = 0; x < 16; x++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    cursor.set(x, y, z);
+                    final ChunkData data = chunkData.get(new ChunkPos(cursor));
+                    sum += colormapIndex(model.getTemperature(null, cursor, data, calendarTicks, DAYS_IN_MONTH), data.getRainfall(cursor));
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public int resolveFromGrid()
+    {
+        return resolveFromGrid(ICalendar.getTotalHours(calendarTicks));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public int resolveFromNewGrid()
+    {
+        // Advance by an hour each operation, so the first query in each operation creates the grid, and computes the band
+        calendarTicks += ICalendar.TICKS_IN_HOUR;
+        return resolveFromGrid(ICalendar.getTotalHours(calendarTicks));
+    }
+
+    private int resolveFromGrid(long hour)
+    {
+        int sum = 0;
+        for (int y = SECTION_Y; y < SECTION_Y + 16; y++)
+        {
+            for (int x = 0; x < 16; x++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    cursor.set(x, y, z);
+                    final ChunkData data = chunkData.get(new ChunkPos(cursor));
+                    ClimateColorGrid grid = data.getClimateColorGrid();
+                    if (grid == null || !grid.isValid(model, hour, DAYS_IN_MONTH))
+                    {
+                        grid = new ClimateColorGrid(model, hour, DAYS_IN_MONTH, data.getPos(), -4, 24, source(data));
+                        data.setClimateColorGrid(grid);
+                    }
+                    sum += colormapIndex(grid.getTemperature(source(data), x, y, z), grid.getRainfall(x, z));
+                }
+            }
+        }
+        return sum;
+    }
+
+    private ClimateColorGrid.Source source(ChunkData data)
+    {
+        return new ClimateColorGrid.Source() {
+            @Override
+            public float getTemperature(int x, int y, int z)
+            {
+                return model.getTemperature(null, new BlockPos(x, y, z), data, calendarTicks, DAYS_IN_MONTH);
+            }
+
+            @Override
+            public float getAverageTemperature(int x, int z)
+            {
+                return data.getAverageTemp(x, z);
+            }
+
+            @Override
+            public float getRainfall(int x, int z)
+            {
+                return data.getRainfall(x, z);
+            }
+        };
+    }
+
+    /**
+     * The same index as {@code TFCColors.getClimateColor()} computes.
+     */
+    private static int colormapIndex(float temperature, float rainfall)
+    {
+        final int temperatureIndex = 255 - Mth.clamp((int) ((temperature + 20f) * 255f / 50f), 0, 255);
+        final int rainfallIndex = 255 - Mth.clamp((int) (rainfall * 255f / 500f), 0, 255);
+        return temperatureIndex | (rainfallIndex << 8);
+    }
+}
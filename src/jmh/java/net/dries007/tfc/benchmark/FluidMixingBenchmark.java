@@ -0,0 +1,107 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.world.level.material.FlowingFluid;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.Fluids;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dries007.tfc.common.TFCTags;
+import net.dries007.tfc.common.fluids.FluidHelpers;
+import net.dries007.tfc.common.fluids.FluidMixingTable;
+import net.dries007.tfc.util.Helpers;
+
+/**
+ * Benchmarks the mixing decisions made by fluid ticks along a shoreline, checking if each flowing fluid may mix with each of its horizontal neighbors.
+ * Compares querying the mixable tag directly, as was done before, against reading the {@link FluidMixingTable}. Full fluid ticks require a level, so this only measures the part of each tick which the table replaces, in fluid ticks per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FluidMixingBenchmark
+{
+    private static final int SHORELINE_LENGTH = 256;
+
+    private final Fluid[] shoreline = new Fluid[SHORELINE_LENGTH * 3]; // Three rows: sources, the flowing edge, and the shore
+
+    @Setup
+    public void setup()
+    {
+        Benchmarks.bootstrap();
+        FluidMixingTable.update();
+
+        for (int i = 0; i < SHORELINE_LENGTH; i++)
+        {
+            shoreline[i] = Fluids.WATER;
+            shoreline[SHORELINE_LENGTH + i] = i % 3 == 0 ? Fluids.WATER : Fluids.FLOWING_WATER;
+            shoreline[2 * SHORELINE_LENGTH + i] = i % 5 == 0 ? Fluids.FLOWING_WATER : Fluids.EMPTY;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SHORELINE_LENGTH - 2)
+    public int canMixFromTags()
+    {
+        int sum = 0;
+        for (int i = 1; i < SHORELINE_LENGTH - 1; i++)
+        {
+            final Fluid self = shoreline[SHORELINE_LENGTH + i];
+            sum += canMixFromTag(self, shoreline[i]) ? 1 : 0;
+            sum += canMixFromTag(self, shoreline[2 * SHORELINE_LENGTH + i]) ? 1 : 0;
+            sum += canMixFromTag(self, shoreline[SHORELINE_LENGTH + i - 1]) ? 1 : 0;
+            sum += canMixFromTag(self, shoreline[SHORELINE_LENGTH + i + 1]) ? 1 : 0;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SHORELINE_LENGTH - 2)
+    public int canMixFromTable()
+    {
+        int sum = 0;
+        for (int i = 1; i < SHORELINE_LENGTH - 1; i++)
+        {
+            final Fluid self = shoreline[SHORELINE_LENGTH + i];
+            sum += canMixFromTable(self, shoreline[i]) ? 1 : 0;
+            sum += canMixFromTable(self, shoreline[2 * SHORELINE_LENGTH + i]) ? 1 : 0;
+            sum += canMixFromTable(self, shoreline[SHORELINE_LENGTH + i - 1]) ? 1 : 0;
+            sum += canMixFromTable(self, shoreline[SHORELINE_LENGTH + i + 1]) ? 1 : 0;
+        }
+        return sum;
+    }
+
+    private static boolean canMixFromTag(Fluid left, Fluid right)
+    {
+        // Evaluate both sides, as tags are not loaded in a benchmark, so nothing is mixable
+        return canMixFromTag(left) & canMixFromTag(right);
+    }
+
+    private static boolean canMixFromTable(Fluid left, Fluid right)
+    {
+        return FluidHelpers.canMixFluids(left) & FluidHelpers.canMixFluids(right);
+    }
+
+    private static boolean canMixFromTag(Fluid fluid)
+    {
+        return fluid instanceof FlowingFluid && Helpers.isFluid(fluid, TFCTags.Fluids.MIXABLE);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.resources.ResourceLocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dries007.tfc.common.capabilities.food.FoodData;
+import net.dries007.tfc.common.capabilities.food.FoodHandler;
+import net.dries007.tfc.common.capabilities.food.FoodTrait;
+import net.dries007.tfc.config.TFCConfig;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.calendar.Calendars;
+
+/**
+ * Benchmarks a chest full of food being sorted by rotten date, and then having every slot hovered, which queries if the food is rotten, and its rotten date, for the tooltip.
+ * Compares recomputing the decay date modifier and rotten date from the traits on every query, as was done before, against the rotten date cached by each {@link FoodHandler}, in microseconds per chest.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FoodDecayBenchmark
+{
+    private static final int SLOTS = 54; // A double chest
+
+    private final FoodHandler[] chest = new FoodHandler[SLOTS];
+
+    @Setup
+    public void setup()
+    {
+        Benchmarks.bootstrap();
+        FoodHandler.setNonDecaying(false);
+
+        // Traits with fixed modifiers, as the server config, which the TFC traits read from, is not loaded in a benchmark
+        final FoodTrait[] traits = {trait("salted", 0.5f), trait("brined", 1f), trait("pickled", 0.5f), trait("preserved", 0.5f)};
+        final long now = Calendars.get().getTicks();
+        for (int i = 0; i < SLOTS; i++)
+        {
+            final FoodHandler food = new FoodHandler(FoodData.decayOnly(1 + (i % 4)));
+            food.setCreationDate(now - (i % 7) * 1000L);
+            for (int t = 0; t < i % traits.length; t++)
+            {
+                food.getTraits().add(traits[(i + t) % traits.length]);
+            }
+            chest[i] = food;
+        }
+    }
+
+    @Benchmark
+    public long sortAndHoverUncached()
+    {
+        final FoodHandler[] sorted = chest.clone();
+        Arrays.sort(sorted, Comparator.comparingLong(FoodDecayBenchmark::calculateRottenDate));
+        long sum = 0;
+        for (FoodHandler food : sorted)
+        {
+            final long rottenDate = calculateRottenDate(food);
+            sum += rottenDate < Calendars.get().getTicks() ? 1 : rottenDate;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sortAndHoverCached()
+    {
+        final FoodHandler[] sorted = chest.clone();
+        Arrays.sort(sorted, Comparator.comparingLong(FoodHandler::getRottenDate));
+        long sum = 0;
+        for (FoodHandler food : sorted)
+        {
+            sum += food.isRotten() ? 1 : food.getRottenDate();
+        }
+        return sum;
+    }
+
+    /**
+     * The rotten date, as was computed by {@link FoodHandler#getRottenDate()} before it was cached: the decay date modifier is recomputed from the traits, and the calendar queried, on every call.
+     */
+    private static long calculateRottenDate(FoodHandler food)
+    {
+        float mod = food.getData().decayModifier() * Helpers.getValueOrDefault(TFCConfig.SERVER.foodDecayModifier).floatValue();
+        for (FoodTrait trait : food.getTraits())
+        {
+            mod *= trait.getDecayModifier();
+        }
+        final float decayMod = mod == 0 ? Float.POSITIVE_INFINITY : 1 / mod;
+        final long creationDate = food.getCreationDate();
+        if (decayMod == Float.POSITIVE_INFINITY)
+        {
+            return FoodHandler.NEVER_DECAY_DATE;
+        }
+        final long rottenDate = creationDate + (long) (decayMod * FoodHandler.DEFAULT_DECAY_TICKS);
+        return rottenDate < Calendars.get().getTicks() ? FoodHandler.ROTTEN_DATE : rottenDate;
+    }
+
+    private static FoodTrait trait(String name, float decayModifier)
+    {
+        final ResourceLocation id = Helpers.identifier("benchmark_" + name);
+        final FoodTrait trait = FoodTrait.getTrait(id);
+        return trait != null ? trait : FoodTrait.register(id, new FoodTrait(decayModifier, null));
+    }
+}
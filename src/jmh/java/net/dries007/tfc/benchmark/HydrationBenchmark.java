@@ -0,0 +1,105 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dries007.tfc.common.blocks.soil.HydrationCache;
+
+/**
+ * Benchmarks computing the hydration of every farmland block in a 32x32 farm, irrigated by a channel of water every nine blocks.
+ * Compares scanning around each farmland block, computing the layers of each chunk the farm overlaps, and reading already computed layers, as {@link HydrationCache} does once populated.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HydrationBenchmark
+{
+    private static final int FARM_SIZE = 32;
+    private static final int FARM_MIN = 8; // Offset from chunk boundaries, so the farm overlaps nine chunks
+    private static final int FARM_Y = 64;
+    private static final int CHUNKS = 3;
+
+    private static boolean isHydrating(int x, int y, int z)
+    {
+        return y == FARM_Y && x >= FARM_MIN && x < FARM_MIN + FARM_SIZE && z >= FARM_MIN && z < FARM_MIN + FARM_SIZE && (x - FARM_MIN) % 9 == 4;
+    }
+
+    private final HydrationCache.FluidSource source = HydrationBenchmark::isHydrating;
+    private final byte[][] layers = new byte[CHUNKS * CHUNKS][256];
+
+    @Setup
+    public void setup()
+    {
+        computeLayers();
+    }
+
+    @Benchmark
+    public int scanEachPosition()
+    {
+        int sum = 0;
+        for (int x = FARM_MIN; x < FARM_MIN + FARM_SIZE; x++)
+        {
+            for (int z = FARM_MIN; z < FARM_MIN + FARM_SIZE; z++)
+            {
+                if (!isHydrating(x, FARM_Y, z))
+                {
+                    sum += HydrationCache.findMinCostWater(source, x, FARM_Y, z);
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int computeAndReadLayers()
+    {
+        computeLayers();
+        return readLayers();
+    }
+
+    @Benchmark
+    public int readLayers()
+    {
+        int sum = 0;
+        for (int x = FARM_MIN; x < FARM_MIN + FARM_SIZE; x++)
+        {
+            for (int z = FARM_MIN; z < FARM_MIN + FARM_SIZE; z++)
+            {
+                if (!isHydrating(x, FARM_Y, z))
+                {
+                    sum += layers[(x >> 4) + (z >> 4) * CHUNKS][(x & 15) | ((z & 15) << 4)];
+                }
+            }
+        }
+        return sum;
+    }
+
+    private void computeLayers()
+    {
+        for (int chunkX = 0; chunkX < CHUNKS; chunkX++)
+        {
+            for (int chunkZ = 0; chunkZ < CHUNKS; chunkZ++)
+            {
+                HydrationCache.computeLayer(source, chunkX << 4, FARM_Y, chunkZ << 4, layers[chunkX + chunkZ * CHUNKS]);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dries007.tfc.world.noise.Cellular2D;
+import net.dries007.tfc.world.noise.FastNoiseLite;
+import net.dries007.tfc.world.noise.Noise2D;
+import net.dries007.tfc.world.noise.OpenSimplex2D;
+
+/**
+ * Samples each noise over a chunk sized (16 x 16) area per operation, so results are comparable to the cost of sampling a noise once per column of a chunk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoiseBenchmark
+{
+    @Param({"1", "4"})
+    public int octaves;
+
+    private Noise2D openSimplex;
+    private Cellular2D cellular;
+    private FastNoiseLite fastNoise;
+    private int chunkX;
+
+    @Setup
+    public void setup()
+    {
+        openSimplex = new OpenSimplex2D(Benchmarks.SEED).octaves(octaves).spread(0.02f);
+        cellular = new Cellular2D(Benchmarks.SEED).spread(0.02f);
+
+        fastNoise = new FastNoiseLite((int) Benchmarks.SEED);
+        fastNoise.SetNoiseType(FastNoiseLite.NoiseType.OpenSimplex2S);
+        fastNoise.SetFrequency(0.02f);
+        fastNoise.SetFractalType(octaves > 1 ? FastNoiseLite.FractalType.FBm : FastNoiseLite.FractalType.None);
+        fastNoise.SetFractalOctaves(octaves);
+    }
+
+    @Benchmark
+    public double openSimplex2D()
+    {
+        return sampleChunk(openSimplex);
+    }
+
+    @Benchmark
+    public double cellular2D()
+    {
+        return sampleChunk(cellular);
+    }
+
+    @Benchmark
+    public double cellular2DCell()
+    {
+        final int x0 = nextChunkX();
+        double sum = 0;
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                sum += cellular.cell(x0 + x, z).f1();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double fastNoiseLite()
+    {
+        final int x0 = nextChunkX();
+        double sum = 0;
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                sum += fastNoise.GetNoise(x0 + x, z);
+            }
+        }
+        return sum;
+    }
+
+    private double sampleChunk(Noise2D noise)
+    {
+        final int x0 = nextChunkX();
+        double sum = 0;
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                sum += noise.noise(x0 + x, z);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Each operation samples a different chunk, so no noise can benefit from repeatedly sampling the same positions.
+     */
+    private int nextChunkX()
+    {
+        chunkX = (chunkX + 16) & 0xFFFFF;
+        return chunkX;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.common.capabilities.forge.ForgeRule;
+import net.dries007.tfc.common.capabilities.forge.ForgeStep;
+import net.dries007.tfc.common.capabilities.forge.ForgeSteps;
+import net.dries007.tfc.util.KnappingPattern;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
+
+/**
+ * Benchmarks the matching done by recipes which are checked frequently: knapping patterns, forging rules, and lookups via {@link IndirectHashCollection}.
+ * Each operation checks a single input against a set of recipes of a realistic size, as a recipe lookup would.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeBenchmark
+{
+    private static final int RECIPES = 64; // Of both knapping and forging
+    private static final int INDIRECT_RECIPES = 256;
+    private static final int INPUTS = 1024; // Power of two
+
+    private final List<KnappingPattern> knappingRecipes = new ArrayList<>();
+    private final KnappingPattern[] knappingInputs = new KnappingPattern[INPUTS];
+
+    private final List<ForgeRule[]> forgeRecipes = new ArrayList<>();
+    private final ForgeSteps[] forgeInputs = new ForgeSteps[INPUTS];
+
+    private IndirectHashCollection<Item, IndirectRecipe> indirectRecipes;
+    private final Item[] indirectInputs = new Item[INPUTS];
+
+    private int index;
+
+    @Setup
+    public void setup()
+    {
+        Benchmarks.bootstrap();
+
+        final Random random = new Random(Benchmarks.SEED);
+
+        // Knapping recipes of varying sizes, and full size inputs, as they would be in the knapping screen
+        for (int i = 0; i < RECIPES; i++)
+        {
+            knappingRecipes.add(randomPattern(random, 1 + random.nextInt(KnappingPattern.MAX_WIDTH), 1 + random.nextInt(KnappingPattern.MAX_HEIGHT)));
+        }
+        for (int i = 0; i < INPUTS; i++)
+        {
+            knappingInputs[i] = randomPattern(random, KnappingPattern.MAX_WIDTH, KnappingPattern.MAX_HEIGHT);
+        }
+
+        // Forging recipes with between one and three consistent rules, and inputs of the last three steps
+        final ForgeRule[] rules = ForgeRule.values();
+        final ForgeStep[] steps = ForgeStep.values();
+        while (forgeRecipes.size() < RECIPES)
+        {
+            final ForgeRule[] recipe = new ForgeRule[1 + random.nextInt(3)];
+            for (int i = 0; i < recipe.length; i++)
+            {
+                recipe[i] = rules[random.nextInt(rules.length)];
+            }
+            if (ForgeRule.isConsistent(recipe))
+            {
+                forgeRecipes.add(recipe);
+            }
+        }
+        for (int i = 0; i < INPUTS; i++)
+        {
+            final ForgeSteps input = new ForgeSteps();
+            for (int j = 0; j < 3; j++)
+            {
+                input.addStep(steps[random.nextInt(steps.length)]);
+            }
+            forgeInputs[i] = input;
+        }
+
+        // Recipes which each accept a handful of items, as i.e. fuels or heat definitions do
+        final List<Item> items = BuiltInRegistries.ITEM.stream().toList();
+        final List<IndirectRecipe> recipes = new ArrayList<>();
+        for (int i = 0; i < INDIRECT_RECIPES; i++)
+        {
+            final List<Item> inputs = new ArrayList<>();
+            for (int j = 1 + random.nextInt(8); j > 0; j--)
+            {
+                inputs.add(items.get(random.nextInt(items.size())));
+            }
+            recipes.add(new IndirectRecipe(inputs));
+        }
+        indirectRecipes = new IndirectHashCollection<>(IndirectRecipe::inputs);
+        indirectRecipes.reload(recipes);
+        for (int i = 0; i < INPUTS; i++)
+        {
+            indirectInputs[i] = items.get(random.nextInt(items.size()));
+        }
+    }
+
+    @Benchmark
+    public void knappingPatternMatches(Blackhole blackhole)
+    {
+        final KnappingPattern input = knappingInputs[nextIndex()];
+        for (KnappingPattern recipe : knappingRecipes)
+        {
+            blackhole.consume(input.matches(recipe));
+        }
+    }
+
+    @Benchmark
+    public void forgeRuleMatches(Blackhole blackhole)
+    {
+        final ForgeSteps input = forgeInputs[nextIndex()];
+        for (ForgeRule[] recipe : forgeRecipes)
+        {
+            boolean matches = true;
+            for (ForgeRule rule : recipe)
+            {
+                matches &= rule.matches(input);
+            }
+            blackhole.consume(matches);
+        }
+    }
+
+    @Benchmark
+    public int forgeRuleOptimalSteps()
+    {
+        final ForgeRule[] recipe = forgeRecipes.get(nextIndex() % forgeRecipes.size());
+        return ForgeRule.calculateOptimalStepsToTarget(50 + index % 100, recipe);
+    }
+
+    @Benchmark
+    public void indirectHashCollectionGetAll(Blackhole blackhole)
+    {
+        final Item input = indirectInputs[nextIndex()];
+        for (IndirectRecipe recipe : indirectRecipes.getAll(input))
+        {
+            blackhole.consume(recipe.inputs().contains(input));
+        }
+    }
+
+    private int nextIndex()
+    {
+        index = (index + 1) & (INPUTS - 1);
+        return index;
+    }
+
+    private static KnappingPattern randomPattern(Random random, int width, int height)
+    {
+        final KnappingPattern pattern = new KnappingPattern(width, height, false);
+        for (int i = 0; i < width * height; i++)
+        {
+            pattern.set(i, random.nextInt(4) != 0);
+        }
+        return pattern;
+    }
+
+    record IndirectRecipe(Collection<Item> inputs) {}
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dries007.tfc.util.rotation.AxleNode;
+import net.dries007.tfc.util.rotation.Node;
+import net.dries007.tfc.util.rotation.RotationNetworkManager;
+import net.dries007.tfc.util.rotation.SourceNode;
+
+/**
+ * Benchmarks operations on a rotation network consisting of a single source, and a line of {@code length} axles. Removing and re-adding an axle in the middle of the line disconnects, and then reconnects, every axle downstream of it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RotationNetworkBenchmark
+{
+    @Param({"16", "256"})
+    public int length;
+
+    private RotationNetworkManager manager;
+    private Node middle;
+
+    @Setup
+    public void setup()
+    {
+        manager = buildNetwork(length);
+        middle = manager.getNode(new BlockPos(0, 0, length / 2));
+    }
+
+    @Benchmark
+    public RotationNetworkManager build()
+    {
+        return buildNetwork(length);
+    }
+
+    @Benchmark
+    public boolean removeAndAddMiddle()
+    {
+        manager.remove(middle);
+        return manager.add(middle);
+    }
+
+    @Benchmark
+    public boolean updateMiddle()
+    {
+        return manager.update(middle);
+    }
+
+    private static RotationNetworkManager buildNetwork(int length)
+    {
+        final RotationNetworkManager manager = new RotationNetworkManager();
+        manager.addSource(new SourceNode(BlockPos.ZERO, EnumSet.of(Direction.SOUTH), Direction.SOUTH, 1.0f) {});
+        for (int z = 1; z <= length; z++)
+        {
+            manager.add(new AxleNode(new BlockPos(0, 0, z), EnumSet.of(Direction.NORTH, Direction.SOUTH)));
+        }
+        return manager;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraftforge.client.model.pipeline.QuadBakingVertexConsumer;
+import net.minecraftforge.client.textures.UnitTextureAtlasSprite;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dries007.tfc.client.model.IStaticBakedModel;
+import net.dries007.tfc.client.model.IngotPileBlockModel;
+import net.dries007.tfc.client.model.SimpleStaticBlockEntityModel;
+import net.dries007.tfc.client.model.StaticModelDataCache;
+
+/**
+ * Benchmarks re-meshing a warehouse of full ingot piles, where many piles hold the same metals, in microseconds per re-mesh.
+ * Compares building the quads of every pile, as was done before, against sharing them between identical piles via {@link StaticModelDataCache}.
+ * <p>
+ * The quads are built by {@link IngotPileBlockModel}, but the texture atlas is not available headless, so every ingot uses the same placeholder sprite, and each metal is identified by an index in the pile's contents.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StaticModelBenchmark
+{
+    private static final int PILES = 256;
+    private static final int INGOTS = 64;
+
+    /** The number of distinct piles, by contents, in the warehouse. */
+    @Param({"1", "8", "256"})
+    public int distinctPiles;
+
+    private final List<List<Integer>> piles = new ArrayList<>();
+    private final int packedLight = LightTexture.pack(15, 15);
+
+    @Setup
+    public void setup()
+    {
+        Benchmarks.bootstrap();
+
+        for (int i = 0; i < PILES; i++)
+        {
+            final Integer[] metals = new Integer[INGOTS];
+            for (int j = 0; j < INGOTS; j++)
+            {
+                metals[j] = (i % distinctPiles) * 31 + j % 4;
+            }
+            piles.add(Arrays.asList(metals));
+        }
+        StaticModelDataCache.INSTANCE.onResourceManagerReload(ResourceManager.Empty.INSTANCE);
+    }
+
+    @Benchmark
+    public int remeshUncached()
+    {
+        int quads = 0;
+        for (List<Integer> pile : piles)
+        {
+            quads += render(pile).quads().size();
+        }
+        return quads;
+    }
+
+    @Benchmark
+    public int remeshCached()
+    {
+        int quads = 0;
+        for (List<Integer> pile : piles)
+        {
+            quads += StaticModelDataCache.INSTANCE.getOrCreate(IngotPileBlockModel.INSTANCE, pile, packedLight, () -> render(pile)).quads().size();
+        }
+        return quads;
+    }
+
+    /**
+     * The quads of a full ingot pile, built by {@link IngotPileBlockModel#renderIngots}, in the same way as {@link SimpleStaticBlockEntityModel} does for each pile.
+     */
+    private IStaticBakedModel.StaticModelData render(List<Integer> pile)
+    {
+        final List<BakedQuad> quads = new ArrayList<>(pile.size() * 6);
+        final VertexConsumer buffer = new QuadBakingVertexConsumer(quads::add);
+        final TextureAtlasSprite particle = IngotPileBlockModel.renderIngots(new PoseStack(), buffer, pile.size(), i -> UnitTextureAtlasSprite.INSTANCE, packedLight, OverlayTexture.NO_OVERLAY);
+        return new IStaticBakedModel.StaticModelData(Collections.unmodifiableList(quads), particle);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.world.level.ChunkPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.world.chunkdata.ChunkData;
+import net.dries007.tfc.world.chunkdata.ChunkRockDataCache;
+import net.dries007.tfc.world.chunkdata.RegionChunkDataGenerator;
+import net.dries007.tfc.world.region.Region;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.Units;
+import net.dries007.tfc.world.settings.RockSettings;
+
+/**
+ * Benchmarks region generation, and the generation of chunk data and rock layers from those regions.
+ * <p>
+ * Region generation is measured both cold, where each operation generates a region in a new cell, and warm, where the region is already cached. Chunk data is generated for chunks along a line, so most regions are cached, as they would be when exploring a world.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorldGenBenchmark
+{
+    private RegionGenerator regionGenerator;
+    private RegionChunkDataGenerator chunkDataGenerator;
+    private int cellIndex;
+    private int chunkX;
+
+    @Setup
+    public void setup()
+    {
+        Benchmarks.bootstrap();
+
+        regionGenerator = Benchmarks.regionGenerator();
+        chunkDataGenerator = RegionChunkDataGenerator.create(Benchmarks.SEED, TestHelper.rockLayerSettings(), regionGenerator);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Region getOrCreateRegionUncached()
+    {
+        // Step by more than a cell width each operation, so each query lands in a region which has not been generated recently
+        cellIndex++;
+        return regionGenerator.getOrCreateRegion(cellIndex * Units.CELL_WIDTH_IN_GRID * 3, 0);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Region getOrCreateRegionCached()
+    {
+        return regionGenerator.getOrCreateRegion(0, 0);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ChunkData generateChunkData()
+    {
+        final ChunkData data = new ChunkData(chunkDataGenerator, new ChunkPos(nextChunkX(), 0));
+        chunkDataGenerator.generate(data);
+        return data;
+    }
+
+    /**
+     * Samples the rock of a full column (every 4 blocks, from the surface down to y = -64), with the per chunk cache, as the chunk generator does.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public RockSettings generateRockColumn()
+    {
+        final int x = nextChunkX();
+        final ChunkRockDataCache cache = new ChunkRockDataCache(new ChunkPos(x, 0));
+        RockSettings rock = null;
+        for (int y = 100; y >= -64; y -= 4)
+        {
+            rock = chunkDataGenerator.generateRock(x << 4, y, 0, 100, cache);
+        }
+        return rock;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public RockSettings generateRockColumnUncached()
+    {
+        final int x = nextChunkX();
+        RockSettings rock = null;
+        for (int y = 100; y >= -64; y -= 4)
+        {
+            rock = chunkDataGenerator.generateRock(x << 4, y, 0, 100, null);
+        }
+        return rock;
+    }
+
+    private int nextChunkX()
+    {
+        // Wrap around, so long runs don't walk arbitrarily far from the origin, and mostly stay within already generated regions
+        chunkX = (chunkX + 1) & 0xFFF;
+        return chunkX;
+    }
+}
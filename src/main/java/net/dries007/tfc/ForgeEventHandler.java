@@ -10,7 +10,6 @@ import com.mojang.logging.LogUtils;
 import net.minecraft.advancements.CriteriaTriggers;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
@@ -67,7 +66,6 @@ import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.CampfireBlock;
 import net.minecraft.world.level.block.HorizontalDirectionalBlock;
 import net.minecraft.world.level.block.LecternBlock;
-import net.minecraft.world.level.block.SnowLayerBlock;
 import net.minecraft.world.level.block.TntBlock;
 import net.minecraft.world.level.block.entity.BaseContainerBlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -97,7 +95,6 @@ import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.EntityJoinLevelEvent;
 import net.minecraftforge.event.entity.EntityMountEvent;
 import net.minecraftforge.event.entity.ProjectileImpactEvent;
-import net.minecraftforge.event.entity.item.ItemExpireEvent;
 import net.minecraftforge.event.entity.living.AnimalTameEvent;
 import net.minecraftforge.event.entity.living.LivingEntityUseItemEvent;
 import net.minecraftforge.event.entity.living.LivingEvent;
@@ -115,6 +112,8 @@ import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.event.level.ChunkWatchEvent;
 import net.minecraftforge.event.level.ExplosionEvent;
 import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStartingEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.IEventBus;
@@ -122,7 +121,6 @@ import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.slf4j.Logger;
 
-import net.dries007.tfc.client.TFCSounds;
 import net.dries007.tfc.common.TFCEffects;
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blockentities.AbstractFirepitBlockEntity;
@@ -154,6 +152,7 @@ import net.dries007.tfc.common.blocks.devices.SluiceBlock;
 import net.dries007.tfc.common.blocks.rock.AqueductBlock;
 import net.dries007.tfc.common.blocks.rock.Rock;
 import net.dries007.tfc.common.blocks.rock.RockAnvilBlock;
+import net.dries007.tfc.common.blocks.soil.HydrationCache;
 import net.dries007.tfc.common.blocks.wood.TFCLecternBlock;
 import net.dries007.tfc.common.capabilities.Capabilities;
 import net.dries007.tfc.common.capabilities.egg.EggCapability;
@@ -169,8 +168,10 @@ import net.dries007.tfc.common.capabilities.forge.ForgingCapability;
 import net.dries007.tfc.common.capabilities.glass.GlassWorkData;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
 import net.dries007.tfc.common.capabilities.heat.HeatDefinition;
+import net.dries007.tfc.common.capabilities.heat.IHeat;
 import net.dries007.tfc.common.capabilities.player.PlayerData;
 import net.dries007.tfc.common.capabilities.player.PlayerDataCapability;
+import net.dries007.tfc.common.capabilities.size.InventorySizeTracker;
 import net.dries007.tfc.common.capabilities.size.ItemSizeManager;
 import net.dries007.tfc.common.commands.TFCCommands;
 import net.dries007.tfc.common.container.BlockEntityContainer;
@@ -179,7 +180,7 @@ import net.dries007.tfc.common.container.PestContainer;
 import net.dries007.tfc.common.entities.Fauna;
 import net.dries007.tfc.common.entities.misc.HoldingMinecart;
 import net.dries007.tfc.common.entities.predator.Predator;
-import net.dries007.tfc.common.fluids.FluidHelpers;
+import net.dries007.tfc.common.fluids.FluidMixingTable;
 import net.dries007.tfc.common.items.BlowpipeItem;
 import net.dries007.tfc.common.recipes.CollapseRecipe;
 import net.dries007.tfc.config.TFCConfig;
@@ -216,6 +217,7 @@ import net.dries007.tfc.util.events.DouseFireEvent;
 import net.dries007.tfc.util.events.LoggingEvent;
 import net.dries007.tfc.util.events.SelectClimateModelEvent;
 import net.dries007.tfc.util.events.StartFireEvent;
+import net.dries007.tfc.util.metrics.Metrics;
 import net.dries007.tfc.util.tracker.WeatherHelpers;
 import net.dries007.tfc.util.tracker.WorldTracker;
 import net.dries007.tfc.util.tracker.WorldTrackerCapability;
@@ -251,6 +253,9 @@ public final class ForgeEventHandler
         bus.addListener(ForgeEventHandler::onNeighborUpdate);
         bus.addListener(ForgeEventHandler::onExplosionDetonate);
         bus.addListener(ForgeEventHandler::onWorldTick);
+        bus.addListener(ForgeEventHandler::onServerTick);
+        bus.addListener(ForgeEventHandler::onServerStarting);
+        bus.addListener(ForgeEventHandler::onServerStopped);
         bus.addListener(ForgeEventHandler::onWorldLoad);
         bus.addListener(ForgeEventHandler::onCreateNetherPortal);
         bus.addListener(ForgeEventHandler::onFluidPlaceBlock);
@@ -264,10 +269,10 @@ public final class ForgeEventHandler
         bus.addListener(ForgeEventHandler::onLivingJump);
         bus.addListener(ForgeEventHandler::onLivingHurt);
         bus.addListener(ForgeEventHandler::onShieldBlock);
+        bus.addListener(ForgeEventHandler::onSpawnPlacementCheck);
         bus.addListener(ForgeEventHandler::onLivingSpawnCheck);
         bus.addListener(ForgeEventHandler::onItemStacked);
         bus.addListener(ForgeEventHandler::onEntityJoinLevel);
-        bus.addListener(ForgeEventHandler::onItemExpire);
         bus.addListener(ForgeEventHandler::onPlayerLoggedIn);
         bus.addListener(ForgeEventHandler::onPlayerRespawn);
         bus.addListener(ForgeEventHandler::onPlayerDeath);
@@ -465,6 +470,12 @@ public final class ForgeEventHandler
         if (!Helpers.isClientSide(event.getLevel()) && !(event.getChunk() instanceof EmptyLevelChunk))
         {
             ChunkDataCache.SERVER.remove(event.getChunk().getPos());
+
+            final HydrationCache hydrationCache = HydrationCache.get(event.getLevel());
+            if (hydrationCache != null)
+            {
+                hydrationCache.removeChunk(event.getChunk().getPos());
+            }
         }
     }
 
@@ -589,10 +600,32 @@ public final class ForgeEventHandler
         if (event.phase == TickEvent.Phase.START && event.level instanceof ServerLevel level)
         {
             WeatherHelpers.preAdvancedWeatherCycle(level);
-            level.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.tick(level));
+            level.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> {
+                final long start = Metrics.WORLD_TRACKER_TICK.start();
+                cap.tick(level);
+                Metrics.WORLD_TRACKER_TICK.stop(start);
+            });
         }
     }
 
+    public static void onServerTick(TickEvent.ServerTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END)
+        {
+            Metrics.onServerTick();
+        }
+    }
+
+    public static void onServerStarting(ServerStartingEvent event)
+    {
+        Metrics.onServerStart(event.getServer());
+    }
+
+    public static void onServerStopped(ServerStoppedEvent event)
+    {
+        Metrics.onServerStop();
+    }
+
     public static void onWorldLoad(LevelEvent.Load event)
     {
         if (event.getLevel() instanceof final ServerLevel level)
@@ -926,7 +959,9 @@ public final class ForgeEventHandler
         }
         if (!level.isClientSide() && !player.getAbilities().invulnerable && TFCConfig.SERVER.enableOverburdening.get() && level.getGameTime() % 20 == 0)
         {
-            final int hugeHeavyCount = Helpers.countOverburdened(player.getInventory());
+            final int hugeHeavyCount = player.getCapability(PlayerDataCapability.CAPABILITY)
+                .map(PlayerData::countOverburdened)
+                .orElseGet(() -> Helpers.countOverburdened(player.getInventory()));
             if (hugeHeavyCount >= 1)
             {
                 player.addEffect(Helpers.getExhausted(false));
@@ -1044,74 +1079,80 @@ public final class ForgeEventHandler
     public static void onLivingSpawnCheck(MobSpawnEvent.FinalizeSpawn event)
     {
         final LivingEntity entity = event.getEntity();
-        final LevelAccessor level = event.getLevel();
-        final MobSpawnType spawn = event.getSpawnType();
         // we only care about "natural" spawns
-        if (spawn == MobSpawnType.NATURAL || spawn == MobSpawnType.CHUNK_GENERATION || spawn == MobSpawnType.REINFORCEMENT)
+        if (isNaturalSpawn(event.getSpawnType()) && Helpers.isEntity(entity, TFCTags.Entities.VANILLA_MONSTERS) && !canVanillaMonsterSpawn(event.getLevel(), entity.getType(), entity.blockPosition()))
         {
-            if (Helpers.isEntity(entity, TFCTags.Entities.VANILLA_MONSTERS))
-            {
-                if (TFCConfig.SERVER.enableVanillaMonsters.get())
-                {
-                    if (!TFCConfig.SERVER.enableVanillaMonstersOnSurface.get())
-                    {
-                        final BlockPos pos = entity.blockPosition();
-                        if (entity.getType() != EntityType.SLIME && level.getRawBrightness(pos, 0) != 0)
-                        {
-                            event.setSpawnCancelled(true);
-                            event.setCanceled(true);
-                        }
-                        else if (level.getHeight(Heightmap.Types.WORLD_SURFACE, pos.getX(), pos.getZ()) <= pos.getY())
-                        {
-                            event.setSpawnCancelled(true);
-                            event.setCanceled(true);
-                        }
-                        else if (!Helpers.isBlock(level.getBlockState(pos.below()), TFCTags.Blocks.MONSTER_SPAWNS_ON))
-                        {
-                            event.setSpawnCancelled(true);
-                            event.setCanceled(true);
-                        }
-                    }
-                }
-                else
-                {
-                    event.setSpawnCancelled(true);
-                    event.setCanceled(true);
-                }
-            }
+            event.setSpawnCancelled(true);
+            event.setCanceled(true);
         }
     }
 
+    /**
+     * Applies the same restrictions as {@link #onLivingSpawnCheck(MobSpawnEvent.FinalizeSpawn)}, but before the entity is constructed.
+     * Natural spawn attempts are made constantly in every loaded chunk, and most vanilla monster spawn attempts are rejected, so rejecting them here avoids constructing, and then discarding, an entity for each.
+     */
+    public static void onSpawnPlacementCheck(MobSpawnEvent.SpawnPlacementCheck event)
+    {
+        if (isNaturalSpawn(event.getSpawnType()) && Helpers.isEntity(event.getEntityType(), TFCTags.Entities.VANILLA_MONSTERS) && !canVanillaMonsterSpawn(event.getLevel(), event.getEntityType(), event.getPos()))
+        {
+            Metrics.SPAWN_PLACEMENTS_DENIED.increment();
+            event.setResult(Event.Result.DENY);
+        }
+    }
+
+    private static boolean isNaturalSpawn(MobSpawnType spawn)
+    {
+        return spawn == MobSpawnType.NATURAL || spawn == MobSpawnType.CHUNK_GENERATION || spawn == MobSpawnType.REINFORCEMENT;
+    }
+
+    /**
+     * @return {@code true} if a vanilla monster of type {@code type} may spawn naturally at {@code pos}.
+     */
+    private static boolean canVanillaMonsterSpawn(LevelAccessor level, EntityType<?> type, BlockPos pos)
+    {
+        if (!TFCConfig.SERVER.enableVanillaMonsters.get())
+        {
+            return false;
+        }
+        if (TFCConfig.SERVER.enableVanillaMonstersOnSurface.get())
+        {
+            return true;
+        }
+        // Checks are ordered cheapest first, the heightmap is a single array read, while brightness queries the light engine
+        return level.getHeight(Heightmap.Types.WORLD_SURFACE, pos.getX(), pos.getZ()) > pos.getY()
+            && (type == EntityType.SLIME || level.getRawBrightness(pos, 0) == 0)
+            && Helpers.isBlock(level.getBlockState(pos.below()), TFCTags.Blocks.MONSTER_SPAWNS_ON);
+    }
+
     /**
      * Applies multiple effect for entities joining the world:
      * <p>
-     * - Set a very short lifespan to item entities that are cool-able. This causes ItemExpireEvent to fire at regular intervals
+     * - Tracks hot item entities, including those loaded from disk, so they can be cooled by the {@link WorldTracker}
      * - Causes lightning bolts to strip nearby logs
      * - Prevents skeleton trap horses from spawning (see {@link ServerLevel#tickChunk(LevelChunk, int)}
      * - Prevents some categories of mobs from spawning. Some can't be done in {@link MobSpawnEvent.FinalizeSpawn} because Forge does not always fire it.
      */
     public static void onEntityJoinLevel(EntityJoinLevelEvent event)
     {
-        if (event.loadedFromDisk())
-        {
-            // This event is used for modifications to entity spawning, so we shouldn't apply any effects for entities that already exist in the world.
-            return;
-        }
-
         final Level level = event.getLevel();
 
         Entity entity = event.getEntity();
         if (entity instanceof ItemEntity itemEntity && !level.isClientSide && TFCConfig.SERVER.coolHotItemEntities.get())
         {
-            final ItemStack item = itemEntity.getItem();
-            item.getCapability(HeatCapability.CAPABILITY).ifPresent(cap -> {
-                if (cap.getTemperature() > 0f)
-                {
-                    itemEntity.lifespan = TFCConfig.SERVER.ticksBeforeItemCool.get();
-                }
-            });
+            final IHeat heat = HeatCapability.get(itemEntity.getItem());
+            if (heat != null && heat.getTemperature() > 0f)
+            {
+                level.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(tracker -> tracker.addHotItemEntity(itemEntity));
+            }
         }
-        else if (entity instanceof LightningBolt lightning && !level.isClientSide && !event.isCanceled())
+
+        if (event.loadedFromDisk())
+        {
+            // This event is used for modifications to entity spawning, so we shouldn't apply any effects for entities that already exist in the world.
+            return;
+        }
+
+        if (entity instanceof LightningBolt lightning && !level.isClientSide && !event.isCanceled())
         {
             if (!TFCConfig.SERVER.enableLightning.get())
             {
@@ -1180,103 +1221,6 @@ public final class ForgeEventHandler
         }
     }
 
-    /**
-     * If the item is heated, we check for blocks below and within that would cause it to cool.
-     * Since we don't want the item to actually expire, we set the expiry time to a small number that allows us to revisit the same code soon.
-     * <p>
-     * By cancelling the event, we guarantee that the item will not actually expire.
-     */
-    public static void onItemExpire(ItemExpireEvent event)
-    {
-        if (!TFCConfig.SERVER.coolHotItemEntities.get()) return;
-        final ItemEntity entity = event.getEntity();
-        if (entity.level().isClientSide) return;
-        final ServerLevel level = (ServerLevel) entity.level();
-        final ItemStack stack = entity.getItem();
-        final BlockPos pos = entity.blockPosition();
-
-        stack.getCapability(HeatCapability.CAPABILITY).ifPresent(heat -> {
-            final int lifespan = stack.getItem().getEntityLifespan(stack, level);
-            if (entity.lifespan >= lifespan)
-                return; // the case where the item has been sitting out for longer than the lifespan. So it should be removed by the game.
-
-            final float itemTemp = heat.getTemperature();
-            if (itemTemp > 0f)
-            {
-                float coolAmount = 0;
-                final BlockState state = level.getBlockState(pos);
-                if (FluidHelpers.canFluidExtinguishFire(state.getFluidState().getType()))
-                {
-                    coolAmount = 50f;
-                    if (level.random.nextFloat() < 0.001F && FluidHelpers.isAirOrEmptyFluid(state))
-                    {
-                        level.setBlockAndUpdate(pos, Blocks.AIR.defaultBlockState());
-                    }
-                }
-                else if (Helpers.isBlock(state, Blocks.SNOW))
-                {
-                    coolAmount = 70f;
-                    if (level.random.nextFloat() < 0.1F)
-                    {
-                        final int layers = state.getValue(SnowLayerBlock.LAYERS);
-                        if (layers > 1)
-                        {
-                            level.destroyBlock(pos, false);
-                            level.setBlockAndUpdate(pos, state.setValue(SnowLayerBlock.LAYERS, layers - 1));
-                        }
-                        else
-                        {
-                            level.setBlockAndUpdate(pos, Blocks.AIR.defaultBlockState());
-                        }
-                    }
-                }
-                else
-                {
-                    final BlockPos belowPos = pos.below();
-                    final BlockState belowState = level.getBlockState(belowPos);
-                    if (Helpers.isBlock(belowState, Blocks.SNOW_BLOCK))
-                    {
-                        coolAmount = 75f;
-                        if (level.random.nextFloat() < 0.1F)
-                        {
-                            level.destroyBlock(belowPos, false);
-                        }
-                    }
-                    else if (belowState.getBlock() == Blocks.ICE || belowState.getBlock() == Blocks.FROSTED_ICE)
-                    {
-                        coolAmount = 100f;
-                        if (level.random.nextFloat() < 0.01F)
-                        {
-                            level.setBlockAndUpdate(belowPos, Helpers.isBlock(belowState, TFCBlocks.SEA_ICE.get()) ? TFCBlocks.SALT_WATER.get().defaultBlockState() : Blocks.WATER.defaultBlockState());
-                        }
-                    }
-                    else if (belowState.getBlock() == Blocks.PACKED_ICE || belowState.getBlock() == Blocks.BLUE_ICE)
-                    {
-                        coolAmount = 125f;
-                        if (level.random.nextFloat() < 0.005F)
-                        {
-                            level.setBlockAndUpdate(belowPos, Blocks.WATER.defaultBlockState());
-                        }
-                    }
-                }
-
-                if (coolAmount > 0f)
-                {
-                    heat.setTemperature(Math.max(0f, heat.getTemperature() - coolAmount));
-                    Helpers.playSound(level, pos, TFCSounds.ITEM_COOL.get());
-                    level.sendParticles(ParticleTypes.SMOKE, entity.getX(), entity.getY(), entity.getZ(), 1, 0D, 0D, 0D, 1f);
-                }
-                event.setExtraLife(heat.getTemperature() == 0f ? lifespan : TFCConfig.SERVER.ticksBeforeItemCool.get());
-                //entity.setNoPickUpDelay();
-            }
-            else
-            {
-                event.setExtraLife(lifespan);
-            }
-            event.setCanceled(true);
-        });
-    }
-
     public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event)
     {
         onNewPlayerInWorld(event.getEntity());
@@ -1549,8 +1493,10 @@ public final class ForgeEventHandler
             // Then apply post reload actions which may query the cache
             Support.updateMaximumSupportRange();
             Metal.updateMetalFluidMap();
+            FluidMixingTable.update();
 
             ItemSizeManager.applyItemStackSizeOverrides();
+            InventorySizeTracker.invalidateAll();
             FoodCapability.markRecipeOutputsAsNonDecaying(event.getRegistryAccess(), manager);
 
             if (TFCConfig.COMMON.enableDatapackTests.get())
@@ -19,6 +19,8 @@ import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.fml.InterModComms;
 import net.minecraftforge.fml.ModList;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.config.ModConfig;
+import net.minecraftforge.fml.event.config.ModConfigEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLLoadCompleteEvent;
 import net.minecraftforge.fml.event.lifecycle.InterModEnqueueEvent;
@@ -110,6 +112,7 @@ public final class TerraFirmaCraft
         bus.addListener(this::registerCapabilities);
         bus.addListener(this::loadComplete);
         bus.addListener(this::onInterModComms);
+        bus.addListener(this::onConfigChanged);
         bus.addListener(EventPriority.LOWEST, TFCCreativeTabs::onBuildCreativeTab); // Lowest priority, since we only modify existing items, not add new ones.
         bus.addListener(TFCEntities::onEntityAttributeCreation);
         bus.addListener(Faunas::registerSpawnPlacements);
@@ -221,6 +224,15 @@ public final class TerraFirmaCraft
         }
     }
 
+    public void onConfigChanged(ModConfigEvent event)
+    {
+        if (event.getConfig().getType() == ModConfig.Type.SERVER)
+        {
+            // Food decay modifiers depend on the server config
+            FoodHandler.invalidateCachedDecay();
+        }
+    }
+
     public void onInterModComms(InterModEnqueueEvent event)
     {
         if (ModList.get().isLoaded("theoneprobe"))
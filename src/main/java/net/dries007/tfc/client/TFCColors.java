@@ -16,7 +16,6 @@ import net.minecraft.world.level.BlockAndTintGetter;
 import net.minecraft.world.level.ColorResolver;
 import net.minecraft.world.level.CommonLevelAccessor;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.biome.Biome;
 
@@ -28,6 +27,7 @@ import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.Month;
 import net.dries007.tfc.util.calendar.Season;
 import net.dries007.tfc.util.climate.Climate;
+import net.dries007.tfc.util.climate.ClimateColorGrid;
 import net.dries007.tfc.util.climate.OverworldClimateModel;
 import net.dries007.tfc.world.TFCChunkGenerator;
 import net.dries007.tfc.world.biome.TFCBiomes;
@@ -159,15 +159,17 @@ public final class TFCColors
     /**
      * Gets a color based on average temperature and time of year. Autumn occurs at different times of the year at height-adjusted average temperatures from the poles to 12c
      */
-    private static int getSeasonalFoliageColor(BlockPos pos, LevelAccessor level, int autumnIndex)
+    private static int getSeasonalFoliageColor(BlockPos pos, Level level, int autumnIndex)
     {
-        ChunkData data = ChunkData.get(level, pos);
-        float temp = OverworldClimateModel.getAdjustedAverageTempByElevation(pos, data);
-        float timeOfYear = Calendars.CLIENT.getCalendarFractionOfYear();
+        final ClimateColorGrid grid = ClimateColorGrid.get(level, pos);
+        final float averageTemp = grid != null ? grid.getAverageTemperature(pos.getX(), pos.getZ()) : ChunkData.get(level, pos).getAverageTemp(pos);
+        final float temp = OverworldClimateModel.getAdjustedAverageTempByElevation(pos.getY(), averageTemp);
+        final float timeOfYear = Calendars.CLIENT.getCalendarFractionOfYear();
         final float tempClamped = temp > 12f ? 12f : Math.max(temp, -20f);
 
-        final float cubedTerm = 1.5f * (float) Math.pow(tempClamped + 3f, 3f) / 4913f;
-        final float squaredTerm = 0.5f * (float) Math.pow(tempClamped + 3f, 2f) / 289f;
+        final float tempOffset = tempClamped + 3f;
+        final float cubedTerm = 1.5f * tempOffset * tempOffset * tempOffset / 4913f;
+        final float squaredTerm = 0.5f * tempOffset * tempOffset / 289f;
         final float autumnStart = (cubedTerm + squaredTerm + 8.5f) / 12f;
         final float autumnEnd = temp > 12f ? autumnStart : (cubedTerm - squaredTerm + 10.5f) / 12f;
         final float springStart = 1f - autumnEnd;
@@ -258,12 +260,18 @@ public final class TFCColors
 
     /**
      * Queries a color map based on temperature and rainfall parameters, by sampling the client temperature and rainfall at a given position. Temperature is horizontal, left is high. Rainfall is vertical, up is high.
+     * The climate is read from the {@link ClimateColorGrid} of the chunk, if there is one.
      */
     private static int getClimateColor(int[] colorCache, BlockPos pos)
     {
         final Level level = ClientHelpers.getLevel();
         if (level != null)
         {
+            final ClimateColorGrid grid = ClimateColorGrid.get(level, pos);
+            if (grid != null)
+            {
+                return getClimateColor(colorCache, grid.getTemperature(level, pos), grid.getRainfall(pos.getX(), pos.getZ()));
+            }
             final float temperature = Climate.getTemperature(level, pos);
             final float rainfall = Climate.getRainfall(level, pos);
             return getClimateColor(colorCache, temperature, rainfall);
@@ -288,7 +296,8 @@ public final class TFCColors
         final Level level = ClientHelpers.getLevel();
         if (level != null)
         {
-            final float rainfall = Climate.getRainfall(level, pos);
+            final ClimateColorGrid grid = ClimateColorGrid.get(level, pos);
+            final float rainfall = grid != null ? grid.getRainfall(pos.getX(), pos.getZ()) : Climate.getRainfall(level, pos);
             return getClimateColor(colorCache, averageTemperature, rainfall);
         }
         return 0;
@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.client.model;
 
+import java.util.Arrays;
 import java.util.function.Function;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
@@ -75,6 +76,18 @@ public enum DoubleIngotPileBlockModel implements SimpleStaticBlockEntityModel<Do
         return sprite;
     }
 
+    @Override
+    public Object cacheKey(IngotPileBlockEntity pile)
+    {
+        // The count, and the metal of each ingot, in order
+        final Metal[] metals = new Metal[pile.getBlockState().getValue(DoubleIngotPileBlock.DOUBLE_COUNT)];
+        for (int i = 0; i < metals.length; i++)
+        {
+            metals[i] = pile.getOrCacheMetal(i);
+        }
+        return Arrays.asList(metals);
+    }
+
     @Override
     public BlockEntityType<IngotPileBlockEntity> type()
     {
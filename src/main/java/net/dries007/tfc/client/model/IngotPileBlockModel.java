@@ -6,7 +6,9 @@
 
 package net.dries007.tfc.client.model;
 
+import java.util.Arrays;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
@@ -14,6 +16,7 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.client.RenderHelpers;
 import net.dries007.tfc.common.blockentities.IngotPileBlockEntity;
@@ -30,12 +33,25 @@ public enum IngotPileBlockModel implements SimpleStaticBlockEntityModel<IngotPil
     {
         final int ingots = pile.getBlockState().getValue(IngotPileBlock.COUNT);
         final Function<ResourceLocation, TextureAtlasSprite> textureAtlas = Minecraft.getInstance().getTextureAtlas(RenderHelpers.BLOCKS_ATLAS);
+        final TextureAtlasSprite sprite = renderIngots(poseStack, buffer, ingots, i -> textureAtlas.apply(pile.getOrCacheMetal(i).getSoftTextureId()), packedLight, packedOverlay);
 
+        // Use whatever sprite we found in the ingot pile towards the top as the particle texture
+        return sprite != null ? sprite : RenderHelpers.missingTexture();
+    }
+
+    /**
+     * Renders a pile of {@code ingots} ingots, stacked in alternating layers of eight.
+     *
+     * @param sprites The texture of each ingot, by index in the pile.
+     * @return The texture of the top ingot, or {@code null} if there are no ingots.
+     */
+    @Nullable
+    public static TextureAtlasSprite renderIngots(PoseStack poseStack, VertexConsumer buffer, int ingots, IntFunction<TextureAtlasSprite> sprites, int packedLight, int packedOverlay)
+    {
         TextureAtlasSprite sprite = null;
         for (int i = 0; i < ingots; i++)
         {
-            final Metal metal = pile.getOrCacheMetal(i);
-            sprite = textureAtlas.apply(metal.getSoftTextureId());
+            sprite = sprites.apply(i);
 
             final int layer = (i + 8) / 8;
             final boolean oddLayer = (layer % 2) == 1;
@@ -66,14 +82,19 @@ public enum IngotPileBlockModel implements SimpleStaticBlockEntityModel<IngotPil
 
             poseStack.popPose();
         }
+        return sprite;
+    }
 
-        if (sprite == null)
+    @Override
+    public Object cacheKey(IngotPileBlockEntity pile)
+    {
+        // The count, and the metal of each ingot, in order
+        final Metal[] metals = new Metal[pile.getBlockState().getValue(IngotPileBlock.COUNT)];
+        for (int i = 0; i < metals.length; i++)
         {
-            // Use whatever sprite we found in the ingot pile towards the top as the particle texture
-            sprite = RenderHelpers.missingTexture();
+            metals[i] = pile.getOrCacheMetal(i);
         }
-
-        return sprite;
+        return Arrays.asList(metals);
     }
 
     @Override
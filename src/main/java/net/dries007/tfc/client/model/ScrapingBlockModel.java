@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.client.model;
 
+import java.util.Arrays;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import net.minecraft.client.Minecraft;
@@ -44,6 +45,13 @@ public enum ScrapingBlockModel implements SimpleStaticBlockEntityModel<ScrapingB
         }).orElse(RenderHelpers.missingTexture());
     }
 
+    @Override
+    public Object cacheKey(ScrapingBlockEntity scraping)
+    {
+        // The color arrays are constant per dye color, so they can be compared by identity
+        return Arrays.asList(scraping.getScrapedPositions(), scraping.getInputTexture(), scraping.getOutputTexture(), scraping.getColor1(), scraping.getColor2());
+    }
+
     @Override
     public BlockEntityType<ScrapingBlockEntity> type()
     {
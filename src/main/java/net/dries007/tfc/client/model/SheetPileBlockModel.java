@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.client.model;
 
+import java.util.Arrays;
 import java.util.function.Function;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
@@ -56,6 +57,22 @@ public enum SheetPileBlockModel implements SimpleStaticBlockEntityModel<SheetPil
         return sprite;
     }
 
+    @Override
+    public Object cacheKey(SheetPileBlockEntity pile)
+    {
+        // The metal on each face, or null if the face is not present
+        final BlockState state = pile.getBlockState();
+        final Metal[] metals = new Metal[Helpers.DIRECTIONS.length];
+        for (Direction direction : Helpers.DIRECTIONS)
+        {
+            if (state.getValue(DirectionPropertyBlock.getProperty(direction)))
+            {
+                metals[direction.ordinal()] = pile.getOrCacheMetal(direction);
+            }
+        }
+        return Arrays.asList(metals);
+    }
+
     @Override
     public BlockEntityType<SheetPileBlockEntity> type()
     {
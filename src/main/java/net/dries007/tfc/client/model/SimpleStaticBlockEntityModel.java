@@ -7,6 +7,7 @@
 package net.dries007.tfc.client.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
@@ -23,6 +24,7 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.client.model.data.ModelData;
 import net.minecraftforge.client.model.pipeline.QuadBakingVertexConsumer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public interface SimpleStaticBlockEntityModel<T extends IBakedGeometry<T>, B extends BlockEntity> extends IBakedGeometry<T>, IStaticBakedModel
 {
@@ -44,13 +46,23 @@ public interface SimpleStaticBlockEntityModel<T extends IBakedGeometry<T>, B ext
     default StaticModelData render(BlockAndTintGetter level, BlockPos pos, B blockEntity)
     {
         final int packedLight = LightTexture.pack(level.getBrightness(LightLayer.BLOCK, pos), level.getBrightness(LightLayer.SKY, pos));
+        final Object contents = cacheKey(blockEntity);
+        if (contents != null)
+        {
+            return StaticModelDataCache.INSTANCE.getOrCreate(this, contents, packedLight, () -> render(blockEntity, packedLight));
+        }
+        return render(blockEntity, packedLight);
+    }
+
+    private StaticModelData render(B blockEntity, int packedLight)
+    {
         final int packedOverlay = OverlayTexture.NO_OVERLAY;
         final List<BakedQuad> quads = new ArrayList<>(faces(blockEntity));
         final VertexConsumer buffer = new QuadBakingVertexConsumer(quads::add);
         final PoseStack poseStack = new PoseStack();
 
         final TextureAtlasSprite particle = render(blockEntity, poseStack, buffer, packedLight, packedOverlay);
-        return new StaticModelData(quads, particle);
+        return new StaticModelData(Collections.unmodifiableList(quads), particle);
     }
 
     /**
@@ -60,6 +72,16 @@ public interface SimpleStaticBlockEntityModel<T extends IBakedGeometry<T>, B ext
 
     BlockEntityType<B> type();
 
+    /**
+     * @return A key which identifies everything that {@link #render(BlockEntity, PoseStack, VertexConsumer, int, int)} depends on for this block entity, so the quads can be shared between identical block entities via {@link StaticModelDataCache}.
+     * It must implement {@code equals()} and {@code hashCode()} by value. Returns {@code null} if the quads should not be cached.
+     */
+    @Nullable
+    default Object cacheKey(B blockEntity)
+    {
+        return null;
+    }
+
     /**
      * @return An estimate for the number of {@link BakedQuad}s to be created, for capacity-allocation.
      */
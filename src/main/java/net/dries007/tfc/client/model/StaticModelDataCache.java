@@ -0,0 +1,55 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.client.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+
+/**
+ * A cache of the quads built by {@link SimpleStaticBlockEntityModel}s, keyed by the model, the {@link SimpleStaticBlockEntityModel#cacheKey contents} of the block entity, and the light level.
+ * This means many identical block entities (i.e. a warehouse full of ingot piles) only build their quads once, rather than every time their chunk section is re-meshed.
+ * <p>
+ * The quads reference atlas sprites, so the cache is cleared on every resource reload.
+ */
+public enum StaticModelDataCache implements ResourceManagerReloadListener
+{
+    INSTANCE;
+
+    /**
+     * The maximum number of cached entries, before the cache is cleared. Distinct piles in view are typically far fewer than this.
+     */
+    private static final int MAX_SIZE = 4096;
+
+    private final Map<Key, IStaticBakedModel.StaticModelData> cache = new ConcurrentHashMap<>();
+
+    public IStaticBakedModel.StaticModelData getOrCreate(SimpleStaticBlockEntityModel<?, ?> model, Object contents, int packedLight, Supplier<IStaticBakedModel.StaticModelData> factory)
+    {
+        final Key key = new Key(model, contents, packedLight);
+        IStaticBakedModel.StaticModelData data = cache.get(key);
+        if (data == null)
+        {
+            data = factory.get();
+            if (cache.size() >= MAX_SIZE)
+            {
+                cache.clear();
+            }
+            cache.put(key, data);
+        }
+        return data;
+    }
+
+    @Override
+    public void onResourceManagerReload(ResourceManager resourceManager)
+    {
+        cache.clear();
+    }
+
+    record Key(SimpleStaticBlockEntityModel<?, ?> model, Object contents, int packedLight) {}
+}
@@ -26,10 +26,12 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
 import net.minecraftforge.common.util.INBTSerializable;
 import net.minecraftforge.items.IItemHandlerModifiable;
+import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blocks.devices.FirepitBlock;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
+import net.dries007.tfc.common.capabilities.heat.SlotHeatCache;
 import net.dries007.tfc.common.items.Powder;
 import net.dries007.tfc.common.items.TFCItems;
 import net.dries007.tfc.util.Fuel;
@@ -106,7 +108,7 @@ public abstract class AbstractFirepitBlockEntity<C extends IItemHandlerModifiabl
         {
             firepit.temperature = HeatCapability.adjustDeviceTemp(firepit.temperature, firepit.burnTemperature, firepit.airTicks, isRaining);
         }
-        HeatCapability.provideHeatTo(level, pos.above(), firepit.temperature);
+        firepit.heatTarget = HeatCapability.provideHeatTo(level, pos.above(), firepit.temperature, firepit.heatTarget, SlotHeatCache.isHeatingTick(level, pos));
         firepit.handleCooking();
         if (firepit.needsSlotUpdate)
         {
@@ -145,6 +147,7 @@ public abstract class AbstractFirepitBlockEntity<C extends IItemHandlerModifiabl
     private float dirtiness = 0f; // represents the dirtiness of the fire as handled by the fuel added
     private int lastMaxBurnTicks = Integer.MAX_VALUE;
     private int ash = 0;
+    private @Nullable BlockEntity heatTarget; // The block entity above, which is heated by this firepit
 
     public AbstractFirepitBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state, InventoryFactory<C> inventoryFactory, Component defaultName)
     {
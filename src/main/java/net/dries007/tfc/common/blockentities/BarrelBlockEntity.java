@@ -68,6 +68,7 @@ import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.CalendarTransaction;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.ICalendarTickable;
+import net.dries007.tfc.util.metrics.Metrics;
 
 public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockEntity.BarrelInventory> implements ICalendarTickable, BarrelInventoryCallback
 {
@@ -103,6 +104,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
             barrel.inventory.setStackInSlot(SLOT_ITEM, excess.remove(0));
         }
 
+        final long start = Metrics.BARREL_RECIPES.start();
         final SealedBarrelRecipe recipe = barrel.recipe;
         final boolean sealed = state.getValue(BarrelBlock.SEALED);
         final Direction facing = state.getValue(BarrelBlock.FACING);
@@ -161,6 +163,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
                 barrel.markForSync();
             }
         }
+        Metrics.BARREL_RECIPES.stop(start);
 
         if (barrel.soundCooldownTicks > 0)
         {
@@ -45,6 +45,8 @@ import net.dries007.tfc.common.capabilities.DelegateFluidHandler;
 import net.dries007.tfc.common.capabilities.PartialFluidHandler;
 import net.dries007.tfc.common.capabilities.SidedHandler;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
+import net.dries007.tfc.common.capabilities.heat.IHeat;
+import net.dries007.tfc.common.capabilities.heat.SlotHeatCache;
 import net.dries007.tfc.common.container.BlastFurnaceContainer;
 import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.common.recipes.BlastFurnaceRecipe;
@@ -139,33 +141,42 @@ public class BlastFurnaceBlockEntity extends TickableInventoryBlockEntity<BlastF
             entity.ensureCachedRecipesAreAligned();
 
             final List<FluidStack> newInputFluids = new ArrayList<>();
-            final Iterator<ItemStack> inputIterator = entity.inputStacks.iterator();
-            final Iterator<ItemStack> catalystIterator = entity.catalystStacks.iterator();
-            final Iterator<HeatingRecipe> recipeIterator = entity.inputCachedRecipes.iterator();
-            while (inputIterator.hasNext())
+            if (SlotHeatCache.isHeatingTick(level, pos))
             {
-                final ItemStack inputStack = inputIterator.next();
-                final ItemStack catalystStack = catalystIterator.next();
-                final HeatingRecipe inputRecipe = recipeIterator.next();
-
-                inputStack.getCapability(HeatCapability.CAPABILITY).ifPresent(cap -> {
-
-                    // Update temperature of item
-                    HeatCapability.addTemp(cap, entity.temperature);
+                final long gameTime = level.getGameTime();
+                final Iterator<ItemStack> inputIterator = entity.inputStacks.iterator();
+                final Iterator<ItemStack> catalystIterator = entity.catalystStacks.iterator();
+                final Iterator<HeatingRecipe> recipeIterator = entity.inputCachedRecipes.iterator();
+                int index = 0; // The index of the input stack, after any previous inputs have been removed
+                while (inputIterator.hasNext())
+                {
+                    final ItemStack inputStack = inputIterator.next();
+                    final ItemStack catalystStack = catalystIterator.next();
+                    final HeatingRecipe inputRecipe = recipeIterator.next();
 
-                    // Handle melting of the input. For now, just append results sequentially to a buffer, which will be added to the blast furnace later.
-                    if (inputRecipe != null && inputRecipe.isValidTemperature(cap.getTemperature()))
+                    final @Nullable IHeat heat = entity.heatCache.get(index, inputStack, gameTime);
+                    if (heat != null)
                     {
-                        // Only convert fluid output, and append to the buffer
-                        final FluidStack fluidStack = inputRecipe.assembleFluid(new ItemStackInventory(inputStack));
-                        newInputFluids.add(fluidStack);
-
-                        // And then remove this item, it's catalyst, and recipe from the iterators
-                        inputIterator.remove();
-                        catalystIterator.remove();
-                        recipeIterator.remove();
+                        // Update temperature of item
+                        entity.heatCache.heat(index, heat, entity.temperature, gameTime);
+
+                        // Handle melting of the input. For now, just append results sequentially to a buffer, which will be added to the blast furnace later.
+                        if (inputRecipe != null && inputRecipe.isValidTemperature(heat.getTemperature()))
+                        {
+                            // Only convert fluid output, and append to the buffer
+                            final FluidStack fluidStack = inputRecipe.assembleFluid(new ItemStackInventory(inputStack));
+                            newInputFluids.add(fluidStack);
+
+                            // And then remove this item, it's catalyst, recipe, and cached heat from the iterators
+                            inputIterator.remove();
+                            catalystIterator.remove();
+                            recipeIterator.remove();
+                            entity.heatCache.remove(index);
+                            continue;
+                        }
                     }
-                });
+                    index++;
+                }
             }
 
             // Once we're done handling inputs, then we can handle outputs. First, accumulate the result fluids together
@@ -214,6 +225,7 @@ public class BlastFurnaceBlockEntity extends TickableInventoryBlockEntity<BlastF
     private final List<HeatingRecipe> inputCachedRecipes; // Input cached recipes, 1-1 with input items
     private final List<ItemStack> catalystStacks; // Catalyst items, 1-1 with input items
     private final List<ItemStack> fuelStacks; // Fuel items, consumed sequentially
+    private final SlotHeatCache heatCache; // Heat of the input items, by index
 
     private final IntArrayBuilder syncedData;
     private final SidedHandler.Builder<IFluidHandler> sidedFluidInventory;
@@ -238,6 +250,7 @@ public class BlastFurnaceBlockEntity extends TickableInventoryBlockEntity<BlastF
         inputCachedRecipes = new ArrayList<>();
         catalystStacks = new ArrayList<>();
         fuelStacks = new ArrayList<>();
+        heatCache = new SlotHeatCache(TFCConfig.SERVER.blastFurnaceCapacity.get());
 
         inputFluid = FluidStack.EMPTY;
         outputFluidTank = new FluidTank(TFCConfig.SERVER.blastFurnaceFluidCapacity.get());
@@ -19,6 +19,7 @@ import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerData;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
 import net.minecraftforge.fluids.FluidStack;
@@ -35,6 +36,8 @@ import net.dries007.tfc.common.capabilities.food.FoodCapability;
 import net.dries007.tfc.common.capabilities.food.FoodTraits;
 import net.dries007.tfc.common.capabilities.heat.Heat;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
+import net.dries007.tfc.common.capabilities.heat.IHeat;
+import net.dries007.tfc.common.capabilities.heat.SlotHeatCache;
 import net.dries007.tfc.common.container.CharcoalForgeContainer;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
@@ -117,23 +120,35 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         // Always update temperature / cooking, until the fire pit is not hot anymore
         if (forge.temperature > 0 || forge.burnTemperature > 0)
         {
+            final float lastTemperature = forge.temperature;
+            final boolean isHeatingTick = SlotHeatCache.isHeatingTick(level, pos);
+
             forge.temperature = HeatCapability.adjustDeviceTemp(forge.temperature, forge.burnTemperature, forge.airTicks, isRaining);
+            forge.heatTarget = HeatCapability.provideHeatTo(level, pos.above(), forge.temperature, forge.heatTarget, isHeatingTick);
 
-            HeatCapability.provideHeatTo(level, pos.above(), forge.temperature);
+            if (isHeatingTick)
+            {
+                final long gameTime = level.getGameTime();
+                for (int slot = SLOT_INPUT_MIN; slot <= SLOT_INPUT_MAX; slot++)
+                {
+                    final ItemStack stack = forge.inventory.getStackInSlot(slot);
+                    final @Nullable IHeat heat = forge.heatCache.get(slot - SLOT_INPUT_MIN, stack, gameTime);
+                    if (heat != null)
+                    {
+                        // Update temperature of item
+                        forge.heatCache.heat(slot - SLOT_INPUT_MIN, heat, forge.temperature, gameTime);
+
+                        // Handle possible melting, or conversion (if reach 1599 = pit kiln temperature)
+                        forge.handleInputMelting(stack, slot, heat);
+                    }
+                }
+            }
 
-            for (int i = SLOT_INPUT_MIN; i <= SLOT_INPUT_MAX; i++)
+            // Between heating ticks, nothing needs to be synced unless the forge's own temperature changed
+            if (isHeatingTick || forge.temperature != lastTemperature)
             {
-                ItemStack stack = forge.inventory.getStackInSlot(i);
-                int slot = i;
-                stack.getCapability(HeatCapability.CAPABILITY).ifPresent(cap -> {
-                    // Update temperature of item
-                    HeatCapability.addTemp(cap, forge.temperature);
-
-                    // Handle possible melting, or conversion (if reach 1599 = pit kiln temperature)
-                    forge.handleInputMelting(stack, slot);
-                });
+                forge.markForSync();
             }
-            forge.markForSync();
         }
 
         // This is here to avoid duplication glitches
@@ -145,6 +160,8 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
 
     protected final ContainerData syncableData;
     private final HeatingRecipe[] cachedRecipes = new HeatingRecipe[5];
+    private final SlotHeatCache heatCache = new SlotHeatCache(5);
+    private @Nullable BlockEntity heatTarget; // The block entity above, which is heated by this forge
     private boolean needsSlotUpdate = false;
     private float temperature; // Current Temperature
     private int burnTicks; // Ticks remaining on the current item of fuel
@@ -354,32 +371,28 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         markForSync();
     }
 
-    private void handleInputMelting(ItemStack stack, int startIndex)
+    private void handleInputMelting(ItemStack stack, int startIndex, IHeat heat)
     {
         assert level != null;
-        HeatingRecipe recipe = cachedRecipes[startIndex - SLOT_INPUT_MIN];
-        stack.getCapability(HeatCapability.CAPABILITY).ifPresent(cap -> {
-            if (recipe != null && recipe.isValidTemperature(cap.getTemperature()))
-            {
-                assert level != null;
-
-                // Handle possible metal output
-                final ItemStackInventory inventory = new ItemStackInventory(stack);
-                FluidStack fluidStack = recipe.assembleFluid(inventory);
-                ItemStack outputStack = recipe.assemble(inventory, level.registryAccess());
-                float itemTemperature = cap.getTemperature();
-
-                // Loop through all input slots
-                for (int slot = SLOT_EXTRA_MIN; slot <= SLOT_EXTRA_MAX; slot++)
-                {
-                    fluidStack = Helpers.mergeOutputFluidIntoSlot(this.inventory, fluidStack, itemTemperature, slot);
-                    if (fluidStack.isEmpty()) break;
-                }
+        final HeatingRecipe recipe = cachedRecipes[startIndex - SLOT_INPUT_MIN];
+        final float itemTemperature = heat.getTemperature();
+        if (recipe != null && recipe.isValidTemperature(itemTemperature))
+        {
+            // Handle possible metal output
+            final ItemStackInventory inventory = new ItemStackInventory(stack);
+            FluidStack fluidStack = recipe.assembleFluid(inventory);
+            ItemStack outputStack = recipe.assemble(inventory, level.registryAccess());
 
-                FoodCapability.applyTrait(outputStack, FoodTraits.CHARCOAL_GRILLED);
-                this.inventory.setStackInSlot(startIndex, outputStack);
+            // Loop through all input slots
+            for (int slot = SLOT_EXTRA_MIN; slot <= SLOT_EXTRA_MAX; slot++)
+            {
+                fluidStack = Helpers.mergeOutputFluidIntoSlot(this.inventory, fluidStack, itemTemperature, slot);
+                if (fluidStack.isEmpty()) break;
             }
-        });
+
+            FoodCapability.applyTrait(outputStack, FoodTraits.CHARCOAL_GRILLED);
+            this.inventory.setStackInSlot(startIndex, outputStack);
+        }
     }
 
     private void cascadeFuelSlots()
@@ -37,7 +37,9 @@ import net.dries007.tfc.common.capabilities.SimpleFluidHandler;
 import net.dries007.tfc.common.capabilities.food.FoodCapability;
 import net.dries007.tfc.common.capabilities.food.FoodTraits;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
+import net.dries007.tfc.common.capabilities.heat.IHeat;
 import net.dries007.tfc.common.capabilities.heat.IHeatBlock;
+import net.dries007.tfc.common.capabilities.heat.SlotHeatCache;
 import net.dries007.tfc.common.container.CrucibleContainer;
 import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
@@ -87,35 +89,37 @@ public class CrucibleBlockEntity extends TickableInventoryBlockEntity<CrucibleBl
 
         // Input draining
         boolean canFill = crucible.lastFillTicks <= 0;
+        final boolean isHeatingTick = SlotHeatCache.isHeatingTick(level, pos);
+        final long gameTime = level.getGameTime();
         for (int i = SLOT_INPUT_START; i <= SLOT_INPUT_END; i++)
         {
-            final int slot = i;
             final ItemStack inputStack = crucible.inventory.getStackInSlot(i);
-            if (!inputStack.isEmpty())
+            final @Nullable IHeat heat = crucible.heatCache.get(i, inputStack, gameTime);
+            if (heat != null)
             {
-                inputStack.getCapability(HeatCapability.CAPABILITY).ifPresent(cap -> {
-
-                    // Always heat up the item regardless if it is melting or not
-                    HeatCapability.addTemp(cap, crucible.temperature, 2 + crucible.temperature * 0.0025f); // Breaks even at 400 C
+                // Always heat up the item regardless if it is melting or not. A cold crucible can never heat an item, so skip it entirely
+                if (isHeatingTick && crucible.temperature > 0)
+                {
+                    crucible.heatCache.heat(i, heat, crucible.temperature, 2 + crucible.temperature * 0.0025f, gameTime); // Breaks even at 400 C
+                }
 
-                    final HeatingRecipe recipe = crucible.cachedRecipes[slot];
-                    if (recipe != null && recipe.isValidTemperature(cap.getTemperature()))
-                    {
-                        // Convert input
-                        final ItemStackInventory inventory = new ItemStackInventory(inputStack);
-                        final ItemStack outputItem = recipe.assemble(inventory, level.registryAccess());
-                        final FluidStack outputFluid = recipe.assembleFluid(inventory);
-
-                        // Output transformations
-                        FoodCapability.applyTrait(outputItem, FoodTraits.BURNT_TO_A_CRISP);
-                        outputItem.getCapability(HeatCapability.CAPABILITY).ifPresent(outputCap -> outputCap.setTemperature(crucible.temperature));
-
-                        // Add output to crucible
-                        crucible.inventory.setStackInSlot(slot, outputItem);
-                        crucible.inventory.fill(outputFluid, IFluidHandler.FluidAction.EXECUTE);
-                        crucible.markForSync();
-                    }
-                });
+                final HeatingRecipe recipe = crucible.cachedRecipes[i];
+                if (recipe != null && recipe.isValidTemperature(heat.getTemperature()))
+                {
+                    // Convert input
+                    final ItemStackInventory inventory = new ItemStackInventory(inputStack);
+                    final ItemStack outputItem = recipe.assemble(inventory, level.registryAccess());
+                    final FluidStack outputFluid = recipe.assembleFluid(inventory);
+
+                    // Output transformations
+                    FoodCapability.applyTrait(outputItem, FoodTraits.BURNT_TO_A_CRISP);
+                    outputItem.getCapability(HeatCapability.CAPABILITY).ifPresent(outputCap -> outputCap.setTemperature(crucible.temperature));
+
+                    // Add output to crucible
+                    crucible.inventory.setStackInSlot(i, outputItem);
+                    crucible.inventory.fill(outputFluid, IFluidHandler.FluidAction.EXECUTE);
+                    crucible.markForSync();
+                }
             }
 
             if (canFill)
@@ -168,6 +172,7 @@ public class CrucibleBlockEntity extends TickableInventoryBlockEntity<CrucibleBl
     private final IntArrayBuilder syncableData;
 
     private final HeatingRecipe[] cachedRecipes;
+    private final SlotHeatCache heatCache;
     private float temperature;
     private float targetTemperature;
     private boolean needsRecipeUpdate;
@@ -187,6 +192,7 @@ public class CrucibleBlockEntity extends TickableInventoryBlockEntity<CrucibleBl
         super(TFCBlockEntities.CRUCIBLE.get(), pos, state, CrucibleInventory::new, NAME);
 
         cachedRecipes = new HeatingRecipe[9];
+        heatCache = new SlotHeatCache(9);
         needsRecipeUpdate = true;
         temperature = targetTemperature = 0;
         lastFillTicks = fastPourTicks = fastPourSlot = 0;
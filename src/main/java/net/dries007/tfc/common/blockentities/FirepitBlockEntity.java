@@ -21,6 +21,8 @@ import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.capabilities.PartialItemHandler;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
+import net.dries007.tfc.common.capabilities.heat.IHeat;
+import net.dries007.tfc.common.capabilities.heat.SlotHeatCache;
 import net.dries007.tfc.common.container.FirepitContainer;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
@@ -38,6 +40,7 @@ public class FirepitBlockEntity extends AbstractFirepitBlockEntity<ItemStackHand
     private static final Component NAME = Component.translatable(MOD_ID + ".block_entity.firepit");
 
     @Nullable protected HeatingRecipe cachedRecipe;
+    private final SlotHeatCache heatCache = new SlotHeatCache(1);
 
     public FirepitBlockEntity(BlockPos pos, BlockState state)
     {
@@ -62,12 +65,15 @@ public class FirepitBlockEntity extends AbstractFirepitBlockEntity<ItemStackHand
     protected void handleCooking()
     {
         assert level != null;
-        if (temperature > 0)
+        if (temperature > 0 && SlotHeatCache.isHeatingTick(level, worldPosition))
         {
+            final long gameTime = level.getGameTime();
             final ItemStack inputStack = inventory.getStackInSlot(SLOT_ITEM_INPUT);
-            inputStack.getCapability(HeatCapability.CAPABILITY).ifPresent(cap -> {
-                float itemTemp = cap.getTemperature();
-                HeatCapability.addTemp(cap, temperature);
+            final @Nullable IHeat heat = heatCache.get(0, inputStack, gameTime);
+            if (heat != null)
+            {
+                float itemTemp = heat.getTemperature();
+                heatCache.heat(0, heat, temperature, gameTime);
 
                 if (cachedRecipe != null && cachedRecipe.isValidTemperature(itemTemp))
                 {
@@ -79,9 +85,9 @@ public class FirepitBlockEntity extends AbstractFirepitBlockEntity<ItemStackHand
 
                     // Handle outputs
                     mergeOutputStack(recipe.assemble(inventory, level.registryAccess()));
-                    mergeOutputFluids(recipe.assembleFluid(inventory), cap.getTemperature());
+                    mergeOutputFluids(recipe.assembleFluid(inventory), heat.getTemperature());
                 }
-            });
+            }
         }
     }
 
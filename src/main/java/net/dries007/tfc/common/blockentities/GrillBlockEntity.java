@@ -24,6 +24,8 @@ import net.dries007.tfc.common.capabilities.PartialItemHandler;
 import net.dries007.tfc.common.capabilities.food.FoodCapability;
 import net.dries007.tfc.common.capabilities.food.FoodTraits;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
+import net.dries007.tfc.common.capabilities.heat.IHeat;
+import net.dries007.tfc.common.capabilities.heat.SlotHeatCache;
 import net.dries007.tfc.common.container.GrillContainer;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
@@ -39,12 +41,14 @@ public class GrillBlockEntity extends AbstractFirepitBlockEntity<ItemStackHandle
     private static final Component NAME = Component.translatable(MOD_ID + ".block_entity.grill");
 
     private final HeatingRecipe[] cachedRecipes;
+    private final SlotHeatCache heatCache;
 
     public GrillBlockEntity(BlockPos pos, BlockState state)
     {
         super(TFCBlockEntities.GRILL.get(), pos, state, defaultInventory(9), NAME);
 
         cachedRecipes = new HeatingRecipe[5];
+        heatCache = new SlotHeatCache(5);
 
         if (TFCConfig.SERVER.firePitEnableAutomation.get())
         {
@@ -81,22 +85,28 @@ public class GrillBlockEntity extends AbstractFirepitBlockEntity<ItemStackHandle
     protected void handleCooking()
     {
         assert level != null;
+        if (!SlotHeatCache.isHeatingTick(level, worldPosition))
+        {
+            return;
+        }
+        final long gameTime = level.getGameTime();
         for (int slot = SLOT_EXTRA_INPUT_START; slot <= SLOT_EXTRA_INPUT_END; slot++)
         {
             final ItemStack inputStack = inventory.getStackInSlot(slot);
-            final int finalSlot = slot;
-            inputStack.getCapability(HeatCapability.CAPABILITY, null).ifPresent(cap -> {
-                HeatCapability.addTemp(cap, temperature);
-                HeatingRecipe recipe = cachedRecipes[finalSlot - SLOT_EXTRA_INPUT_START];
-                if (recipe != null && recipe.isValidTemperature(cap.getTemperature()))
+            final @Nullable IHeat heat = heatCache.get(slot - SLOT_EXTRA_INPUT_START, inputStack, gameTime);
+            if (heat != null)
+            {
+                heatCache.heat(slot - SLOT_EXTRA_INPUT_START, heat, temperature, gameTime);
+                HeatingRecipe recipe = cachedRecipes[slot - SLOT_EXTRA_INPUT_START];
+                if (recipe != null && recipe.isValidTemperature(heat.getTemperature()))
                 {
                     ItemStack output = recipe.assemble(new ItemStackInventory(inputStack), level.registryAccess());
                     FoodCapability.applyTrait(output, FoodTraits.WOOD_GRILLED);
                     FoodCapability.updateFoodDecayOnCreate(output);
-                    inventory.setStackInSlot(finalSlot, output);
+                    inventory.setStackInSlot(slot, output);
                     markForSync();
                 }
-            });
+            }
         }
     }
 
@@ -66,7 +66,11 @@ public class LargeVesselBlockEntity extends InventoryBlockEntity<LargeVesselBloc
         assert level != null;
         for (int i = 0; i < SLOTS; i++)
         {
-            inventory.setStackInSlot(i, FoodCapability.removeTrait(inventory.getStackInSlot(i).copy(), FoodTraits.PRESERVED));
+            final ItemStack stack = inventory.getStackInSlot(i);
+            if (FoodCapability.has(stack)) // Only food can be preserved, so avoid copying anything else
+            {
+                inventory.setStackInSlot(i, FoodCapability.removeTrait(stack.copy(), FoodTraits.PRESERVED));
+            }
         }
         Helpers.playSound(level, worldPosition, TFCSounds.OPEN_VESSEL.get());
     }
@@ -76,7 +80,11 @@ public class LargeVesselBlockEntity extends InventoryBlockEntity<LargeVesselBloc
         assert level != null;
         for (int i = 0; i < SLOTS; i++)
         {
-            inventory.setStackInSlot(i, FoodCapability.applyTrait(inventory.getStackInSlot(i).copy(), FoodTraits.PRESERVED));
+            final ItemStack stack = inventory.getStackInSlot(i);
+            if (FoodCapability.has(stack)) // Only food can be preserved, so avoid copying anything else
+            {
+                inventory.setStackInSlot(i, FoodCapability.applyTrait(stack.copy(), FoodTraits.PRESERVED));
+            }
         }
         Helpers.playSound(level, worldPosition, TFCSounds.CLOSE_VESSEL.get());
     }
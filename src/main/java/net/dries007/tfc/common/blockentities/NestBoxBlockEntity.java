@@ -23,6 +23,7 @@ import net.dries007.tfc.common.capabilities.PartialItemHandler;
 import net.dries007.tfc.common.capabilities.egg.EggCapability;
 import net.dries007.tfc.common.capabilities.egg.IEgg;
 import net.dries007.tfc.common.container.NestBoxContainer;
+import net.dries007.tfc.common.entities.ai.livestock.NestBoxIndex;
 import net.dries007.tfc.common.entities.misc.Seat;
 import net.dries007.tfc.common.entities.livestock.OviparousAnimal;
 import net.dries007.tfc.config.TFCConfig;
@@ -109,6 +110,46 @@ public class NestBoxBlockEntity extends TickableInventoryBlockEntity<ItemStackHa
     {
         super.setAndUpdateSlots(slot);
         markForSync();
+        updateNestBoxIndex();
+    }
+
+    @Override
+    protected void onLoadAdditional()
+    {
+        updateNestBoxIndex();
+    }
+
+    @Override
+    protected void onUnloadAdditional()
+    {
+        if (level != null && !level.isClientSide)
+        {
+            final NestBoxIndex index = NestBoxIndex.get(level);
+            if (index != null)
+            {
+                index.remove(worldPosition);
+            }
+        }
+    }
+
+    private void updateNestBoxIndex()
+    {
+        if (level != null && !level.isClientSide && !isRemoved())
+        {
+            final NestBoxIndex index = NestBoxIndex.get(level);
+            if (index != null)
+            {
+                int freeSlots = 0;
+                for (int slot = 0; slot < inventory.getSlots(); slot++)
+                {
+                    if (inventory.getStackInSlot(slot).isEmpty())
+                    {
+                        freeSlots++;
+                    }
+                }
+                index.update(worldPosition, freeSlots);
+            }
+        }
     }
 
     @Nullable
@@ -31,6 +31,7 @@ import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateRange;
+import net.dries007.tfc.util.metrics.Metrics;
 
 /**
  * Common growth logic for crop blocks
@@ -58,17 +59,25 @@ public final class CropHelpers
      */
     public static boolean growthTick(Level level, BlockPos pos, BlockState state, CropBlockEntity crop)
     {
-        final long firstTick = crop.getLastGrowthTick(), thisTick = Calendars.SERVER.getTicks();
-        long tick = firstTick + CropHelpers.UPDATE_INTERVAL, lastTick = firstTick;
-        for (; tick < thisTick; tick += CropHelpers.UPDATE_INTERVAL)
+        final long start = Metrics.CROP_GROWTH.start();
+        try
         {
-            if (!CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, tick, crop))
+            final long firstTick = crop.getLastGrowthTick(), thisTick = Calendars.SERVER.getTicks();
+            long tick = firstTick + CropHelpers.UPDATE_INTERVAL, lastTick = firstTick;
+            for (; tick < thisTick; tick += CropHelpers.UPDATE_INTERVAL)
             {
-                return false;
+                if (!CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, tick, crop))
+                {
+                    return false;
+                }
+                lastTick = tick;
             }
-            lastTick = tick;
+            return lastTick >= thisTick || CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, thisTick, crop);
+        }
+        finally
+        {
+            Metrics.CROP_GROWTH.stop(start);
         }
-        return lastTick >= thisTick || CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, thisTick, crop);
     }
 
     public static boolean growthTickStep(Level level, BlockPos pos, BlockState state, RandomSource random, long fromTick, long toTick, CropBlockEntity crop)
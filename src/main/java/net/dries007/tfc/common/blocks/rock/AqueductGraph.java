@@ -0,0 +1,346 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.rock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FlowingFluid;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.Fluids;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.blocks.DirectionPropertyBlock;
+import net.dries007.tfc.common.fluids.FluidProperty;
+import net.dries007.tfc.util.metrics.Metrics;
+import net.dries007.tfc.util.tracker.WorldTracker;
+import net.dries007.tfc.util.tracker.WorldTrackerCapability;
+
+/**
+ * Solves the fluid in an entire network of connected aqueducts at once, on server.
+ * <p>
+ * Two adjacent aqueducts are connected if both are open towards each other. Any aqueduct which is open towards a valid source of fluid is filled directly from that source, and every aqueduct connected to a filled aqueduct is in turn filled from it, in breadth first order. So, every filled aqueduct faces the neighbor it is filled from, along a shortest path to a source, and aqueducts not connected to any source are emptied.
+ * <p>
+ * When an aqueduct is ticked, the connected component containing it is found, solved, and every changed state is set in a single batch. This means a change anywhere in a network settles after a single tick delay, rather than a wave of ticks propagating one aqueduct at a time. Each component is solved at most once per game tick, no matter how many of its aqueducts are ticked.
+ * <p>
+ * Only the loaded part of a component is solved. An aqueduct open towards an unloaded chunk is a boundary of the loaded part: if it is filled, and faces into the unloaded chunk, its current fluid is treated as a source, as it may be supplied from the unloaded part of the network. Otherwise, the unloaded side is ignored.
+ */
+public class AqueductGraph
+{
+    @Nullable
+    public static AqueductGraph get(Level level)
+    {
+        return level instanceof ServerLevel serverLevel ? serverLevel.getCapability(WorldTrackerCapability.CAPABILITY).map(WorldTracker::getAqueductGraph).orElse(null) : null;
+    }
+
+    /**
+     * The maximum number of aqueducts in a single component which will be solved. Larger components are left as they are.
+     */
+    public static final int MAX_COMPONENT_SIZE = 1 << 15;
+
+    private static final Direction[] HORIZONTAL = Direction.Plane.HORIZONTAL.stream().toArray(Direction[]::new);
+
+    private final LongSet solvedPositions; // All aqueducts solved on the current tick
+    private long solvedTick;
+
+    public AqueductGraph()
+    {
+        this.solvedPositions = new LongOpenHashSet();
+        this.solvedTick = Long.MIN_VALUE;
+    }
+
+    /**
+     * Solves, and updates, the component containing the aqueduct at {@code pos}, unless it has already been solved this tick.
+     */
+    public void solve(ServerLevel level, BlockPos pos)
+    {
+        solve(level, pos, level::isLoaded);
+    }
+
+    /**
+     * Solves the component containing the aqueduct at {@code pos}, considering only positions matching {@code isLoaded} to be loaded.
+     */
+    public void solve(ServerLevel level, BlockPos pos, Predicate<BlockPos> isLoaded)
+    {
+        if (solvedTick != level.getGameTime())
+        {
+            solvedTick = level.getGameTime();
+            solvedPositions.clear();
+        }
+        if (solvedPositions.contains(pos.asLong()))
+        {
+            return;
+        }
+
+        final long start = Metrics.AQUEDUCT_SOLVE.start();
+        final Component component = Component.find(level, pos, isLoaded);
+        if (component != null)
+        {
+            component.solve();
+            component.apply(level, isLoaded);
+            solvedPositions.addAll(component.positions);
+        }
+        Metrics.AQUEDUCT_SOLVE.stop(start);
+    }
+
+    static final class Component
+    {
+        /**
+         * Finds every loaded aqueduct connected to {@code start}, along with the fluid sources they are open to. A filled aqueduct facing an unloaded position is treated as being open to a source of its current fluid.
+         *
+         * @return The component, or {@code null} if it is too large.
+         */
+        @Nullable
+        static Component find(Level level, BlockPos start, Predicate<BlockPos> isLoaded)
+        {
+            final BlockState startState = level.getBlockState(start);
+            if (!(startState.getBlock() instanceof AqueductBlock))
+            {
+                return null;
+            }
+
+            final Component component = new Component();
+            component.add(start.asLong(), startState);
+
+            final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+            final List<FluidProperty.FluidKey> sources = new ArrayList<>();
+            final LongArrayList adjacent = new LongArrayList();
+            for (int i = 0; i < component.positions.size(); i++) // Breadth first, as positions are added to the end
+            {
+                final long pos = component.positions.getLong(i);
+                final BlockState state = component.states.get(i);
+                for (Direction direction : HORIZONTAL)
+                {
+                    FluidProperty.FluidKey source = null;
+                    long adjacentPos = Long.MIN_VALUE;
+                    if (state.getValue(DirectionPropertyBlock.getProperty(direction)))
+                    {
+                        cursor.set(pos).move(direction);
+                        if (!isLoaded.test(cursor))
+                        {
+                            // The boundary of the loaded part of the network. Keep any fluid this aqueduct is currently filled with from the unloaded part
+                            final FluidProperty.FluidKey fluid = state.getValue(AqueductBlock.FLUID);
+                            if (state.getValue(AqueductBlock.FACING) == direction && fluid.getFluid() != Fluids.EMPTY)
+                            {
+                                source = fluid;
+                            }
+                        }
+                        else
+                        {
+                            final BlockState adjacentState = level.getBlockState(cursor);
+                            if (adjacentState.getBlock() instanceof AqueductBlock)
+                            {
+                                if (adjacentState.getValue(DirectionPropertyBlock.getProperty(direction.getOpposite())))
+                                {
+                                    adjacentPos = cursor.asLong();
+                                    if (!component.indices.containsKey(adjacentPos))
+                                    {
+                                        if (component.positions.size() >= MAX_COMPONENT_SIZE)
+                                        {
+                                            return null;
+                                        }
+                                        component.add(adjacentPos, adjacentState);
+                                    }
+                                }
+                            }
+                            else if (AqueductBlock.isValidSource(adjacentState))
+                            {
+                                final Fluid fluid = adjacentState.getFluidState().getType() instanceof FlowingFluid flow ? flow.getSource() : adjacentState.getFluidState().getType();
+                                if (AqueductBlock.FLUID.canContain(fluid))
+                                {
+                                    source = AqueductBlock.FLUID.keyFor(fluid);
+                                }
+                            }
+                        }
+                    }
+                    sources.add(source);
+                    adjacent.add(adjacentPos);
+                }
+            }
+
+            // Resolve adjacent positions to indices, now every aqueduct in the component is known
+            final int size = component.positions.size();
+            component.sources = sources.toArray(new FluidProperty.FluidKey[0]);
+            component.neighbors = new int[size * 4];
+            for (int i = 0; i < size * 4; i++)
+            {
+                component.neighbors[i] = component.indices.get(adjacent.getLong(i));
+            }
+            return component;
+        }
+
+        final LongArrayList positions;
+        final List<BlockState> states;
+        final Long2IntMap indices;
+
+        // Indexed by (aqueduct index * 4 + direction index), where direction index is the index in HORIZONTAL
+        FluidProperty.FluidKey[] sources; // The fluid of an adjacent source, or null
+        int[] neighbors; // The index of the connected adjacent aqueduct, or -1
+
+        // The solution, indexed by aqueduct index
+        @Nullable Direction[] facing;
+        @Nullable FluidProperty.FluidKey[] fluids; // null if not reachable from any source
+
+        Component()
+        {
+            this.positions = new LongArrayList();
+            this.states = new ArrayList<>();
+            this.indices = new Long2IntOpenHashMap();
+            this.indices.defaultReturnValue(-1);
+        }
+
+        void add(long pos, BlockState state)
+        {
+            indices.put(pos, positions.size());
+            positions.add(pos);
+            states.add(state);
+        }
+
+        /**
+         * Assigns each aqueduct the fluid, and the direction it is filled from, by a breadth first search from all sources at once. Where there are multiple equally short paths to a source, the direction the aqueduct currently faces is preferred, so that settled networks do not change.
+         */
+        void solve()
+        {
+            final int size = positions.size();
+            final int[] distances = new int[size];
+            final IntArrayList queue = new IntArrayList();
+            facing = new Direction[size];
+            fluids = new FluidProperty.FluidKey[size];
+            Arrays.fill(distances, -1);
+
+            for (int i = 0; i < size; i++)
+            {
+                final int d = choose(i, directionIndex(states.get(i).getValue(AqueductBlock.FACING)), index -> sources[index] != null);
+                if (d != -1)
+                {
+                    distances[i] = 0;
+                    facing[i] = HORIZONTAL[d];
+                    fluids[i] = sources[i * 4 + d];
+                    queue.add(i);
+                }
+            }
+
+            for (int q = 0; q < queue.size(); q++)
+            {
+                final int i = queue.getInt(q);
+                for (int d = 0; d < 4; d++)
+                {
+                    final int j = neighbors[i * 4 + d];
+                    if (j != -1 && distances[j] == -1)
+                    {
+                        distances[j] = distances[i] + 1;
+                        queue.add(j);
+                    }
+                }
+            }
+
+            // In breadth first order, so every aqueduct is assigned after those closer to a source, which it may be filled from
+            for (int q = 0; q < queue.size(); q++)
+            {
+                final int i = queue.getInt(q);
+                if (distances[i] > 0)
+                {
+                    final int d = choose(i, directionIndex(states.get(i).getValue(AqueductBlock.FACING)), index -> neighbors[index] != -1 && distances[neighbors[index]] == distances[i] - 1);
+                    facing[i] = HORIZONTAL[d];
+                    fluids[i] = fluids[neighbors[i * 4 + d]];
+                }
+            }
+        }
+
+        /**
+         * Sets every aqueduct whose state has changed, and then updates loaded non-aqueduct neighbors. Aqueducts in the component don't need to be updated, as they are already in their final state.
+         */
+        void apply(ServerLevel level, Predicate<BlockPos> isLoaded)
+        {
+            final FluidProperty.FluidKey empty = AqueductBlock.FLUID.keyFor(Fluids.EMPTY);
+            final IntArrayList changed = new IntArrayList();
+            final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+            for (int i = 0; i < positions.size(); i++)
+            {
+                final BlockState state = states.get(i);
+                final BlockState newState = fluids[i] == null
+                    ? state.setValue(AqueductBlock.FLUID, empty)
+                    : state.setValue(AqueductBlock.FACING, facing[i]).setValue(AqueductBlock.FLUID, fluids[i]);
+                if (newState != state)
+                {
+                    cursor.set(positions.getLong(i));
+                    level.setBlock(cursor, newState, Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+                    if (fluids[i] != null)
+                    {
+                        // Allow the fluid to flow out of any open ends
+                        final Fluid fluid = newState.getFluidState().getType();
+                        level.scheduleTick(cursor, fluid, fluid.getTickDelay(level));
+                    }
+                    states.set(i, newState);
+                    changed.add(i);
+                }
+            }
+
+            final BlockPos.MutableBlockPos adjacentPos = new BlockPos.MutableBlockPos();
+            for (int k = 0; k < changed.size(); k++)
+            {
+                final int i = changed.getInt(k);
+                final BlockState state = states.get(i);
+                cursor.set(positions.getLong(i));
+                level.blockUpdated(cursor, state.getBlock());
+                for (Direction direction : Direction.values())
+                {
+                    adjacentPos.setWithOffset(cursor, direction);
+                    if (isLoaded.test(adjacentPos) && !(level.getBlockState(adjacentPos).getBlock() instanceof AqueductBlock))
+                    {
+                        level.neighborShapeChanged(direction.getOpposite(), state, adjacentPos, cursor, Block.UPDATE_ALL, 512);
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return The index of a direction from aqueduct {@code i} which matches {@code predicate}, preferring {@code preferred}, or else the first in {@link #HORIZONTAL} order, or -1 if none match.
+         */
+        private int choose(int i, int preferred, IntPredicate predicate)
+        {
+            if (predicate.test(i * 4 + preferred))
+            {
+                return preferred;
+            }
+            for (int d = 0; d < 4; d++)
+            {
+                if (predicate.test(i * 4 + d))
+                {
+                    return d;
+                }
+            }
+            return -1;
+        }
+
+        private static int directionIndex(Direction direction)
+        {
+            for (int d = 0; d < 4; d++)
+            {
+                if (HORIZONTAL[d] == direction)
+                {
+                    return d;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -115,28 +115,12 @@ public class FarmlandBlock extends Block implements ISoilBlock, HoeOverlayBlock,
      */
     private static int findMinCostWater(LevelAccessor level, BlockPos pos)
     {
-        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
-
-        int minCostWater = 5;
-        for (int dx = -4; dx <= 4; dx++)
+        final HydrationCache cache = HydrationCache.get(level);
+        if (cache != null)
         {
-            for (int dz = -4; dz <= 4; dz++)
-            {
-                for (int dy = -1; dy <= 0; dy++)
-                {
-                    final int cost = Math.max(Math.abs(dx), Math.abs(dz)) + (-2 * dy);
-                    if (cost < minCostWater && Helpers.isFluid(level.getFluidState(cursor.setWithOffset(pos, dx, dy, dz)).getType(), TFCTags.Fluids.HYDRATING))
-                    {
-                        minCostWater = cost;
-                        if (minCostWater == 1)
-                        {
-                            return 1;
-                        }
-                    }
-                }
-            }
+            return cache.getMinCostWater((ServerLevel) level, pos);
         }
-        return minCostWater;
+        return HydrationCache.findMinCostWater(HydrationCache.source(level), pos.getX(), pos.getY(), pos.getZ());
     }
 
     private final ExtendedProperties properties;
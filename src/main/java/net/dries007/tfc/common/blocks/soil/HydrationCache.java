@@ -0,0 +1,250 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.soil;
+
+import java.util.Arrays;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.TFCTags;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.tracker.WorldTracker;
+import net.dries007.tfc.util.tracker.WorldTrackerCapability;
+
+/**
+ * A per-level cache of the distance from each block to the nearest hydrating fluid, as used by {@link FarmlandBlock#getHydration(LevelAccessor, BlockPos)}, on server.
+ * <p>
+ * The cost of water at the same level is its horizontal (chessboard) distance, and water one block below costs an additional two, up to a maximum of {@link #MAX_COST}, for no water in range.
+ * Instead of scanning the 9x9x2 box around each farmland block, the costs of an entire chunk at a single y level are computed at once, by a multi-source breadth first search from every hydrating fluid in the chunk, plus a border of {@link #RANGE} blocks. Querying a cached layer is then a single array read.
+ * <p>
+ * Layers are invalidated when a block within range changes between a hydrating and non-hydrating fluid, and removed when their chunk is unloaded.
+ */
+public class HydrationCache
+{
+    @Nullable
+    public static HydrationCache get(LevelAccessor level)
+    {
+        return level instanceof ServerLevel serverLevel ? serverLevel.getCapability(WorldTrackerCapability.CAPABILITY).map(WorldTracker::getHydrationCache).orElse(null) : null;
+    }
+
+    /**
+     * The maximum horizontal distance at which a hydrating fluid has any effect.
+     */
+    public static final int RANGE = 4;
+
+    /**
+     * The cost of a position with no hydrating fluid in range.
+     */
+    public static final int MAX_COST = RANGE + 1;
+
+    private static final int SIZE = 16 + 2 * RANGE;
+
+    public static boolean isHydrating(FluidState state)
+    {
+        return Helpers.isFluid(state, TFCTags.Fluids.HYDRATING);
+    }
+
+    public static FluidSource source(LevelAccessor level)
+    {
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        return (x, y, z) -> isHydrating(level.getFluidState(cursor.set(x, y, z)));
+    }
+
+    /**
+     * Finds the cost of the nearest hydrating fluid to a single position, by checking every position in range.
+     *
+     * @return A value in [1, {@link #MAX_COST}]
+     */
+    public static int findMinCostWater(FluidSource source, int x, int y, int z)
+    {
+        int minCostWater = MAX_COST;
+        for (int dx = -RANGE; dx <= RANGE; dx++)
+        {
+            for (int dz = -RANGE; dz <= RANGE; dz++)
+            {
+                for (int dy = -1; dy <= 0; dy++)
+                {
+                    final int cost = Math.max(Math.abs(dx), Math.abs(dz)) + (-2 * dy);
+                    if (cost < minCostWater && source.isHydrating(x + dx, y + dy, z + dz))
+                    {
+                        minCostWater = cost;
+                        if (minCostWater == 1)
+                        {
+                            return 1;
+                        }
+                    }
+                }
+            }
+        }
+        return minCostWater;
+    }
+
+    /**
+     * Computes the cost of the nearest hydrating fluid to every position of a chunk at a single y level, equivalent to {@link #findMinCostWater(FluidSource, int, int, int)} at each position.
+     *
+     * @param costs An array of size 256, indexed by {@code x | (z << 4)}, which will be filled with values in [1, {@link #MAX_COST}]
+     */
+    public static void computeLayer(FluidSource source, int minX, int y, int minZ, byte[] costs)
+    {
+        // Seed the search with every hydrating fluid, in the chunk and border. Fluid on the same level has a cost of zero, fluid below has a cost of two.
+        final byte[] distances = new byte[SIZE * SIZE];
+        final IntArrayList[] queues = new IntArrayList[MAX_COST];
+        for (int distance = 0; distance < MAX_COST; distance++)
+        {
+            queues[distance] = new IntArrayList();
+        }
+
+        Arrays.fill(distances, (byte) MAX_COST);
+        for (int z = 0; z < SIZE; z++)
+        {
+            for (int x = 0; x < SIZE; x++)
+            {
+                final int index = x + z * SIZE;
+                final int blockX = minX - RANGE + x, blockZ = minZ - RANGE + z;
+                if (source.isHydrating(blockX, y, blockZ))
+                {
+                    distances[index] = 0;
+                    queues[0].add(index);
+                }
+                else if (source.isHydrating(blockX, y - 1, blockZ))
+                {
+                    distances[index] = 2;
+                    queues[2].add(index);
+                }
+            }
+        }
+
+        // Then propagate in order of increasing distance, to all eight horizontal neighbors, so the distance is the chessboard distance to the nearest source.
+        // A shortest path between two positions never leaves the box containing both of them, so the search never needs to leave the chunk and border.
+        for (int distance = 0; distance < MAX_COST - 1; distance++)
+        {
+            final IntArrayList queue = queues[distance];
+            for (int i = 0; i < queue.size(); i++)
+            {
+                final int index = queue.getInt(i);
+                if (distances[index] != distance)
+                {
+                    continue; // Already reached at a shorter distance
+                }
+                final int x = index % SIZE, z = index / SIZE;
+                for (int dx = -1; dx <= 1; dx++)
+                {
+                    for (int dz = -1; dz <= 1; dz++)
+                    {
+                        final int neighborX = x + dx, neighborZ = z + dz;
+                        if (neighborX >= 0 && neighborX < SIZE && neighborZ >= 0 && neighborZ < SIZE)
+                        {
+                            final int neighborIndex = neighborX + neighborZ * SIZE;
+                            if (distances[neighborIndex] > distance + 1)
+                            {
+                                distances[neighborIndex] = (byte) (distance + 1);
+                                queues[distance + 1].add(neighborIndex);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        // Farmland is never a fluid itself, so the cost of a neighboring fluid, of one, is the minimum
+        for (int z = 0; z < 16; z++)
+        {
+            for (int x = 0; x < 16; x++)
+            {
+                costs[x | (z << 4)] = (byte) Math.max(1, distances[(x + RANGE) + (z + RANGE) * SIZE]);
+            }
+        }
+    }
+
+    private final Long2ObjectMap<Int2ObjectMap<byte[]>> layersByChunk; // Chunk pos -> (y -> costs)
+
+    public HydrationCache()
+    {
+        this.layersByChunk = new Long2ObjectOpenHashMap<>();
+    }
+
+    /**
+     * @return The cost of the nearest hydrating fluid to {@code pos}, in [1, {@link #MAX_COST}]
+     */
+    public int getMinCostWater(ServerLevel level, BlockPos pos)
+    {
+        final int chunkX = SectionPos.blockToSectionCoord(pos.getX()), chunkZ = SectionPos.blockToSectionCoord(pos.getZ());
+        final Int2ObjectMap<byte[]> layers = layersByChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+
+        byte[] costs = layers == null ? null : layers.get(pos.getY());
+        if (costs == null)
+        {
+            // The border extends into all neighboring chunks. If any are not loaded, fall back to scanning, as opposed to causing them to load.
+            for (int dx = -1; dx <= 1; dx++)
+            {
+                for (int dz = -1; dz <= 1; dz++)
+                {
+                    if (!level.hasChunk(chunkX + dx, chunkZ + dz))
+                    {
+                        return findMinCostWater(source(level), pos.getX(), pos.getY(), pos.getZ());
+                    }
+                }
+            }
+
+            costs = new byte[16 * 16];
+            computeLayer(source(level), SectionPos.sectionToBlockCoord(chunkX), pos.getY(), SectionPos.sectionToBlockCoord(chunkZ), costs);
+            layersByChunk.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), key -> new Int2ObjectOpenHashMap<>()).put(pos.getY(), costs);
+        }
+        return costs[(pos.getX() & 15) | ((pos.getZ() & 15) << 4)];
+    }
+
+    /**
+     * Invalidates all layers which may depend on {@code pos}, which has changed to or from a hydrating fluid. Fluid affects the costs of its own level, and the level above.
+     */
+    public void onFluidChanged(BlockPos pos)
+    {
+        if (layersByChunk.isEmpty())
+        {
+            return;
+        }
+        final int minChunkX = SectionPos.blockToSectionCoord(pos.getX() - RANGE), maxChunkX = SectionPos.blockToSectionCoord(pos.getX() + RANGE);
+        final int minChunkZ = SectionPos.blockToSectionCoord(pos.getZ() - RANGE), maxChunkZ = SectionPos.blockToSectionCoord(pos.getZ() + RANGE);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+        {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++)
+            {
+                final long key = ChunkPos.asLong(chunkX, chunkZ);
+                final Int2ObjectMap<byte[]> layers = layersByChunk.get(key);
+                if (layers != null)
+                {
+                    layers.remove(pos.getY());
+                    layers.remove(pos.getY() + 1);
+                    if (layers.isEmpty())
+                    {
+                        layersByChunk.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    public void removeChunk(ChunkPos pos)
+    {
+        layersByChunk.remove(pos.toLong());
+    }
+
+    @FunctionalInterface
+    public interface FluidSource
+    {
+        boolean isHydrating(int x, int y, int z);
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.wood;
+
+import java.util.Arrays;
+import java.util.Collection;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.util.Helpers;
+
+/**
+ * Updates the distance of all leaves affected by removing a group of logs at once, i.e. when felling a tree.
+ * <p>
+ * Normally, removing a log causes a shape update in each adjacent leaf, which schedules a tick, which updates the leaf's distance, which causes shape updates in its neighbors, and so on. For a large tree, this cascades into tens of thousands of block updates, most of which are redundant.
+ * Instead, this finds every leaf which could depend on one of the removed logs, computes the new distance of all of them at once with a multi-source breadth first search, and then sets each changed leaf once, without shape updates between leaves. Only blocks outside the affected leaves receive shape updates.
+ * <p>
+ * Any ticks that were already scheduled on the affected leaves (i.e. from removing the logs) will find their distance already correct, and do nothing.
+ */
+public final class LeavesDecaySolver
+{
+    /**
+     * Above this many positions, we give up and let leaves decay normally via scheduled ticks.
+     */
+    private static final int MAX_VOLUME = 1 << 20;
+
+    /**
+     * Updates all leaves that may have depended on any of the logs in {@code removedLogs}, which must have already been removed.
+     */
+    public static void solve(ServerLevel level, Collection<BlockPos> removedLogs)
+    {
+        if (removedLogs.isEmpty())
+        {
+            return;
+        }
+
+        // Leaves can only depend on a removed log if they are within their maximum decay distance of it
+        // So, the search is bounded by the box around all removed logs, expanded by the largest decay distance of any adjacent leaves
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        int range = 0;
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (BlockPos log : removedLogs)
+        {
+            for (Direction direction : Helpers.DIRECTIONS)
+            {
+                cursor.setWithOffset(log, direction);
+                if (level.getBlockState(cursor).getBlock() instanceof TFCLeavesBlock leaves)
+                {
+                    range = Math.max(range, leaves.getMaxDecayDistance());
+                }
+            }
+            minX = Math.min(minX, log.getX());
+            minY = Math.min(minY, log.getY());
+            minZ = Math.min(minZ, log.getZ());
+            maxX = Math.max(maxX, log.getX());
+            maxY = Math.max(maxY, log.getY());
+            maxZ = Math.max(maxZ, log.getZ());
+        }
+
+        if (range == 0)
+        {
+            return; // No adjacent leaves
+        }
+
+        final Region region = new Region(minX - range, minY - range, minZ - range, maxX - minX + 1 + 2 * range, maxY - minY + 1 + 2 * range, maxZ - minZ + 1 + 2 * range);
+        if ((long) region.sizeX * region.sizeY * region.sizeZ > MAX_VOLUME)
+        {
+            return;
+        }
+
+        final Solver solver = new Solver(level, region, range);
+        for (BlockPos log : removedLogs)
+        {
+            for (Direction direction : Helpers.DIRECTIONS)
+            {
+                solver.addLeaves(cursor.setWithOffset(log, direction), 1);
+            }
+        }
+        solver.flood();
+        solver.solve();
+        solver.apply(level.getRandom());
+    }
+
+    /**
+     * A box of positions, packed into array indices.
+     */
+    record Region(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ)
+    {
+        int volume()
+        {
+            return sizeX * sizeY * sizeZ;
+        }
+
+        /**
+         * @return The index of the position, or {@code -1} if it is outside the region.
+         */
+        int index(int x, int y, int z)
+        {
+            x -= minX;
+            y -= minY;
+            z -= minZ;
+            if (x < 0 || y < 0 || z < 0 || x >= sizeX || y >= sizeY || z >= sizeZ)
+            {
+                return -1;
+            }
+            return (y * sizeZ + z) * sizeX + x;
+        }
+
+        BlockPos.MutableBlockPos pos(int index, BlockPos.MutableBlockPos cursor)
+        {
+            final int x = index % sizeX;
+            final int z = (index / sizeX) % sizeZ;
+            final int y = index / (sizeX * sizeZ);
+            return cursor.set(minX + x, minY + y, minZ + z);
+        }
+    }
+
+    static final class Solver
+    {
+        private final ServerLevel level;
+        private final Region region;
+        private final int range;
+
+        private final BlockState[] states; // The original state of each affected leaf, or null if the position is not affected
+        private final byte[] depths; // The search depth at which each leaf was found, from the nearest removed log
+        private final byte[] distances; // The distance of each leaf, from the nearest log
+        private final IntArrayList leaves;
+
+        private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        private final BlockPos.MutableBlockPos neighborCursor = new BlockPos.MutableBlockPos();
+
+        Solver(ServerLevel level, Region region, int range)
+        {
+            this.level = level;
+            this.region = region;
+            this.range = range;
+
+            this.states = new BlockState[region.volume()];
+            this.depths = new byte[region.volume()];
+            this.distances = new byte[region.volume()];
+            this.leaves = new IntArrayList();
+
+            Arrays.fill(distances, (byte) (range + 1));
+        }
+
+        void addLeaves(BlockPos pos, int depth)
+        {
+            final int index = region.index(pos.getX(), pos.getY(), pos.getZ());
+            if (index != -1 && states[index] == null)
+            {
+                final BlockState state = level.getBlockState(pos);
+                if (state.getBlock() instanceof TFCLeavesBlock)
+                {
+                    states[index] = state;
+                    depths[index] = (byte) depth;
+                    leaves.add(index);
+                }
+            }
+        }
+
+        /**
+         * Finds all leaves connected to the removed logs, which are within their maximum decay distance of one.
+         * Leaves on the edge of this search, or next to a remaining log, are given an initial distance from those neighbors, which are unaffected by the removed logs.
+         */
+        void flood()
+        {
+            for (int i = 0; i < leaves.size(); i++)
+            {
+                final int index = leaves.getInt(i);
+                final BlockState state = states[index];
+                final TFCLeavesBlock block = (TFCLeavesBlock) state.getBlock();
+                final int depth = depths[index];
+
+                region.pos(index, cursor);
+                int distance = distances[index];
+                for (Direction direction : Helpers.DIRECTIONS)
+                {
+                    neighborCursor.setWithOffset(cursor, direction);
+
+                    final int neighborIndex = region.index(neighborCursor.getX(), neighborCursor.getY(), neighborCursor.getZ());
+                    if (neighborIndex != -1 && states[neighborIndex] != null)
+                    {
+                        continue; // Already found, and will be solved along with this leaf
+                    }
+
+                    final BlockState neighborState = level.getBlockState(neighborCursor);
+                    if (neighborState.getBlock() == block && depth < block.getMaxDecayDistance() && neighborIndex != -1)
+                    {
+                        addLeaves(neighborCursor, depth + 1);
+                    }
+                    else
+                    {
+                        distance = Math.min(distance, block.getDistance(neighborState) + 1);
+                    }
+                }
+                distances[index] = (byte) distance;
+            }
+        }
+
+        /**
+         * Propagates distances between the affected leaves, in order of increasing distance, so each leaf is finalized the first time it is reached.
+         */
+        void solve()
+        {
+            final IntArrayList[] queues = new IntArrayList[range + 1];
+            for (int distance = 1; distance <= range; distance++)
+            {
+                queues[distance] = new IntArrayList();
+            }
+            for (int i = 0; i < leaves.size(); i++)
+            {
+                final int index = leaves.getInt(i);
+                if (distances[index] <= range)
+                {
+                    queues[distances[index]].add(index);
+                }
+            }
+
+            for (int distance = 1; distance < range; distance++)
+            {
+                final IntArrayList queue = queues[distance];
+                for (int i = 0; i < queue.size(); i++)
+                {
+                    final int index = queue.getInt(i);
+                    if (distances[index] != distance)
+                    {
+                        continue; // Already reached at a shorter distance
+                    }
+
+                    final Block block = states[index].getBlock();
+                    region.pos(index, cursor);
+                    for (Direction direction : Helpers.DIRECTIONS)
+                    {
+                        final int neighborIndex = region.index(cursor.getX() + direction.getStepX(), cursor.getY() + direction.getStepY(), cursor.getZ() + direction.getStepZ());
+                        if (neighborIndex != -1 && states[neighborIndex] != null && states[neighborIndex].getBlock() == block && distances[neighborIndex] > distance + 1)
+                        {
+                            distances[neighborIndex] = (byte) (distance + 1);
+                            queues[distance + 1].add(neighborIndex);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Sets every changed leaf, without any shape updates between the affected leaves, as they are already consistent with each other. Then, updates any other blocks next to a changed leaf.
+         */
+        void apply(RandomSource random)
+        {
+            final IntArrayList changed = new IntArrayList();
+            final BlockState[] changedStates = new BlockState[leaves.size()];
+            for (int i = 0; i < leaves.size(); i++)
+            {
+                final int index = leaves.getInt(i);
+                final BlockState state = states[index];
+                final TFCLeavesBlock block = (TFCLeavesBlock) state.getBlock();
+
+                @Nullable final BlockState newState = block.setDistance(state, level, region.pos(index, cursor).immutable(), random, distances[index], Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+                if (newState != null)
+                {
+                    changedStates[changed.size()] = newState;
+                    changed.add(index);
+                }
+            }
+
+            for (int i = 0; i < changed.size(); i++)
+            {
+                final int index = changed.getInt(i);
+                final BlockState newState = changedStates[i];
+
+                final BlockPos pos = region.pos(index, cursor).immutable();
+                level.blockUpdated(pos, states[index].getBlock());
+                for (Direction direction : Helpers.DIRECTIONS)
+                {
+                    final BlockPos neighborPos = pos.relative(direction);
+                    final int neighborIndex = region.index(neighborPos.getX(), neighborPos.getY(), neighborPos.getZ());
+                    if (neighborIndex == -1 || states[neighborIndex] == null)
+                    {
+                        level.neighborShapeChanged(direction.getOpposite(), newState, neighborPos, pos, Block.UPDATE_ALL, 512);
+                    }
+                }
+            }
+        }
+    }
+}
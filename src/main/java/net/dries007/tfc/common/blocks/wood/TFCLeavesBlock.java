@@ -205,33 +205,49 @@ public class TFCLeavesBlock extends Block implements ILeavesBlock, IForgeBlockEx
     @SuppressWarnings("deprecation")
     public void tick(BlockState state, ServerLevel level, BlockPos pos, RandomSource rand)
     {
-        final int oldDistance = state.getValue(getDistanceProperty());
-        int distance = updateDistance(level, pos);
+        setDistance(state, level, pos, rand, updateDistance(level, pos), Block.UPDATE_ALL);
+    }
+
+    /**
+     * Sets the leaves at {@code pos} to the given distance from the nearest log, decaying them if they are too far away.
+     *
+     * @return The new state at {@code pos}, or {@code null} if it was unchanged.
+     */
+    @Nullable
+    public BlockState setDistance(BlockState state, ServerLevel level, BlockPos pos, RandomSource rand, int distance, int flags)
+    {
+        final BlockState newState;
         if (distance > maxDecayDistance)
         {
             if (!state.getValue(PERSISTENT))
             {
                 if (!TFCConfig.SERVER.enableLeavesDecaySlowly.get())
                 {
-                    level.removeBlock(pos, false);
+                    Helpers.removeBlock(level, pos, flags);
                     if (rand.nextFloat() < 0.01f) createDestructionEffects(state, level, pos, rand, false);
                     doParticles(level, pos.getX() + rand.nextFloat(), pos.getY() + rand.nextFloat(), pos.getZ() + rand.nextFloat(), 1);
+                    return level.getBlockState(pos);
                 }
-                else
-                {
-                    // max + 1 means it must decay next random tick
-                    level.setBlockAndUpdate(pos, state.setValue(getDistanceProperty(), maxDecayDistance + 1));
-                }
+
+                // max + 1 means it must decay next random tick
+                newState = state.setValue(getDistanceProperty(), maxDecayDistance + 1);
             }
             else
             {
-                level.setBlock(pos, state.setValue(getDistanceProperty(), maxDecayDistance), 3);
+                newState = state.setValue(getDistanceProperty(), maxDecayDistance);
             }
         }
-        else if (distance != oldDistance)
+        else
         {
-            level.setBlock(pos, state.setValue(getDistanceProperty(), distance), 3);
+            newState = state.setValue(getDistanceProperty(), distance);
         }
+
+        if (newState == state)
+        {
+            return null;
+        }
+        level.setBlock(pos, newState, flags);
+        return newState;
     }
 
     public void createDestructionEffects(BlockState state, ServerLevel level, BlockPos pos, RandomSource random, boolean replaceOnlyAir)
@@ -341,6 +357,11 @@ public class TFCLeavesBlock extends Block implements ILeavesBlock, IForgeBlockEx
         return TFCBlockStateProperties.DISTANCE_9;
     }
 
+    public int getMaxDecayDistance()
+    {
+        return maxDecayDistance;
+    }
+
     private int updateDistance(LevelAccessor level, BlockPos pos)
     {
         int distance = 1 + maxDecayDistance;
@@ -357,7 +378,10 @@ public class TFCLeavesBlock extends Block implements ILeavesBlock, IForgeBlockEx
         return distance;
     }
 
-    private int getDistance(BlockState neighbor)
+    /**
+     * @return The distance to a log via {@code neighbor}, as seen by this leaf block. Other kinds of leaves never provide a distance.
+     */
+    public int getDistance(BlockState neighbor)
     {
         if (Helpers.isBlock(neighbor.getBlock(), BlockTags.LOGS))
         {
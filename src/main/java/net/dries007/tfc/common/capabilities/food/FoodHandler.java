@@ -6,9 +6,11 @@
 
 package net.dries007.tfc.common.capabilities.food;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
@@ -48,24 +50,42 @@ public class FoodHandler implements ICapabilitySerializable<CompoundTag>, IFood
     // Stacks created at certain times during loading, we infer to be non-decaying ones.
     private static final AtomicBoolean NON_DECAYING = new AtomicBoolean(true);
 
+    // Incremented to invalidate the cached decay of every food handler, when the config, which decay modifiers depend on, changes
+    private static final AtomicInteger CACHE_GENERATION = new AtomicInteger();
+
     public static void setNonDecaying(boolean value)
     {
         FoodHandler.NON_DECAYING.set(value);
     }
 
+    /**
+     * Invalidates the cached decay date modifier and rotten date of all food. Called when the server config is loaded or reloaded.
+     */
+    public static void invalidateCachedDecay()
+    {
+        CACHE_GENERATION.incrementAndGet();
+    }
+
     protected final List<FoodTrait> foodTraits;
     private final LazyOptional<IFood> capability;
     protected FoodData data;
     protected long creationDate;
     protected boolean isNonDecaying; // This is intentionally not serialized, as we don't want it to preserve over `ItemStack.copy()` operations
 
+    // Cached, as rotten dates are queried very frequently, by tooltips, stacking, and inventory sorting. Invalidated by any change to the traits, food data, or config
+    private int cacheGeneration;
+    private float cachedDecayDateModifier;
+    private long cachedRottenDate, cachedRottenDateCreationDate;
+    private boolean hasCachedRottenDate;
+
     public FoodHandler(FoodData data)
     {
-        this.foodTraits = new ArrayList<>(2);
+        this.foodTraits = new TraitList();
         this.data = data;
         this.isNonDecaying = FoodHandler.NON_DECAYING.get();
         this.capability = LazyOptional.of(() -> this);
         this.creationDate = UNKNOWN_CREATION_DATE;
+        this.cacheGeneration = -1;
     }
 
     @Override
@@ -75,24 +95,7 @@ public class FoodHandler implements ICapabilitySerializable<CompoundTag>, IFood
         {
             return UNKNOWN_CREATION_DATE;
         }
-        if (creationDate == UNKNOWN_CREATION_DATE)
-        {
-            this.creationDate = FoodCapability.getRoundedCreationDate();
-        }
-        if (creationDate == NEVER_DECAY_CREATION_DATE)
-        {
-            return NEVER_DECAY_CREATION_DATE;
-        }
-        final long rottenDate = calculateRottenDate(creationDate);
-        if (rottenDate == NEVER_DECAY_DATE)
-        {
-            this.creationDate = NEVER_DECAY_CREATION_DATE;
-        }
-        if (rottenDate < Calendars.get().getTicks())
-        {
-            this.creationDate = ROTTEN_DATE;
-        }
-        return creationDate;
+        return getCreationDate(Calendars.get().getTicks());
     }
 
     @Override
@@ -108,7 +111,8 @@ public class FoodHandler implements ICapabilitySerializable<CompoundTag>, IFood
         {
             return NEVER_DECAY_DATE;
         }
-        final long creationDate = getCreationDate();
+        final long currentTick = Calendars.get().getTicks();
+        final long creationDate = getCreationDate(currentTick);
         if (creationDate == ROTTEN_DATE)
         {
             return ROTTEN_DATE;
@@ -118,7 +122,7 @@ public class FoodHandler implements ICapabilitySerializable<CompoundTag>, IFood
             return NEVER_DECAY_CREATION_DATE;
         }
         final long rottenDate = calculateRottenDate(creationDate);
-        if (rottenDate < Calendars.get().getTicks())
+        if (rottenDate < currentTick)
         {
             return ROTTEN_DATE;
         }
@@ -140,14 +144,8 @@ public class FoodHandler implements ICapabilitySerializable<CompoundTag>, IFood
     @Override
     public float getDecayDateModifier()
     {
-        // Decay modifiers are higher = shorter
-        float mod = data.decayModifier() * Helpers.getValueOrDefault(TFCConfig.SERVER.foodDecayModifier).floatValue();
-        for (FoodTrait trait : foodTraits)
-        {
-            mod *= trait.getDecayModifier();
-        }
-        // The modifier returned is used to calculate time, so higher = longer
-        return mod == 0 ? Float.POSITIVE_INFINITY : 1 / mod;
+        validateCache();
+        return cachedDecayDateModifier;
     }
 
     @Override
@@ -200,6 +198,7 @@ public class FoodHandler implements ICapabilitySerializable<CompoundTag>, IFood
         if (isDynamic())
         {
             data = FoodData.read(nbt.getCompound("foodData"));
+            invalidateCache();
         }
         ListTag traitList = nbt.getList("traits", Tag.TAG_STRING);
         for (int i = 0; i < traitList.size(); i++)
@@ -221,14 +220,122 @@ public class FoodHandler implements ICapabilitySerializable<CompoundTag>, IFood
         return false;
     }
 
+    /**
+     * Invalidates the cached decay date modifier and rotten date. Must be called by subclasses if they modify {@link #data}.
+     */
+    protected void invalidateCache()
+    {
+        cacheGeneration = -1;
+    }
+
+    private long getCreationDate(long currentTick)
+    {
+        if (creationDate == UNKNOWN_CREATION_DATE)
+        {
+            this.creationDate = FoodCapability.getRoundedCreationDate();
+        }
+        if (creationDate == NEVER_DECAY_CREATION_DATE)
+        {
+            return NEVER_DECAY_CREATION_DATE;
+        }
+        final long rottenDate = calculateRottenDate(creationDate);
+        if (rottenDate == NEVER_DECAY_DATE)
+        {
+            this.creationDate = NEVER_DECAY_CREATION_DATE;
+        }
+        if (rottenDate < currentTick)
+        {
+            this.creationDate = ROTTEN_DATE;
+        }
+        return creationDate;
+    }
+
     private long calculateRottenDate(long creationDateIn)
     {
-        float decayMod = getDecayDateModifier();
-        if (decayMod == Float.POSITIVE_INFINITY)
+        validateCache();
+        if (!hasCachedRottenDate || creationDateIn != cachedRottenDateCreationDate)
         {
-            return NEVER_DECAY_DATE;
+            final float decayMod = cachedDecayDateModifier;
+            hasCachedRottenDate = true;
+            cachedRottenDateCreationDate = creationDateIn;
+            cachedRottenDate = decayMod == Float.POSITIVE_INFINITY ? NEVER_DECAY_DATE : creationDateIn + (long) (decayMod * DEFAULT_DECAY_TICKS);
+        }
+        return cachedRottenDate;
+    }
+
+    private void validateCache()
+    {
+        final int generation = CACHE_GENERATION.get();
+        if (cacheGeneration != generation)
+        {
+            // Decay modifiers are higher = shorter
+            float mod = data.decayModifier() * Helpers.getValueOrDefault(TFCConfig.SERVER.foodDecayModifier).floatValue();
+            for (FoodTrait trait : foodTraits)
+            {
+                mod *= trait.getDecayModifier();
+            }
+            // The modifier returned is used to calculate time, so higher = longer
+            cachedDecayDateModifier = mod == 0 ? Float.POSITIVE_INFINITY : 1 / mod;
+            hasCachedRottenDate = false;
+            cacheGeneration = generation;
+        }
+    }
+
+    /**
+     * The traits of a food, which are kept sorted by id as they are added, so that two stacks with the same traits serialize, and thus stack, identically, regardless of the order traits were applied in.
+     * Any modification invalidates the cached decay of this food.
+     */
+    private final class TraitList extends AbstractList<FoodTrait>
+    {
+        private final List<FoodTrait> traits = new ArrayList<>(2);
+
+        @Override
+        public FoodTrait get(int index)
+        {
+            return traits.get(index);
+        }
+
+        @Override
+        public int size()
+        {
+            return traits.size();
+        }
+
+        @Override
+        public boolean add(FoodTrait trait)
+        {
+            final String id = String.valueOf(FoodTrait.getId(trait));
+            int index = 0;
+            while (index < traits.size() && String.valueOf(FoodTrait.getId(traits.get(index))).compareTo(id) <= 0)
+            {
+                index++;
+            }
+            add(index, trait);
+            return true;
+        }
+
+        @Override
+        public void add(int index, FoodTrait trait)
+        {
+            traits.add(index, trait);
+            modCount++;
+            invalidateCache();
+        }
+
+        @Override
+        public FoodTrait set(int index, FoodTrait trait)
+        {
+            invalidateCache();
+            return traits.set(index, trait);
+        }
+
+        @Override
+        public FoodTrait remove(int index)
+        {
+            modCount++;
+            invalidateCache();
+            return traits.remove(index);
         }
-        return creationDateIn + (long) (decayMod * DEFAULT_DECAY_TICKS);
     }
 
     /**
@@ -249,6 +356,7 @@ public class FoodHandler implements ICapabilitySerializable<CompoundTag>, IFood
         {
             this.data = data;
             this.isReal = true;
+            invalidateCache();
         }
 
         @Override
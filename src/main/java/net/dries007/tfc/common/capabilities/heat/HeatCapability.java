@@ -185,7 +185,17 @@ public final class HeatCapability
      */
     public static void addTemp(IHeat instance, float target, float modifier)
     {
-        float temp = instance.getTemperature() + (TFCConfig.SERVER.itemCoolingModifier.get().floatValue() - 1 + modifier * TFCConfig.SERVER.itemHeatingModifier.get().floatValue()) / instance.getHeatCapacity();
+        addTemp(instance, target, modifier, 1);
+    }
+
+    /**
+     * Increases the heat on an IItemHeat instance, by {@code ticks} ticks worth of heating at once. This is equivalent to calling {@link #addTemp(IHeat, float, float)} once per tick, assuming the target and modifier are constant in between, as the passive cooling since the last update is already accounted for by {@link IHeat#getTemperature()}.
+     *
+     * @param ticks the number of ticks since this instance was last heated.
+     */
+    public static void addTemp(IHeat instance, float target, float modifier, int ticks)
+    {
+        float temp = instance.getTemperature() + ticks * (TFCConfig.SERVER.itemCoolingModifier.get().floatValue() - 1 + modifier * TFCConfig.SERVER.itemHeatingModifier.get().floatValue()) / instance.getHeatCapacity();
         if (temp > target)
         {
             temp = target;
@@ -263,6 +273,26 @@ public final class HeatCapability
         }
     }
 
+    /**
+     * A version of {@link #provideHeatTo(Level, BlockPos, float)} for devices which provide heat every tick. The block entity at {@code pos} is cached between calls until it is removed, and if there is none, it is only looked up again when {@code lookup} is {@code true}.
+     *
+     * @param cached The block entity returned by the previous call.
+     * @return The block entity to pass as {@code cached} to the next call.
+     */
+    @Nullable
+    public static BlockEntity provideHeatTo(Level level, BlockPos pos, float temperature, @Nullable BlockEntity cached, boolean lookup)
+    {
+        if (cached == null || cached.isRemoved())
+        {
+            cached = lookup ? level.getBlockEntity(pos) : null;
+        }
+        if (cached != null && temperature > 0)
+        {
+            cached.getCapability(HeatCapability.BLOCK_CAPABILITY).ifPresent(cap -> cap.setTemperatureIfWarmer(temperature));
+        }
+        return cached;
+    }
+
     public record Remainder(int burnTicks, float burnTemperature, long ticks) {}
 
     public static class Packet extends DataManagerSyncPacket<HeatDefinition> {}
@@ -0,0 +1,119 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.capabilities.heat;
+
+import java.util.Arrays;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.config.TFCConfig;
+
+/**
+ * Caches the resolved {@link IHeat} of each slot of a device that heats items, such as a forge or a crucible, so it does not need to be queried from each stack every tick.
+ * Entries are keyed by the identity of the stack in each slot, so any change to the slot is picked up without needing to be invalidated.
+ * <p>
+ * Devices only heat items every {@link #interval()} ticks, using the closed form {@link HeatCapability#addTemp(IHeat, float, float, int)} to account for the ticks in between. The first update of a new stack only accounts for a single tick.
+ * Once items have reached the device's temperature, each update only needs to refresh their timestamp, as {@link IHeat} cools passively from when it was last set, so a longer interval directly reduces the work done at a steady state.
+ */
+public final class SlotHeatCache
+{
+    /**
+     * @return The number of ticks between each time devices heat their items.
+     */
+    public static int interval()
+    {
+        return TFCConfig.SERVER.deviceItemHeatingInterval.get();
+    }
+
+    /**
+     * @return {@code true} if the device at {@code pos} should heat its items this tick. Devices are offset by their position, so they don't all update on the same tick.
+     */
+    public static boolean isHeatingTick(Level level, BlockPos pos)
+    {
+        final int interval = interval();
+        return interval <= 1 || Math.floorMod(level.getGameTime() + pos.hashCode(), interval) == 0;
+    }
+
+    private ItemStack[] stacks;
+    private @Nullable IHeat[] heats;
+    private long[] lastHeatedTicks;
+
+    public SlotHeatCache(int size)
+    {
+        this.stacks = new ItemStack[size];
+        this.heats = new IHeat[size];
+        this.lastHeatedTicks = new long[size];
+    }
+
+    /**
+     * @return The heat capability of {@code stack}, which is in the slot {@code index}, or {@code null} if it has none.
+     */
+    @Nullable
+    public IHeat get(int index, ItemStack stack, long gameTime)
+    {
+        if (index >= stacks.length)
+        {
+            final int size = Math.max(index + 1, stacks.length * 2);
+            stacks = Arrays.copyOf(stacks, size);
+            heats = Arrays.copyOf(heats, size);
+            lastHeatedTicks = Arrays.copyOf(lastHeatedTicks, size);
+        }
+        if (stacks[index] != stack)
+        {
+            stacks[index] = stack;
+            heats[index] = stack.isEmpty() ? null : HeatCapability.get(stack);
+            lastHeatedTicks[index] = gameTime - 1;
+        }
+        return heats[index];
+    }
+
+    /**
+     * For devices which store their items in a list, rather than fixed slots. Removes the entry for {@code index}, and shifts every later entry down by one, to follow the stacks after it in the list.
+     */
+    public void remove(int index)
+    {
+        if (index < stacks.length)
+        {
+            final int last = stacks.length - 1;
+            System.arraycopy(stacks, index + 1, stacks, index, last - index);
+            System.arraycopy(heats, index + 1, heats, index, last - index);
+            System.arraycopy(lastHeatedTicks, index + 1, lastHeatedTicks, index, last - index);
+            stacks[last] = null;
+            heats[last] = null;
+            lastHeatedTicks[last] = 0;
+        }
+    }
+
+    /**
+     * Heats {@code heat}, which must have been returned by {@link #get(int, ItemStack, long)} for the same slot, by the number of ticks since the slot was last heated.
+     */
+    public void heat(int index, IHeat heat, float target, float modifier, long gameTime)
+    {
+        heat(index, heat, target, modifier, gameTime, interval());
+    }
+
+    /**
+     * Heats {@code heat}, as {@link #heat(int, IHeat, float, float, long)}, but with an explicit heating interval, rather than the one in the server config.
+     */
+    public void heat(int index, IHeat heat, float target, float modifier, long gameTime, int interval)
+    {
+        final long ticks = Math.min(gameTime - lastHeatedTicks[index], interval);
+        if (ticks > 0)
+        {
+            lastHeatedTicks[index] = gameTime;
+            HeatCapability.addTemp(heat, target, modifier, (int) ticks);
+        }
+    }
+
+    public void heat(int index, IHeat heat, float target, long gameTime)
+    {
+        // Default modifier = 3 (2x normal cooling), as in HeatCapability.addTemp()
+        heat(index, heat, target, 3, gameTime);
+    }
+}
@@ -21,6 +21,7 @@ import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.network.PacketDistributor;
 
 import net.dries007.tfc.common.capabilities.food.TFCFoodData;
+import net.dries007.tfc.common.capabilities.size.InventorySizeTracker;
 import net.dries007.tfc.network.PacketHandler;
 import net.dries007.tfc.network.PlayerDataUpdatePacket;
 import net.dries007.tfc.util.calendar.Calendars;
@@ -33,6 +34,7 @@ public class PlayerData implements ICapabilitySerializable<CompoundTag>
     private final Player player;
     private final LazyOptional<PlayerData> capability;
     @Nullable private CompoundTag delayedFoodNbt;
+    @Nullable private InventorySizeTracker inventorySizeTracker;
 
     private long lastDrinkTick;
     private long intoxicationTick;
@@ -92,6 +94,19 @@ public class PlayerData implements ICapabilitySerializable<CompoundTag>
         sync();
     }
 
+    /**
+     * @return 0 (well-burdened), 1 (exhausted), 2 (overburdened, add potion effect)
+     */
+    public int countOverburdened()
+    {
+        if (inventorySizeTracker == null)
+        {
+            inventorySizeTracker = new InventorySizeTracker(player);
+            player.inventoryMenu.addSlotListener(inventorySizeTracker);
+        }
+        return inventorySizeTracker.countOverburdened();
+    }
+
     public void sync()
     {
         if (player instanceof final ServerPlayer serverPlayer)
@@ -0,0 +1,95 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.capabilities.size;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ContainerListener;
+import net.minecraft.world.item.ItemStack;
+
+import net.dries007.tfc.util.Helpers;
+
+/**
+ * Tracks the size and weight derived state of a player's inventory, which is used for overburdening.
+ * This listens to slot changes in the player's {@link Player#inventoryMenu}, so the summary is updated incrementally, one slot at a time, as opposed to querying every item's size on every check.
+ */
+public final class InventorySizeTracker implements ContainerListener
+{
+    // Incremented to mark every tracker dirty, when item sizes and weights, which overburdening depends on, are reloaded
+    private static final AtomicInteger CACHE_GENERATION = new AtomicInteger();
+
+    /**
+     * Marks the tracked state of all players as dirty. Called when item sizes are reloaded, along with tags.
+     */
+    public static void invalidateAll()
+    {
+        CACHE_GENERATION.incrementAndGet();
+    }
+
+    private final Player player;
+    private final boolean[] overburdening; // Indexed by slot index in the inventory menu
+    private int overburdeningCount;
+    private boolean dirty;
+    private int cacheGeneration;
+
+    public InventorySizeTracker(Player player)
+    {
+        this.player = player;
+        this.overburdening = new boolean[player.inventoryMenu.slots.size()];
+        this.overburdeningCount = 0;
+        this.dirty = true;
+    }
+
+    /**
+     * @see Helpers#countOverburdened(net.minecraft.world.Container)
+     */
+    public int countOverburdened()
+    {
+        if (player.containerMenu != player.inventoryMenu)
+        {
+            // Another menu is open, which modifies the inventory through its own slots. The inventory menu will only see those changes once it is closed, so count them directly.
+            return Helpers.countOverburdened(player.getInventory());
+        }
+        final int generation = CACHE_GENERATION.get();
+        if (dirty || cacheGeneration != generation)
+        {
+            dirty = false;
+            cacheGeneration = generation;
+            overburdeningCount = 0;
+            for (int i = 0; i < overburdening.length; i++)
+            {
+                overburdening[i] = false;
+                update(player.inventoryMenu, i, player.inventoryMenu.getSlot(i).getItem());
+            }
+        }
+        return Math.min(overburdeningCount, 2);
+    }
+
+    @Override
+    public void slotChanged(AbstractContainerMenu menu, int slotIndex, ItemStack stack)
+    {
+        if (!dirty && menu == player.inventoryMenu && slotIndex < overburdening.length)
+        {
+            update(menu, slotIndex, stack);
+        }
+    }
+
+    @Override
+    public void dataChanged(AbstractContainerMenu menu, int id, int value) {}
+
+    private void update(AbstractContainerMenu menu, int slotIndex, ItemStack stack)
+    {
+        // Only consider slots in the player's inventory, i.e. not the crafting grid
+        final boolean value = menu.getSlot(slotIndex).container == player.getInventory() && Helpers.isOverburdening(stack);
+        if (value != overburdening[slotIndex])
+        {
+            overburdening[slotIndex] = value;
+            overburdeningCount += value ? 1 : -1;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.commands;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+import net.dries007.tfc.util.metrics.Metric;
+import net.dries007.tfc.util.metrics.Metrics;
+
+public final class MetricsCommand
+{
+    private static final String HEADER = "tfc.commands.metrics.header";
+    private static final String RESET = "tfc.commands.metrics.reset";
+    private static final String DISABLED = "tfc.commands.metrics.disabled";
+
+    public static LiteralArgumentBuilder<CommandSourceStack> create()
+    {
+        return Commands.literal("metrics")
+            .requires(source -> source.hasPermission(2))
+            .executes(context -> printMetrics(context.getSource()))
+            .then(Commands.literal("reset")
+                .executes(context -> resetMetrics(context.getSource()))
+            );
+    }
+
+    private static int printMetrics(CommandSourceStack source)
+    {
+        if (!Metrics.isEnabled())
+        {
+            source.sendFailure(Component.translatable(DISABLED));
+            return 0;
+        }
+        final long ticks = Metrics.ticks();
+        source.sendSuccess(() -> Component.translatable(HEADER, ticks), false);
+        for (Metric metric : Metrics.all())
+        {
+            source.sendSuccess(() -> Component.literal(metric.summary(ticks)), false);
+        }
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int resetMetrics(CommandSourceStack source)
+    {
+        Metrics.reset();
+        source.sendSuccess(() -> Component.translatable(RESET), true);
+        return Command.SINGLE_SUCCESS;
+    }
+}
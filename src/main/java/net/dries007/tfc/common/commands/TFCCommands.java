@@ -34,6 +34,7 @@ public final class TFCCommands
             .then(PropickCommand.create())
             .then(ForgeCommand.create())
             .then(AddTrimCommand.create(context))
+            .then(MetricsCommand.create())
         );
 
         // For command modifications / replacements, we register directly
@@ -26,9 +26,20 @@ import net.dries007.tfc.common.entities.ai.prey.AvoidPredatorBehavior;
 import net.dries007.tfc.common.entities.ai.prey.PreyAi;
 import net.dries007.tfc.common.entities.livestock.TFCAnimal;
 import net.dries007.tfc.common.entities.prey.Prey;
+import net.dries007.tfc.config.TFCConfig;
 
 public class LivestockAi
 {
+    /**
+     * Interval, in ticks, at which livestock far from any player tick their brain. Sensors, which count down per brain tick, are slowed down by the same factor.
+     */
+    public static final int FAR_BRAIN_TICK_INTERVAL = 4;
+
+    /**
+     * Interval, in ticks, at which livestock far from any player, and not moving or breeding, tick their brain.
+     */
+    public static final int FAR_IDLE_BRAIN_TICK_INTERVAL = 10;
+
     public static final ImmutableList<SensorType<? extends Sensor<? super TFCAnimal>>> SENSOR_TYPES = ImmutableList.of(
         SensorType.NEAREST_LIVING_ENTITIES, SensorType.NEAREST_PLAYERS, SensorType.NEAREST_ITEMS,
         SensorType.NEAREST_ADULT, SensorType.HURT_BY, TFCBrain.TEMPTATION_SENSOR.get()
@@ -112,6 +123,31 @@ public class LivestockAi
         )); // do nothing for a certain period of time
     }
 
+    /**
+     * Livestock in a large pen, far away from any player, don't need to make decisions every tick. This picks how often an animal should tick its brain, based on its surroundings.
+     * Animals in any situation where a delayed reaction would be noticeable, such as swimming, fleeing, or being led, always tick every tick.
+     *
+     * @return The interval, in ticks, at which this animal should tick its brain.
+     */
+    public static int getBrainTickInterval(TFCAnimal animal)
+    {
+        final int distance = TFCConfig.SERVER.livestockAiLevelOfDetailDistance.get();
+        if (distance <= 0
+            || animal.isInWater()
+            || animal.isInLava()
+            || animal.isOnFire()
+            || animal.isLeashed()
+            || animal.isVehicle()
+            || animal.isPassenger()
+            || animal.getBrain().hasMemoryValue(MemoryModuleType.IS_PANICKING)
+            || animal.getBrain().isActive(Activity.AVOID)
+            || animal.level().hasNearbyAlivePlayer(animal.getX(), animal.getY(), animal.getZ(), distance))
+        {
+            return 1;
+        }
+        return animal.getNavigation().isDone() && !animal.getBrain().hasMemoryValue(MemoryModuleType.BREED_TARGET) ? FAR_IDLE_BRAIN_TICK_INTERVAL : FAR_BRAIN_TICK_INTERVAL;
+    }
+
     /**
      * This is what lets you switch activities. It should be in reverse order of the importance of the activity.
      */
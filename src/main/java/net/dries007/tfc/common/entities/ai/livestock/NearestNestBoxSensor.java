@@ -6,35 +6,29 @@
 
 package net.dries007.tfc.common.entities.ai.livestock;
 
+import java.util.HashSet;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
 import net.minecraft.world.entity.ai.sensing.Sensor;
-import net.minecraft.world.entity.ai.village.poi.PoiManager;
 import net.minecraft.world.level.pathfinder.Path;
 
-import it.unimi.dsi.fastutil.longs.Long2LongMap;
-import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongList;
 
 import net.dries007.tfc.common.entities.ai.TFCBrain;
 import net.dries007.tfc.common.entities.livestock.OviparousAnimal;
 
 /**
- * Reimplements {@link net.minecraft.world.entity.ai.sensing.NearestBedSensor}
+ * Reimplements {@link net.minecraft.world.entity.ai.sensing.NearestBedSensor}, using the {@link NestBoxIndex} to find nearby nest boxes with free slots, and share path results with nearby birds.
  */
 public class NearestNestBoxSensor extends Sensor<OviparousAnimal>
 {
     private static final int CACHE_TIMEOUT = 40;
     private static final int BATCH_SIZE = 5;
-
-    private int triedCount;
-    private long lastUpdate;
-    private final Long2LongMap batchCache = new Long2LongOpenHashMap(); // position to time
+    private static final int SEARCH_RADIUS = 48;
 
     @Override
     protected void doTick(ServerLevel level, OviparousAnimal animal)
@@ -42,35 +36,48 @@ public class NearestNestBoxSensor extends Sensor<OviparousAnimal>
         // we only need to do this if we are gonna make an egg and not sitting already
         if (animal.isReadyForAnimalProduct() && !animal.isPassenger())
         {
-            triedCount = 0;
-            lastUpdate = level.getGameTime() + level.getRandom().nextInt(20);
-            PoiManager manager = level.getPoiManager();
-            Predicate<BlockPos> predicate = pos -> {
-                final long packed = pos.asLong();
-                if (batchCache.containsKey(packed))
+            final NestBoxIndex index = NestBoxIndex.get(level);
+            if (index == null)
+            {
+                return;
+            }
+
+            final BlockPos origin = animal.blockPosition();
+            final long time = level.getGameTime();
+            final LongList nestBoxes = index.findNearestFree(origin, SEARCH_RADIUS);
+            final Set<BlockPos> batch = new HashSet<>();
+            for (int i = 0; i < nestBoxes.size() && batch.size() < BATCH_SIZE; i++)
+            {
+                final long nestBox = nestBoxes.getLong(i);
+                if (index.isReachable(origin, nestBox, time))
                 {
-                    return false;
+                    // Another bird nearby already found a path here, so skip pathfinding
+                    animal.getBrain().setMemory(TFCBrain.NEST_BOX_MEMORY.get(), BlockPos.of(nestBox));
+                    return;
                 }
-                else if (++triedCount >= BATCH_SIZE)
+                if (!index.isUnreachable(origin, nestBox, time))
                 {
-                    return false;
+                    batch.add(BlockPos.of(nestBox));
+                }
+            }
+
+            if (!batch.isEmpty())
+            {
+                final long expiry = time + CACHE_TIMEOUT + level.getRandom().nextInt(20);
+                final Path path = animal.getNavigation().createPath(batch, TFCBrain.NEST_BOX_POI.get().validRange());
+                if (path != null && path.canReach())
+                {
+                    final BlockPos target = path.getTarget();
+                    index.setReachable(origin, target.asLong(), true, time, expiry);
+                    animal.getBrain().setMemory(TFCBrain.NEST_BOX_MEMORY.get(), target);
                 }
                 else
                 {
-                    batchCache.putIfAbsent(packed, lastUpdate + CACHE_TIMEOUT);
-                    return true;
+                    for (BlockPos nestBox : batch)
+                    {
+                        index.setReachable(origin, nestBox.asLong(), false, time, expiry);
+                    }
                 }
-            };
-            Stream<BlockPos> found = manager.findAll(p -> p.value() == TFCBrain.NEST_BOX_POI.get(), predicate, animal.blockPosition(), 48, PoiManager.Occupancy.ANY);
-            Path path = animal.getNavigation().createPath(found, TFCBrain.NEST_BOX_POI.get().validRange());
-            if (path != null && path.canReach())
-            {
-                BlockPos target = path.getTarget();
-                manager.getType(target).ifPresent(poi -> animal.getBrain().setMemory(TFCBrain.NEST_BOX_MEMORY.get(), target));
-            }
-            else if (triedCount < BATCH_SIZE)
-            {
-                batchCache.long2LongEntrySet().removeIf(set -> set.getLongValue() < lastUpdate);
             }
         }
     }
@@ -0,0 +1,148 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.entities.ai.livestock;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.util.tracker.WorldTracker;
+import net.dries007.tfc.util.tracker.WorldTrackerCapability;
+
+/**
+ * A per-level index of all loaded nest boxes, and how many free slots each one has, on server.
+ * Nest boxes are bucketed by chunk, so finding nearby nest boxes only visits the chunks in range, as opposed to streaming every POI in range and checking each one.
+ * <p>
+ * This also caches the results of recent path attempts to nest boxes, keyed by the section the path started from, so nearby birds can share them instead of each pathfinding to the same nest boxes.
+ */
+public class NestBoxIndex
+{
+    @Nullable
+    public static NestBoxIndex get(Level level)
+    {
+        return level.getCapability(WorldTrackerCapability.CAPABILITY).map(WorldTracker::getNestBoxIndex).orElse(null);
+    }
+
+    /**
+     * Above this many cached path results, expired ones are removed.
+     */
+    private static final int MAX_PATH_CACHE_SIZE = 1024;
+
+    private final Long2ObjectMap<Long2IntMap> nestBoxesByChunk; // Chunk pos -> (nest box pos -> free slots)
+    private final Object2LongMap<PathKey> reachableUntil;
+    private final Object2LongMap<PathKey> unreachableUntil;
+
+    public NestBoxIndex()
+    {
+        this.nestBoxesByChunk = new Long2ObjectOpenHashMap<>();
+        this.reachableUntil = new Object2LongOpenHashMap<>();
+        this.unreachableUntil = new Object2LongOpenHashMap<>();
+    }
+
+    /**
+     * Adds, or updates, a nest box with the given number of free slots.
+     */
+    public void update(BlockPos pos, int freeSlots)
+    {
+        nestBoxesByChunk.computeIfAbsent(ChunkPos.asLong(pos), key -> new Long2IntOpenHashMap()).put(pos.asLong(), freeSlots);
+    }
+
+    public void remove(BlockPos pos)
+    {
+        final long chunk = ChunkPos.asLong(pos);
+        final Long2IntMap nestBoxes = nestBoxesByChunk.get(chunk);
+        if (nestBoxes != null)
+        {
+            nestBoxes.remove(pos.asLong());
+            if (nestBoxes.isEmpty())
+            {
+                nestBoxesByChunk.remove(chunk);
+            }
+        }
+    }
+
+    /**
+     * @return All nest boxes with at least one free slot, within {@code radius} of {@code origin}, ordered from nearest to furthest.
+     */
+    public LongList findNearestFree(BlockPos origin, int radius)
+    {
+        final LongArrayList found = new LongArrayList();
+        final long maxDistSqr = (long) radius * radius;
+        final int minChunkX = SectionPos.blockToSectionCoord(origin.getX() - radius), maxChunkX = SectionPos.blockToSectionCoord(origin.getX() + radius);
+        final int minChunkZ = SectionPos.blockToSectionCoord(origin.getZ() - radius), maxChunkZ = SectionPos.blockToSectionCoord(origin.getZ() + radius);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+        {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++)
+            {
+                final Long2IntMap nestBoxes = nestBoxesByChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+                if (nestBoxes != null)
+                {
+                    for (Long2IntMap.Entry entry : nestBoxes.long2IntEntrySet())
+                    {
+                        if (entry.getIntValue() > 0 && distSqr(origin, entry.getLongKey()) <= maxDistSqr)
+                        {
+                            found.add(entry.getLongKey());
+                        }
+                    }
+                }
+            }
+        }
+        found.unstableSort((left, right) -> Long.compare(distSqr(origin, left), distSqr(origin, right)));
+        return found;
+    }
+
+    /**
+     * @return {@code true} if a path from the section containing {@code origin} to {@code nestBox} was recently found to be reachable.
+     */
+    public boolean isReachable(BlockPos origin, long nestBox, long time)
+    {
+        return reachableUntil.getLong(new PathKey(SectionPos.asLong(origin), nestBox)) > time;
+    }
+
+    /**
+     * @return {@code true} if a path from the section containing {@code origin} to {@code nestBox} was recently found to be unreachable.
+     */
+    public boolean isUnreachable(BlockPos origin, long nestBox, long time)
+    {
+        return unreachableUntil.getLong(new PathKey(SectionPos.asLong(origin), nestBox)) > time;
+    }
+
+    /**
+     * Records the result of a path attempt from {@code origin} to {@code nestBox}, which will be shared with any other path attempts from the same section until {@code expiry}.
+     */
+    public void setReachable(BlockPos origin, long nestBox, boolean reachable, long time, long expiry)
+    {
+        final PathKey key = new PathKey(SectionPos.asLong(origin), nestBox);
+        final Object2LongMap<PathKey> cache = reachable ? reachableUntil : unreachableUntil;
+        if (cache.size() >= MAX_PATH_CACHE_SIZE)
+        {
+            cache.object2LongEntrySet().removeIf(entry -> entry.getLongValue() <= time);
+        }
+        cache.put(key, expiry);
+        (reachable ? unreachableUntil : reachableUntil).removeLong(key);
+    }
+
+    private static long distSqr(BlockPos origin, long pos)
+    {
+        final long dx = BlockPos.getX(pos) - origin.getX();
+        final long dy = BlockPos.getY(pos) - origin.getY();
+        final long dz = BlockPos.getZ(pos) - origin.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    record PathKey(long originSection, long nestBox) {}
+}
@@ -43,6 +43,7 @@ import net.dries007.tfc.common.entities.ai.livestock.LivestockAi;
 import net.dries007.tfc.client.TFCSounds;
 import net.dries007.tfc.common.entities.ai.prey.PreyAi;
 import net.dries007.tfc.config.animals.AnimalConfig;
+import net.dries007.tfc.mixin.accessor.BrainAccessor;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
 
@@ -63,6 +64,7 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
     private Age lastAge = Age.CHILD;
     private long lastFDecay; //Last time(in days) this entity's familiarity had decayed
     private long matingTime; //The last time(in ticks) this male tried fertilizing females
+    private int brainTickInterval = 1; // How often this animal ticks its brain, updated periodically based on the distance to players
     private final Supplier<? extends SoundEvent> ambient;
     private final Supplier<? extends SoundEvent> hurt;
     private final Supplier<? extends SoundEvent> death;
@@ -102,6 +104,10 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
     {
         final boolean hurt = super.hurt(src, amount);
         if (this.level().isClientSide) return hurt;
+        if (hurt)
+        {
+            brainTickInterval = 1; // React immediately
+        }
         if (hurt && src.getEntity() instanceof LivingEntity living)
         {
             PreyAi.wasHurtBy(this, living);
@@ -120,7 +126,22 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
     protected void customServerAiStep()
     {
         super.customServerAiStep();
-        tickBrain();
+
+        // Offset by id, so a pen of animals doesn't all re-evaluate, or think, on the same tick
+        final int tick = tickCount + getId();
+        if (tick % 20 == 0)
+        {
+            brainTickInterval = LivestockAi.getBrainTickInterval(this);
+        }
+        if (tick % brainTickInterval == 0)
+        {
+            tickBrain();
+        }
+        else
+        {
+            // Memories expire after a number of ticks, not brain ticks, so they still need to count down when the brain doesn't tick
+            ((BrainAccessor) getBrain()).invoke$forgetOutdatedMemories();
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -249,7 +270,8 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
     public void tick()
     {
         super.tick();
-        if (level().getGameTime() % 20 == 0)
+        // Animal data is all measured in calendar days, so animals that are thinking less often can update it less often too
+        if (level().getGameTime() % (brainTickInterval == 1 ? 20 : 100) == 0)
         {
             tickAnimalData();
         }
@@ -111,6 +111,20 @@ public class TFCFallingBlockEntity extends FallingBlockEntity
         return 0;
     }
 
+    /**
+     * Can a falling block be placed at {@code posAt}, replacing the existing block, once it has finished falling.
+     *
+     * @param hitBlockState       {@code level.getBlockState(posAt)}
+     * @param toughnessBlockState The state used to check if the block below could be fallen through, as the falling block can only be placed if it could not fall further.
+     */
+    public static boolean canPlaceAt(Level level, BlockState hitBlockState, BlockPos posAt, BlockState fallingBlockState, BlockState toughnessBlockState)
+    {
+        final BlockPos below = posAt.below();
+        return hitBlockState.canBeReplaced(new DirectionalPlaceContext(level, posAt, Direction.DOWN, ItemStack.EMPTY, Direction.UP))
+            && fallingBlockState.canSurvive(level, posAt)
+            && !canFallThrough(level, below, Direction.DOWN, toughnessBlockState);
+    }
+
     private final boolean dontSetBlock;
     private boolean failedBreakCheck;
 
@@ -252,10 +266,7 @@ public class TFCFallingBlockEntity extends FallingBlockEntity
 
     private boolean canPlaceAt(BlockState hitBlockState, BlockPos posAt, BlockState fallingBlockState, BlockState toughnessBlockState)
     {
-        final BlockPos below = posAt.below();
-        return hitBlockState.canBeReplaced(new DirectionalPlaceContext(this.level(), posAt, Direction.DOWN, ItemStack.EMPTY, Direction.UP))
-            && fallingBlockState.canSurvive(this.level(), posAt)
-            && !canFallThrough(this.level(), below, Direction.DOWN, toughnessBlockState);
+        return canPlaceAt(level(), hitBlockState, posAt, fallingBlockState, toughnessBlockState);
     }
 
     private void placeAsBlockOrDropAsItem(BlockState hitBlockState, BlockPos posAt, BlockState fallingBlockState)
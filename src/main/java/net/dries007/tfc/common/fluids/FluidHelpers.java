@@ -7,8 +7,6 @@
 package net.dries007.tfc.common.fluids;
 
 import java.util.function.Consumer;
-import it.unimi.dsi.fastutil.objects.Object2IntArrayMap;
-import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.ParticleTypes;
@@ -45,7 +43,6 @@ import net.minecraftforge.fluids.capability.IFluidHandlerItem;
 import net.minecraftforge.items.ItemHandlerHelper;
 import org.jetbrains.annotations.Nullable;
 
-import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blocks.TFCBlocks;
 import net.dries007.tfc.common.blocks.rock.AqueductBlock;
 import net.dries007.tfc.common.capabilities.Capabilities;
@@ -575,7 +572,7 @@ public final class FluidHelpers
 
     public static boolean canMixFluids(Fluid left, Fluid right)
     {
-        return canMixFluids(left) && canMixFluids(right);
+        return FluidMixingTable.canMix(left, right);
     }
 
     /**
@@ -584,13 +581,14 @@ public final class FluidHelpers
      * - only works with fluids which are an instance of {@link FlowingFluid} (should be all fluids)
      * - assumes that fluid source / flowing handling works like vanilla
      * - fluids must be added to the {@link net.dries007.tfc.common.TFCTags.Fluids#MIXABLE} tag
+     * This is read from a {@link FluidMixingTable}, which is rebuilt when tags are reloaded.
      *
      * @param fluid A fluid
      * @return true if the fluid should use fluid mixing mechanics
      */
     public static boolean canMixFluids(Fluid fluid)
     {
-        return fluid instanceof FlowingFluid && Helpers.isFluid(fluid, TFCTags.Fluids.MIXABLE);
+        return FluidMixingTable.canMix(fluid);
     }
 
     /**
@@ -612,7 +610,9 @@ public final class FluidHelpers
         FlowingFluid maxAdjacentFluid = self;
 
         int adjacentSourceBlocks = 0; // How many adjacent source blocks that could convert this into a source block
-        Object2IntArrayMap<FlowingFluid> adjacentSourceBlocksByFluid = new Object2IntArrayMap<>(2);
+
+        // The fluid of each adjacent source block, in the order they were found. There are at most four, so these are kept in locals, rather than a map, to avoid allocating on every fluid tick
+        FlowingFluid source0 = null, source1 = null, source2 = null, source3 = null;
 
         for (Direction direction : Direction.Plane.HORIZONTAL)
         {
@@ -626,8 +626,14 @@ public final class FluidHelpers
             {
                 if (offsetFluid.isSource() && ForgeEventFactory.canCreateFluidSource(level, offsetPos, offsetState, canConvertToSource))
                 {
-                    adjacentSourceBlocks++;
-                    adjacentSourceBlocksByFluid.mergeInt((FlowingFluid) offsetFluid.getType(), 1, Integer::sum);
+                    final FlowingFluid sourceFluid = (FlowingFluid) offsetFluid.getType();
+                    switch (adjacentSourceBlocks++)
+                    {
+                        case 0 -> source0 = sourceFluid;
+                        case 1 -> source1 = sourceFluid;
+                        case 2 -> source2 = sourceFluid;
+                        default -> source3 = sourceFluid;
+                    }
                 }
                 // Also record the maximum adjacent fluid, breaking ties with the current fluid
                 if (offsetFluid.getAmount() > maxAdjacentFluidAmount || (offsetFluid.getAmount() == maxAdjacentFluidAmount && self.isSame(offsetFluid.getType())))
@@ -645,7 +651,7 @@ public final class FluidHelpers
             BlockState belowState = level.getBlockState(pos.below());
             FluidState belowFluid = belowState.getFluidState();
 
-            if (belowFluid.isSource() && belowFluid.getType() instanceof FlowingFluid belowFlowingFluid && adjacentSourceBlocksByFluid.getInt(belowFluid.getType()) >= 2)
+            if (belowFluid.isSource() && belowFluid.getType() instanceof FlowingFluid belowFlowingFluid && countAdjacentSources(belowFlowingFluid, source0, source1, source2, source3) >= 2)
             {
                 // Try and create a source block of the same type as the below
                 return FlowingFluidExtension.getSourceOrDefault(level, pos, belowFlowingFluid, false);
@@ -655,12 +661,20 @@ public final class FluidHelpers
                 // This could potentially form fluid blocks from multiple blocks. It can only override the current source if there's three adjacent equal sources, or form a source if this is the same as three adjacent sources
                 FlowingFluid maximumAdjacentSourceFluid = self;
                 int maximumAdjacentSourceBlocks = 0;
-                for (Object2IntMap.Entry<FlowingFluid> entry : adjacentSourceBlocksByFluid.object2IntEntrySet())
+                for (int i = 0; i < adjacentSourceBlocks; i++)
                 {
-                    if (entry.getIntValue() > maximumAdjacentSourceBlocks || entry.getKey() == self)
+                    // Consider each distinct fluid once, in the order they were first found
+                    final FlowingFluid sourceFluid = i == 0 ? source0 : i == 1 ? source1 : i == 2 ? source2 : source3;
+                    if ((i > 0 && sourceFluid == source0) || (i > 1 && sourceFluid == source1) || (i > 2 && sourceFluid == source2))
                     {
-                        maximumAdjacentSourceBlocks = entry.getIntValue();
-                        maximumAdjacentSourceFluid = entry.getKey();
+                        continue;
+                    }
+
+                    final int count = countAdjacentSources(sourceFluid, source0, source1, source2, source3);
+                    if (count > maximumAdjacentSourceBlocks || sourceFluid == self)
+                    {
+                        maximumAdjacentSourceBlocks = count;
+                        maximumAdjacentSourceFluid = sourceFluid;
                     }
                 }
 
@@ -696,6 +710,11 @@ public final class FluidHelpers
         }
     }
 
+    private static int countAdjacentSources(Fluid fluid, @Nullable FlowingFluid source0, @Nullable FlowingFluid source1, @Nullable FlowingFluid source2, @Nullable FlowingFluid source3)
+    {
+        return (source0 == fluid ? 1 : 0) + (source1 == fluid ? 1 : 0) + (source2 == fluid ? 1 : 0) + (source3 == fluid ? 1 : 0);
+    }
+
     public static void setSourceBlock(Level level, BlockPos pos, Fluid fluid)
     {
         if (fluid instanceof FlowingFluid flow)
@@ -0,0 +1,72 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.fluids;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.level.material.FlowingFluid;
+import net.minecraft.world.level.material.Fluid;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.TFCTags;
+import net.dries007.tfc.util.Helpers;
+
+/**
+ * A table of which fluids use fluid mixing mechanics, indexed by fluid registry id, which is rebuilt from the {@link TFCTags.Fluids#MIXABLE} tag whenever tags are reloaded.
+ * This is queried by every fluid tick of a {@link FlowingFluid}, so this replaces a tag query with an array read.
+ * <p>
+ * Whether two fluids may mix only depends on each fluid individually, so this stores a single flag per fluid, rather than one per pair of fluids. Before tags are first loaded, or for any fluid not in the table, the tag is queried directly.
+ */
+public final class FluidMixingTable
+{
+    private static volatile boolean @Nullable [] mixable = null; // Indexed by registry id, read from render threads
+
+    /**
+     * Rebuilds the table from the current tags. Called on tag reload.
+     */
+    @SuppressWarnings("deprecation")
+    public static void update()
+    {
+        final boolean[] table = new boolean[BuiltInRegistries.FLUID.size()];
+        for (Fluid fluid : BuiltInRegistries.FLUID)
+        {
+            final int id = BuiltInRegistries.FLUID.getId(fluid);
+            if (id >= 0 && id < table.length)
+            {
+                table[id] = computeCanMix(fluid);
+            }
+        }
+        mixable = table;
+    }
+
+    /**
+     * @see FluidHelpers#canMixFluids(Fluid)
+     */
+    @SuppressWarnings("deprecation")
+    public static boolean canMix(Fluid fluid)
+    {
+        final boolean[] table = mixable;
+        if (table != null)
+        {
+            final int id = BuiltInRegistries.FLUID.getId(fluid);
+            if (id >= 0 && id < table.length)
+            {
+                return table[id];
+            }
+        }
+        return computeCanMix(fluid);
+    }
+
+    public static boolean canMix(Fluid left, Fluid right)
+    {
+        return canMix(left) && canMix(right);
+    }
+
+    private static boolean computeCanMix(Fluid fluid)
+    {
+        return fluid instanceof FlowingFluid && Helpers.isFluid(fluid, TFCTags.Fluids.MIXABLE);
+    }
+}
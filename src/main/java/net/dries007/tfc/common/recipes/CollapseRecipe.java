@@ -8,6 +8,10 @@ package net.dries007.tfc.common.recipes;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceLocation;
@@ -15,6 +19,7 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
@@ -35,7 +40,11 @@ import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.Support;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
 import net.dries007.tfc.util.events.CollapseEvent;
+import net.dries007.tfc.util.tracker.BlockSnapshot;
 import net.dries007.tfc.util.tracker.Collapse;
+import net.dries007.tfc.util.tracker.CollapsePlan;
+import net.dries007.tfc.util.tracker.FallingBlockSimulation;
+import net.dries007.tfc.util.tracker.WorldTracker;
 import net.dries007.tfc.util.tracker.WorldTrackerCapability;
 
 /**
@@ -92,10 +101,7 @@ public class CollapseRecipe extends SimpleBlockRecipe
                             fakeCollapseStarts.add(checking.immutable());
                             continue;
                         }
-                        if (startCollapse(level, checking))
-                        {
-                            level.playSound(null, pos, TFCSounds.ROCK_SLIDE_LONG.get(), SoundSource.BLOCKS, 1.0f, 1.0f);
-                        }
+                        startCollapse(level, checking, pos);
                         return true; // Don't need to check other blocks, regardless of if we managed to collapse any blocks.
                     }
                 }
@@ -145,15 +151,26 @@ public class CollapseRecipe extends SimpleBlockRecipe
      * - at this point, any supports are ignored completely.
      * - many more blocks can collapse, even if they can't trigger or start collapses.
      * - this is much more in-depth than previous implementations, and searches aggressively for next-tick collapse blocks
+     * <p>
+     * The search is done on a worker thread, from a {@link BlockSnapshot} of the area, and the resulting {@link CollapsePlan} is applied on the main thread by the {@link WorldTracker} once it is complete, via {@link #applyCollapse(Level, CollapsePlan)}.
      *
-     * @return {@code true} if any blocks started collapsing.
+     * @return {@code true} if a collapse was planned. When planned on a worker thread, whether any blocks actually collapse is not known until the plan completes, so this is {@code true} once the plan is scheduled.
      */
+    @SuppressWarnings("UnusedReturnValue")
     public static boolean startCollapse(Level level, BlockPos centerPos)
+    {
+        return startCollapse(level, centerPos, centerPos);
+    }
+
+    /**
+     * @param triggerPos The position which triggered the collapse, i.e. the block being mined, where the collapse sound is played from.
+     * @return {@code true} if a collapse was planned, see {@link #startCollapse(Level, BlockPos)}.
+     */
+    public static boolean startCollapse(Level level, BlockPos centerPos, BlockPos triggerPos)
     {
         final RandomSource random = level.getRandom();
         final int radius = TFCConfig.SERVER.collapseMinRadius.get() + random.nextInt(TFCConfig.SERVER.collapseRadiusVariance.get());
-        final int radiusSquared = radius * radius;
-        final List<BlockPos> secondaryPositions = new ArrayList<>();
+        final double propagateChance = TFCConfig.SERVER.collapsePropagateChance.get();
 
         TerraFirmaCraft.LOGGER.info("Collapse started at pos {}, with the block column {} -> (start: {}) -> {}",
             centerPos,
@@ -161,42 +178,95 @@ public class CollapseRecipe extends SimpleBlockRecipe
             level.getBlockState(centerPos),
             level.getBlockState(centerPos.below()));
 
+        final WorldTracker tracker = level.getCapability(WorldTrackerCapability.CAPABILITY).resolve().orElse(null);
+        if (tracker != null)
+        {
+            final BlockSnapshot snapshot = BlockSnapshot.capture(level, centerPos.offset(-radius, -4, -radius), centerPos.offset(radius, 4, radius));
+            final RandomSource planRandom = RandomSource.create(random.nextLong()); // Level random is not thread safe
+            tracker.addPlannedCollapse(CompletableFuture.supplyAsync(() -> planCollapse(snapshot, triggerPos, centerPos, radius, propagateChance, planRandom), Util.backgroundExecutor()));
+            return true;
+        }
+
+        final CollapsePlan plan = planCollapse(level, triggerPos, centerPos, radius, propagateChance, random);
+        applyCollapse(level, plan);
+        return !plan.columns().isEmpty();
+    }
+
+    /**
+     * Finds the positions which may start collapsing, from a given location. This only reads from {@code level}, and so may be used with a {@link BlockSnapshot}, off the main thread.
+     */
+    public static CollapsePlan planCollapse(BlockGetter level, BlockPos triggerPos, BlockPos centerPos, int radius, double propagateChance, RandomSource random)
+    {
+        final int radiusSquared = radius * radius;
+        final List<LongList> columns = new ArrayList<>();
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
         // Initially only scan on the bottom layer, and advance upwards
-        for (BlockPos pos : BlockPos.betweenClosed(centerPos.offset(-radius, -4, -radius), centerPos.offset(radius, -4, radius)))
+        for (int x = -radius; x <= radius; x++)
         {
-            boolean foundEmpty = false; // If we've found a space to collapse into
-            for (int y = 0; y <= 8; y++)
+            for (int z = -radius; z <= radius; z++)
             {
-                BlockPos posAt = pos.above(y);
-                BlockState stateAt = level.getBlockState(posAt);
-                if (foundEmpty && Helpers.isBlock(stateAt, TFCTags.Blocks.CAN_COLLAPSE))
+                LongList column = null;
+                boolean foundEmpty = false; // If we've found a space to collapse into
+                for (int y = -4; y <= 4; y++)
                 {
-                    // Check for a possible collapse
-                    if (posAt.distSqr(centerPos) < radiusSquared && random.nextFloat() < TFCConfig.SERVER.collapsePropagateChance.get())
+                    cursor.setWithOffset(centerPos, x, y, z);
+                    final BlockState stateAt = level.getBlockState(cursor);
+                    if (foundEmpty && Helpers.isBlock(stateAt, TFCTags.Blocks.CAN_COLLAPSE) && cursor.distSqr(centerPos) < radiusSquared && random.nextFloat() < propagateChance)
                     {
-                        if (collapseBlock(level, posAt, stateAt, true)) // Trigger destruction, since our previous check only was 'non-full-blocks'
+                        // A possible collapse. Any further positions in this column are only used if this one fails to collapse
+                        if (column == null)
                         {
-                            // This column has started to collapse. Mark the next block above as unstable for the "follow up"
-                            secondaryPositions.add(posAt.above());
-                            break;
+                            column = new LongArrayList();
+                            columns.add(column);
                         }
+                        column.add(cursor.asLong());
                     }
+                    // Any non-solid block below might be a candidate for a collapse, since we just break stuff like slabs and stairs that would otherwise count as a solid surface above.
+                    foundEmpty = !stateAt.isCollisionShapeFullBlock(level, cursor);
+                }
+            }
+        }
+        return new CollapsePlan(triggerPos, centerPos, radiusSquared, columns);
+    }
+
+    /**
+     * Collapses the first position of each column of {@code plan} which still can collapse, since the world may have changed since it was planned.
+     *
+     * @return {@code true} if any blocks started collapsing.
+     */
+    public static boolean applyCollapse(Level level, CollapsePlan plan)
+    {
+        final List<BlockPos> secondaryPositions = new ArrayList<>();
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (LongList column : plan.columns())
+        {
+            for (int i = 0; i < column.size(); i++)
+            {
+                cursor.set(column.getLong(i));
+                final BlockState stateAt = level.getBlockState(cursor);
+                final BlockPos posBelow = cursor.below();
+                if (Helpers.isBlock(stateAt, TFCTags.Blocks.CAN_COLLAPSE) && !level.getBlockState(posBelow).isCollisionShapeFullBlock(level, posBelow)
+                    && collapseBlock(level, cursor.immutable(), stateAt, true)) // Trigger destruction, since our previous check only was 'non-full-blocks'
+                {
+                    // This column has started to collapse. Mark the next block above as unstable for the "follow up"
+                    secondaryPositions.add(cursor.above());
+                    break;
                 }
-                // Any non-solid block below might be a candidate for a collapse, since we just break stuff like slabs and stairs that would otherwise count as a solid surface above.
-                foundEmpty = !stateAt.isCollisionShapeFullBlock(level, posAt);
             }
         }
 
         if (!secondaryPositions.isEmpty())
         {
-            level.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.addCollapseData(new Collapse(centerPos, secondaryPositions, radiusSquared)));
+            level.playSound(null, plan.triggerPos(), TFCSounds.ROCK_SLIDE_LONG.get(), SoundSource.BLOCKS, 1.0f, 1.0f);
+            level.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.addCollapseData(new Collapse(plan.centerPos(), secondaryPositions, plan.radiusSquared())));
         }
 
         return !secondaryPositions.isEmpty();
     }
 
     /**
-     * Responsible for actually collapsing a singular block. Queries the collapse recipe, replaces the block, and spawns the falling block entity
+     * Responsible for actually collapsing a singular block. Queries the collapse recipe, replaces the block, and starts it falling, see {@link FallingBlockSimulation#fall(Level, BlockPos, BlockState, float, int)}
      *
      * @return true if the collapse actually occurred
      */
@@ -220,8 +290,8 @@ public class CollapseRecipe extends SimpleBlockRecipe
                 level.destroyBlock(posBelow, true);
             }
             final BlockState collapseState = recipe.getBlockCraftingResult(wrapper);
-            level.setBlockAndUpdate(pos, collapseState); // Required as the falling block entity will replace the block in it's first tick
-            level.addFreshEntity(new TFCFallingBlockEntity(level, pos.getX() + 0.5, pos.getY(), pos.getZ() + 0.5, collapseState, 2.0f, 20));
+            level.setBlockAndUpdate(pos, collapseState); // Required as the falling block entity, or simulation, will replace the block when it starts falling
+            FallingBlockSimulation.fall(level, pos, collapseState, 2.0f, 20);
             return true;
         }
         return false;
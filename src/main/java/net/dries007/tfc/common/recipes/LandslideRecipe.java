@@ -29,6 +29,7 @@ import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.Support;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.tracker.FallingBlockSimulation;
 
 /**
  * This handles all logic for land slides (sideways gravity affected blocks)
@@ -61,6 +62,18 @@ public class LandslideRecipe extends SimpleBlockRecipe
      */
     @SuppressWarnings("UnusedReturnValue")
     public static boolean tryLandslide(Level level, BlockPos pos, BlockState state)
+    {
+        return tryLandslide(level, pos, state, TFCConfig.SERVER.enableBatchedBlockPhysics.get());
+    }
+
+    /**
+     * Tries to cause a landslide from a given block
+     *
+     * @param state   {@code level.getBlockState(pos)}
+     * @param batched If the falling block should be resolved by {@link FallingBlockSimulation}, where possible, rather than by a falling block entity.
+     * @return true if a landslide actually occurred
+     */
+    public static boolean tryLandslide(Level level, BlockPos pos, BlockState state, boolean batched)
     {
         if (!level.isClientSide() && TFCConfig.SERVER.enableBlockLandslides.get())
         {
@@ -91,7 +104,7 @@ public class LandslideRecipe extends SimpleBlockRecipe
                         level.setBlock(fallPos, fallingState, Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
                     }
                     level.playSound(null, pos, TFCSounds.DIRT_SLIDE_SHORT.get(), SoundSource.BLOCKS, 0.4f, 1.0f);
-                    level.addFreshEntity(new TFCFallingBlockEntity(level, fallPos.getX() + 0.5, fallPos.getY(), fallPos.getZ() + 0.5, fallingState, 0.8f, 10));
+                    FallingBlockSimulation.fall(level, fallPos, fallingState, 0.8f, 10, batched);
                 }
                 return true;
             }
@@ -35,6 +35,10 @@ public class ServerConfig
     public final ForgeConfigSpec.BooleanValue enableLightning;
     public final ForgeConfigSpec.BooleanValue enableLightningStrippingLogs;
     public final ForgeConfigSpec.IntValue oceanWindScale;
+    public final ForgeConfigSpec.BooleanValue enableMetrics;
+    public final ForgeConfigSpec.IntValue metricsSampleInterval;
+    public final ForgeConfigSpec.IntValue metricsLogInterval;
+    public final ForgeConfigSpec.BooleanValue enableParallelFeaturePlacement;
 
     // Blocks - Farmland
     public final ForgeConfigSpec.BooleanValue enableFarmlandCreation;
@@ -48,6 +52,8 @@ public class ServerConfig
     public final ForgeConfigSpec.BooleanValue enableSnowSlowEntities;
     public final ForgeConfigSpec.IntValue snowAccumulateChance;
     public final ForgeConfigSpec.IntValue snowMeltChance;
+    public final ForgeConfigSpec.BooleanValue enableSnowAndIceCatchUp;
+    public final ForgeConfigSpec.IntValue environmentTickInterval;
     // Blocks - Leaves
     public final ForgeConfigSpec.DoubleValue leavesMovementModifier;
     // Blocks - Plants
@@ -192,6 +198,7 @@ public class ServerConfig
     public final ForgeConfigSpec.DoubleValue deviceHeatingModifier;
     public final ForgeConfigSpec.DoubleValue itemHeatingModifier;
     public final ForgeConfigSpec.DoubleValue itemCoolingModifier;
+    public final ForgeConfigSpec.IntValue deviceItemHeatingInterval;
     public final ForgeConfigSpec.IntValue ticksBeforeItemCool;
     public final ForgeConfigSpec.BooleanValue coolHotItemEntities;
     // Mechanics - Collapses
@@ -205,6 +212,7 @@ public class ServerConfig
     public final ForgeConfigSpec.DoubleValue collapseExplosionPropagateChance;
     public final ForgeConfigSpec.IntValue collapseMinRadius;
     public final ForgeConfigSpec.IntValue collapseRadiusVariance;
+    public final ForgeConfigSpec.BooleanValue enableBatchedBlockPhysics;
     // Mechanics - Player
     public final ForgeConfigSpec.BooleanValue enablePeacefulDifficultyPassiveRegeneration;
     public final ForgeConfigSpec.DoubleValue passiveExhaustionModifier;
@@ -244,6 +252,7 @@ public class ServerConfig
     public final ForgeConfigSpec.BooleanValue enableChickenJockies;
     public final ForgeConfigSpec.BooleanValue enableVanillaEggThrowing;
     public final ForgeConfigSpec.BooleanValue enableVanillaDrinkingMilkClearsPotionEffects;
+    public final ForgeConfigSpec.IntValue livestockAiLevelOfDetailDistance;
 
     // Animals
     public final MammalConfig pigConfig;
@@ -289,6 +298,13 @@ public class ServerConfig
         enableLightning = builder.comment("If false, vanilla lightning will not strike.").define("enableLightning", true);
         enableLightningStrippingLogs = builder.comment("If true, lightning has a chance of stripping bark off of trees.").define("enableLightningStrippingLogs", true);
         oceanWindScale = builder.comment("Every time the z coordinate reaches a multiple of this point, the wind over oceans will switch directions.").define("oceanWindScale", 5000, 128, Integer.MAX_VALUE);
+        enableMetrics = builder.comment("Enables lightweight timing of TFC's systems (such as the world tracker, calendar catch ups, crops, barrels and rotation networks), which can be viewed with /tfc metrics.").define("enableMetrics", true);
+        metricsSampleInterval = builder.comment("Only one in this many calls to each timed system is actually timed, and the total time is estimated from those. Lower = more accurate, but more overhead. 1 = Time every call.").define("metricsSampleInterval", 16, 1, 1024);
+        metricsLogInterval = builder.comment("Ticks between each time a JSON summary of TFC's metrics is written to the log. 0 = Never.").define("metricsLogInterval", 0, 0, Integer.MAX_VALUE);
+        enableParallelFeaturePlacement = builder.comment(
+            "Experimental. If true, features in the same decoration step which only modify their own sections of a chunk (currently, ore veins without indicators) are placed in parallel, when they do not share a section.",
+            "The generated world is identical either way."
+        ).define("enableParallelFeaturePlacement", false);
 
         builder.swap("blocks").push("farmland");
 
@@ -311,6 +327,14 @@ public class ServerConfig
         enableSnowSlowEntities = builder.comment("[Requires MC Restart] If snow will slow players that move on top of it similar to soul sand or honey.").define("enableSnowSlowEntities", true);
         snowAccumulateChance = builder.comment("The chance that snow will accumulate during a storm. Lower values = faster snow accumulation, but also more block updates (aka lag).").define("snowAccumulateChance", 20, 1, Integer.MAX_VALUE);
         snowMeltChance = builder.comment("The chance that snow will melt during a storm. Lower values = faster snow melting, but also more block updates (aka lag).").define("snowMeltChance", 36, 1, Integer.MAX_VALUE);
+        enableSnowAndIceCatchUp = builder.comment(
+            "If true, the snow and ice in each chunk will be updated to match the climate in a single pass, the first time the chunk is ticked in each month, i.e. when it is loaded, or when the month changes.",
+            "This means chunks which have been unloaded for a long time do not have to wait for random snow and ice ticks to catch up to the current season."
+        ).define("enableSnowAndIceCatchUp", true);
+        environmentTickInterval = builder.comment(
+            "The interval, in ticks, at which each chunk is ticked for random snow, ice, and icicle placement and melting. Higher values = less lag, but slower snow accumulation and melting between months.",
+            "Higher values are best used with enableSnowAndIceCatchUp, which makes sure snow and ice are still caught up at the start of every month."
+        ).define("environmentTickInterval", 1, 1, Integer.MAX_VALUE);
 
         builder.swap("plants");
 
@@ -542,6 +566,11 @@ public class ServerConfig
         deviceHeatingModifier = builder.comment("A multiplier for how fast devices themselves heat up. Higher = faster.").define("deviceHeatingModifier", 1, 0, Double.MAX_VALUE);
         itemHeatingModifier = builder.comment("A multiplier for how fast items heat in devices. Higher = faster.").define("itemHeatingModifier", 1, 0, Double.MAX_VALUE);
         itemCoolingModifier = builder.comment("A multiplier for how fast items cool. Higher = faster.").define("itemCoolingModifier", 0.8, 0, Double.MAX_VALUE);
+        deviceItemHeatingInterval = builder.comment(
+            "Ticks between each time devices (such as firepits, forges, crucibles and blast furnaces) update the temperature of items they are heating.",
+            "Items are heated by the same total amount regardless, but higher values do less work per tick, at the cost of items heating, and melting, in coarser steps.",
+            "1 = Every tick."
+        ).define("deviceItemHeatingInterval", 1, 1, 20);
         coolHotItemEntities = builder.comment("Should hot item entities cool off when in contact with blocks like water or snow?").define("coolHotItemEntities", true);
         ticksBeforeItemCool = builder.comment("Ticks between each time an item loses temperature when sitting on a cold block. 20 ticks = 1 second.").define("ticksBeforeItemCool", 10, 1, Integer.MAX_VALUE);
 
@@ -558,6 +587,10 @@ public class ServerConfig
         collapseExplosionPropagateChance = builder.comment("Chance for a block to fall from an explosion triggered collapse. Higher = mor likely.").define("collapseExplosionPropagateChance", 0.3, 0, 1);
         collapseMinRadius = builder.comment("Minimum radius for a collapse").define("collapseMinRadius", 3, 1, 32);
         collapseRadiusVariance = builder.comment("Variance of the radius of a collapse. Total size is in [minRadius, minRadius + radiusVariance]").define("collapseRadiusVariance", 16, 1, 32);
+        enableBatchedBlockPhysics = builder.comment(
+            "If true, blocks which fall due to landslides and collapses are simulated all at once at the end of each tick, and placed directly where they land, instead of each spawning a falling block entity.",
+            "This is much cheaper for large collapses, both on the server and in network traffic, but clients only see the fall as particles. Blocks with block entities, or special falling behavior, always use entities."
+        ).define("enableBatchedBlockPhysics", false);
 
         builder.swap("player");
 
@@ -625,6 +658,10 @@ public class ServerConfig
         enableChickenJockies = builder.comment("If true, chicken jockies can spawn").define("enableChickenJockies", false);
         enableVanillaEggThrowing = builder.comment("If true, eggs can be thrown.").define("enableVanillaEggThrowing", false);
         enableVanillaDrinkingMilkClearsPotionEffects = builder.comment("If true, drinking milk will clear potion effects and restore no nutrition, as in vanilla.").define("enableVanillaDrinkingMilkClearsPotionEffects", false);
+        livestockAiLevelOfDetailDistance = builder.comment(
+            "Livestock further than this many blocks from any player will think less often, which greatly reduces the cost of large pens of animals.",
+            "Set to 0 to disable, and have all livestock think every tick."
+        ).define("livestockAiLevelOfDetailDistance", 48, 0, 512);
 
         builder.swap("animals").push("pig");
         pigConfig = MammalConfig.build(builder, "pig", 0.35, 80, 60, true, 19, 10);
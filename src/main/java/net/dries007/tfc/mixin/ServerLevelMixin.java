@@ -6,10 +6,13 @@
 
 package net.dries007.tfc.mixin;
 
+import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.LevelChunk;
 
+import net.dries007.tfc.common.blocks.soil.HydrationCache;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.EnvironmentHelpers;
 import org.spongepowered.asm.mixin.Mixin;
@@ -36,6 +39,30 @@ public abstract class ServerLevelMixin
         return !TFCConfig.SERVER.enableVanillaWeatherEffects.get() && bound == 16 ? 1 : random.nextInt(bound);
     }
 
+    /**
+     * Invalidate cached farmland hydration when a hydrating fluid is added or removed.
+     */
+    @Inject(method = "onBlockStateChange", at = @At("HEAD"))
+    private void invalidateHydrationOnFluidChange(BlockPos pos, BlockState oldState, BlockState newState, CallbackInfo ci)
+    {
+        final ServerLevel level = (ServerLevel) (Object) this;
+
+        // World generation also calls this, from worker threads, via WorldGenRegion, and the cache is not thread safe.
+        // Those changes can be ignored, as a layer is only cached once all chunks around it are fully generated, so no cached layer can depend on a chunk which is still generating.
+        if (!level.getServer().isSameThread())
+        {
+            return;
+        }
+        if (HydrationCache.isHydrating(oldState.getFluidState()) != HydrationCache.isHydrating(newState.getFluidState()))
+        {
+            final HydrationCache cache = HydrationCache.get(level);
+            if (cache != null)
+            {
+                cache.onFluidChanged(pos);
+            }
+        }
+    }
+
     @Inject(method = "tickChunk", at = @At(value = "TAIL"))
     private void onEnvironmentTick(LevelChunk chunk, int randomTickSpeed, CallbackInfo ci)
     {
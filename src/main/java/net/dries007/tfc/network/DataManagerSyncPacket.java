@@ -6,54 +6,72 @@
 
 package net.dries007.tfc.network;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.util.DataManager;
 
+/**
+ * Syncs the contents of a {@link DataManager} to the client.
+ * <p>
+ * On the server, this writes a {@link DataManager.SyncPayload} which has been encoded once per reload, and is shared between all players.
+ * On the client, if the payload's hash matches the last one that was received, then the contents are skipped without being decoded.
+ */
 public abstract class DataManagerSyncPacket<T>
 {
-    private Map<ResourceLocation, T> elements;
+    private long hash;
+    private byte[] payload;
+    @Nullable private Map<ResourceLocation, T> elements;
 
     public DataManagerSyncPacket()
     {
-        elements = Collections.emptyMap();
+        hash = 0;
+        payload = new byte[0];
+        elements = null;
     }
 
-    public DataManagerSyncPacket<T> with(Map<ResourceLocation, T> elements)
+    public DataManagerSyncPacket<T> with(DataManager.SyncPayload payload)
     {
-        this.elements = elements;
+        this.hash = payload.hash();
+        this.payload = payload.bytes();
         return this;
     }
 
     public void encode(DataManager<T> manager, FriendlyByteBuf buffer)
     {
-        buffer.writeVarInt(elements.size());
-        for (Map.Entry<ResourceLocation, T> entry : elements.entrySet())
-        {
-            buffer.writeResourceLocation(entry.getKey());
-            manager.rawToNetwork(buffer, entry.getValue());
-        }
+        buffer.writeLong(hash);
+        buffer.writeByteArray(payload);
     }
 
     public void decode(DataManager<T> manager, FriendlyByteBuf buffer)
     {
-        this.elements = new HashMap<>();
-        final int size = buffer.readVarInt();
+        this.hash = buffer.readLong();
+        final int length = buffer.readVarInt();
+        if (manager.isSynced(hash))
+        {
+            // We already hold identical contents from a previous sync, so don't bother decoding them again
+            buffer.skipBytes(length);
+            this.elements = null;
+            return;
+        }
+
+        final FriendlyByteBuf contents = new FriendlyByteBuf(buffer.readSlice(length));
+        final int size = contents.readVarInt();
+        this.elements = new HashMap<>(size);
         for (int i = 0; i < size; i++)
         {
-            final ResourceLocation id = buffer.readResourceLocation();
-            final T element = manager.rawFromNetwork(id, buffer);
+            final ResourceLocation id = contents.readResourceLocation();
+            final T element = manager.rawFromNetwork(id, contents);
             elements.put(id, element);
         }
     }
 
     public void handle(NetworkEvent.Context context, DataManager<T> manager)
     {
-        manager.onSync(context, elements);
+        manager.onSync(context, hash, elements);
     }
 }
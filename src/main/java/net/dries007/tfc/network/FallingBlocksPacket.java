@@ -0,0 +1,116 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.network;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.BlockParticleOption;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import net.dries007.tfc.client.ClientHelpers;
+import net.dries007.tfc.util.metrics.Metrics;
+import net.dries007.tfc.util.tracker.FallingBlockSimulation;
+
+/**
+ * Displays the blocks that fell within a single chunk, which were resolved by a {@link FallingBlockSimulation} in place of falling block entities.
+ * Each fall is encoded as a packed column within the chunk, the start y, the distance fallen, and the block state id.
+ */
+public class FallingBlocksPacket
+{
+    /**
+     * The maximum number of blocks of a single fall that particles are displayed along.
+     */
+    private static final int MAX_PARTICLE_DISTANCE = 16;
+
+    private final ChunkPos chunkPos;
+    private final IntArrayList falls; // Groups of (column, start y, distance, state id)
+
+    public FallingBlocksPacket(ChunkPos chunkPos)
+    {
+        this.chunkPos = chunkPos;
+        this.falls = new IntArrayList();
+    }
+
+    FallingBlocksPacket(FriendlyByteBuf buffer)
+    {
+        this.chunkPos = buffer.readChunkPos();
+        final int size = buffer.readVarInt();
+        this.falls = new IntArrayList(size * 4);
+        for (int i = 0; i < size; i++)
+        {
+            falls.add(buffer.readUnsignedByte());
+            falls.add(buffer.readVarInt());
+            falls.add(buffer.readVarInt());
+            falls.add(buffer.readVarInt());
+        }
+    }
+
+    /**
+     * Adds a block which fell from {@code start}, which must be within this packet's chunk.
+     */
+    public void add(BlockPos start, int distance, BlockState state)
+    {
+        falls.add((start.getX() & 15) | ((start.getZ() & 15) << 4));
+        falls.add(start.getY());
+        falls.add(distance);
+        falls.add(Block.getId(state));
+    }
+
+    public boolean isEmpty()
+    {
+        return falls.isEmpty();
+    }
+
+    void encode(FriendlyByteBuf buffer)
+    {
+        final int startIndex = buffer.writerIndex();
+        buffer.writeChunkPos(chunkPos);
+        buffer.writeVarInt(falls.size() / 4);
+        for (int i = 0; i < falls.size(); i += 4)
+        {
+            buffer.writeByte(falls.getInt(i));
+            buffer.writeVarInt(falls.getInt(i + 1));
+            buffer.writeVarInt(falls.getInt(i + 2));
+            buffer.writeVarInt(falls.getInt(i + 3));
+        }
+        Metrics.FALLING_BLOCKS_PACKET_BYTES.add(buffer.writerIndex() - startIndex);
+    }
+
+    void handle()
+    {
+        final Level level = ClientHelpers.getLevel();
+        if (level != null)
+        {
+            final RandomSource random = level.getRandom();
+            for (int i = 0; i < falls.size(); i += 4)
+            {
+                final int column = falls.getInt(i);
+                final int x = chunkPos.getMinBlockX() + (column & 15), z = chunkPos.getMinBlockZ() + (column >> 4);
+                final int startY = falls.getInt(i + 1), distance = falls.getInt(i + 2);
+                final BlockState state = Block.stateById(falls.getInt(i + 3));
+                final BlockParticleOption particle = new BlockParticleOption(ParticleTypes.FALLING_DUST, state);
+
+                // Break apart at the start, trail dust along the fall, and break apart again where it landed
+                level.addDestroyBlockEffect(new BlockPos(x, startY, z), state);
+                for (int dy = 0; dy < Math.min(distance, MAX_PARTICLE_DISTANCE); dy++)
+                {
+                    level.addParticle(particle, x + random.nextDouble(), startY - dy + random.nextDouble(), z + random.nextDouble(), 0, 0, 0);
+                }
+                if (distance > 0)
+                {
+                    level.addDestroyBlockEffect(new BlockPos(x, startY - distance, z), state);
+                }
+            }
+        }
+    }
+}
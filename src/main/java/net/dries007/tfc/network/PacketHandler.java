@@ -61,6 +61,7 @@ public final class PacketHandler
         register(EffectExpirePacket.class, EffectExpirePacket::encode, EffectExpirePacket::new, EffectExpirePacket::handle);
         register(UpdateClimateModelPacket.class, UpdateClimateModelPacket::encode, UpdateClimateModelPacket::decode, UpdateClimateModelPacket::handle);
         register(RainfallUpdatePacket.class, RainfallUpdatePacket::encode, RainfallUpdatePacket::new, RainfallUpdatePacket::handle);
+        register(FallingBlocksPacket.class, FallingBlocksPacket::encode, FallingBlocksPacket::new, FallingBlocksPacket::handle);
 
         registerDataManager(Metal.Packet.class, Metal.MANAGER);
         registerDataManager(KnappingType.Packet.class, KnappingType.MANAGER);
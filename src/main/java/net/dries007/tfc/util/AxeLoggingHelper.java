@@ -10,6 +10,7 @@ import java.util.*;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
@@ -20,6 +21,7 @@ import net.minecraft.world.level.block.state.properties.EnumProperty;
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blocks.TFCBlockStateProperties;
 import net.dries007.tfc.common.blocks.wood.BranchDirection;
+import net.dries007.tfc.common.blocks.wood.LeavesDecaySolver;
 
 public class AxeLoggingHelper
 {
@@ -35,15 +37,23 @@ public class AxeLoggingHelper
     public static void doLogging(LevelAccessor level, BlockPos pos, Player player, ItemStack axe)
     {
         final boolean inefficient = Helpers.isItem(axe, TFCTags.Items.INEFFICIENT_LOGGING_AXES);
+        final List<BlockPos> removedLogs = new ArrayList<>();
         for (BlockPos log : findLogs(level, pos))
         {
             level.destroyBlock(log, !inefficient || level.getRandom().nextFloat() < 0.6f, player);
+            removedLogs.add(log);
             axe.hurtAndBreak(1, player, p -> p.broadcastBreakEvent(InteractionHand.MAIN_HAND));
             if (axe.isEmpty())
             {
-                return; // stop breaking if the axe is broken
+                break; // stop breaking if the axe is broken
             }
         }
+
+        // Update all the leaves of the felled tree at once, rather than letting each log removal cascade through them
+        if (level instanceof ServerLevel serverLevel)
+        {
+            LeavesDecaySolver.solve(serverLevel, removedLogs);
+        }
     }
 
     public static List<BlockPos> findLogs(LevelAccessor level, BlockPos pos)
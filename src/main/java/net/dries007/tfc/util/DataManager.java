@@ -18,12 +18,14 @@ import java.util.function.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.hash.Hashing;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.mojang.datafixers.util.Either;
 import com.mojang.logging.LogUtils;
+import io.netty.buffer.Unpooled;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.ResourceManager;
@@ -72,6 +74,9 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
     private final Map<ResourceLocation, Reference<T>> references;
     private final Object referencesLock = new Object();
 
+    @Nullable private SyncPayload syncPayload; // Server side, the encoded contents, shared by all sync packets until the next reload
+    @Nullable private volatile Long syncedHash; // Client side, the hash of the last contents received from a physical server
+
     public DataManager(ResourceLocation domain, String typeName, BiFunction<ResourceLocation, JsonObject, T> factory)
     {
         this(domain, typeName, factory, null, null, null);
@@ -139,7 +144,11 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
 
     public DataManagerSyncPacket<T> createSyncPacket()
     {
-        return createEmptyPacket().with(types);
+        if (syncPayload == null)
+        {
+            syncPayload = encodeSyncPayload();
+        }
+        return createEmptyPacket().with(syncPayload);
     }
 
     public DataManagerSyncPacket<T> createEmptyPacket()
@@ -165,6 +174,32 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
         return networkFactory.apply(id, buffer);
     }
 
+    /**
+     * @return {@code true} if the client already holds the contents of a sync with the given hash, from a physical server. This may be called off thread, during packet decoding.
+     */
+    public boolean isSynced(long hash)
+    {
+        final Long synced = syncedHash;
+        return synced != null && synced == hash;
+    }
+
+    /**
+     * Handles a sync packet, where {@code elements} is {@code null} if the contents were skipped as they were already {@link #isSynced(long) synced}.
+     */
+    public void onSync(NetworkEvent.Context context, long hash, @Nullable Map<ResourceLocation, T> elements)
+    {
+        if (elements == null)
+        {
+            LOGGER.info("Skipped {}(s) sync from physical server, as it was unchanged", typeName);
+            return;
+        }
+        onSync(context, elements);
+        if (!context.getNetworkManager().isMemoryConnection())
+        {
+            syncedHash = hash;
+        }
+    }
+
     public void onSync(NetworkEvent.Context context, Map<ResourceLocation, T> elements)
     {
         if (context.getNetworkManager().isMemoryConnection())
@@ -184,6 +219,7 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
     @Override
     protected void apply(Map<ResourceLocation, JsonElement> elements, ResourceManager resourceManagerIn, ProfilerFiller profilerIn)
     {
+        clearSyncPayload();
         types.clear();
         for (Map.Entry<ResourceLocation, JsonElement> entry : elements.entrySet())
         {
@@ -213,6 +249,43 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
         LOGGER.info("Loaded {} {}(s).", types.size(), typeName);
     }
 
+    /**
+     * Must be called whenever the contents of this manager are loaded, to discard any previously encoded sync payload or synced hash.
+     */
+    protected void clearSyncPayload()
+    {
+        syncPayload = null;
+        syncedHash = null;
+    }
+
+    /**
+     * Encodes the entire contents of this manager. Elements are written in sorted order by id, so identical contents always produce an identical payload, and hash, across reloads and server restarts.
+     */
+    private SyncPayload encodeSyncPayload()
+    {
+        final List<ResourceLocation> ids = new ArrayList<>(types.keySet());
+        ids.sort(null);
+
+        final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        try
+        {
+            buffer.writeVarInt(ids.size());
+            for (ResourceLocation id : ids)
+            {
+                buffer.writeResourceLocation(id);
+                rawToNetwork(buffer, types.get(id));
+            }
+
+            final byte[] bytes = new byte[buffer.readableBytes()];
+            buffer.readBytes(bytes);
+            return new SyncPayload(Hashing.murmur3_128().hashBytes(bytes).asLong(), bytes);
+        }
+        finally
+        {
+            buffer.release();
+        }
+    }
+
     private void updateReferences()
     {
         synchronized (referencesLock)
@@ -238,6 +311,11 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
         }
     }
 
+    /**
+     * The encoded contents of a manager, as sent in a {@link DataManagerSyncPacket}. The {@code bytes} must not be modified.
+     */
+    public record SyncPayload(long hash, byte[] bytes) {}
+
     public static class Reference<T> implements Supplier<T>
     {
         private final ResourceLocation id;
@@ -36,9 +36,13 @@ import net.dries007.tfc.common.blocks.ThinSpikeBlock;
 import net.dries007.tfc.common.blocks.plant.KrummholzBlock;
 import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.config.TFCConfig;
+import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.OverworldClimateModel;
+import net.dries007.tfc.util.metrics.Metrics;
+import net.dries007.tfc.util.tracker.WorldTracker;
 import net.dries007.tfc.util.tracker.WorldTrackerCapability;
+import net.dries007.tfc.world.chunkdata.ChunkData;
 
 /**
  * This is a helper class which handles environment effects
@@ -50,6 +54,7 @@ public final class EnvironmentHelpers
     public static final int SNOW_MELT_RANDOM_TICK_CHANCE = 75; // Snow and ice melt naturally, but snow naturally gets placed under overhangs due to smoothing
     public static final int ICE_MELT_RANDOM_TICK_CHANCE = 200; // Ice practically never should form under overhangs, so this can be very low chance
     public static final int ICICLE_MAX_LENGTH = 7;
+    public static final int CATCH_UP_CHUNKS_PER_TICK = 4; // Per level, see catchUpChunk()
 
     /**
      * Ticks a chunk for environment specific effects.
@@ -58,10 +63,26 @@ public final class EnvironmentHelpers
      * - Freezing ice if cold enough, respecting freezable plants
      * - Placing icicles while snowing under overhangs
      * - Melting ice and snow due to temperature.
+     * - Catching up snow and ice in the whole chunk, once per month, see {@link #catchUpChunk}
      */
     public static void tickChunk(ServerLevel level, LevelChunk chunk, ProfilerFiller profiler)
     {
         final ChunkPos chunkPos = chunk.getPos();
+        if (TFCConfig.SERVER.enableSnowAndIceCatchUp.get())
+        {
+            profiler.push("tfcCatchUp");
+            catchUpChunk(level, chunk);
+            profiler.pop();
+        }
+
+        // Spread chunks evenly across the interval, rather than ticking every chunk on the same tick
+        final int interval = TFCConfig.SERVER.environmentTickInterval.get();
+        if (interval > 1 && Math.floorMod(level.getGameTime() + chunkPos.x * 31L + chunkPos.z, interval) != 0)
+        {
+            return;
+        }
+
+        final long start = Metrics.CHUNK_TICK.start();
         final BlockPos lcgPos = level.getBlockRandomPos(chunkPos.getMinBlockX(), 0, chunkPos.getMinBlockZ(), 15);
         final BlockPos surfacePos = level.getHeightmapPos(Heightmap.Types.MOTION_BLOCKING, lcgPos);
         final BlockPos groundPos = surfacePos.below();
@@ -74,6 +95,46 @@ public final class EnvironmentHelpers
         profiler.popPush("tfcIcicles");
         doIcicles(level, surfacePos, temperature);
         profiler.pop();
+        Metrics.CHUNK_TICK.stop(start);
+    }
+
+    /**
+     * Updates the snow and ice in every column of a chunk to match the current climate, in a single pass, if they have not already been updated this month.
+     * This is done the first time a chunk is ticked after it is loaded, and the first time it is ticked in each new month, so that chunks which have been unloaded for a long time, or have seen a change of season, don't have to wait for random ticks in {@link #tickChunk} to converge on the expected snow and ice.
+     * <ul>
+     *     <li>Snow is placed, or raised, up to the expected height (see {@link #getExpectedSnowLayerHeight(float)}) where it is cold enough, and melted down to it where it is not, in the same way as random snow ticks would eventually.</li>
+     *     <li>Water is frozen where it is cold enough, and ice is melted where it is warm enough. Columns are visited in order, so a frozen column counts as an edge for the next, and bodies of water freeze in a single pass.</li>
+     *     <li>Icicles are only placed while it is snowing, so they are left to random ticks.</li>
+     * </ul>
+     * Only {@link #CATCH_UP_CHUNKS_PER_TICK} chunks in each level are caught up per tick, and the remaining chunks are caught up on later ticks.
+     */
+    public static void catchUpChunk(ServerLevel level, LevelChunk chunk)
+    {
+        final ChunkData data = ChunkData.getCapability(chunk).orElse(ChunkData.EMPTY);
+        final long month = Calendars.get(level).getTotalCalendarMonths();
+        if (data == ChunkData.EMPTY || data.getEnvironmentMonth() == month || !level.getCapability(WorldTrackerCapability.CAPABILITY).map(WorldTracker::tryEnvironmentCatchUp).orElse(false))
+        {
+            return;
+        }
+
+        final long start = Metrics.ENVIRONMENT_CATCH_UP.start();
+        final ChunkPos chunkPos = chunk.getPos();
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                // Same positions as random ticks, the first non-motion blocking position, and the block below it
+                final int surfaceY = chunk.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z) + 1;
+                final BlockPos surfacePos = new BlockPos(chunkPos.getMinBlockX() + x, surfaceY, chunkPos.getMinBlockZ() + z);
+                final float temperature = Climate.getTemperature(level, surfacePos);
+
+                // Ice first, so snow may settle on newly frozen water
+                catchUpIce(level, surfacePos.below(), temperature);
+                catchUpSnow(level, surfacePos, temperature);
+            }
+        }
+        data.setEnvironmentMonth(month);
+        Metrics.ENVIRONMENT_CATCH_UP.stop(start);
     }
 
     public static boolean isSnow(BlockState state)
@@ -263,6 +324,94 @@ public final class EnvironmentHelpers
         return false;
     }
 
+    /**
+     * The deterministic equivalent of {@link #doSnow}, which places or melts snow directly to the expected height, rather than by a single layer with some chance.
+     */
+    private static void catchUpSnow(Level level, BlockPos surfacePos, float temperature)
+    {
+        final int expectedLayers = Math.min((int) getExpectedSnowLayerHeight(temperature), 7);
+        if (temperature < OverworldClimateModel.SNOW_FREEZE_TEMPERATURE)
+        {
+            if (expectedLayers >= 1 && level.getBrightness(LightLayer.BLOCK, surfacePos) <= 11 && level.canSeeSky(surfacePos))
+            {
+                // As with random ticks, check three levels deep, for up to two block tall plants which can be piled
+                if (!catchUpSnowAt(level, surfacePos, expectedLayers))
+                {
+                    if (!catchUpSnowAt(level, surfacePos.below(), expectedLayers))
+                    {
+                        catchUpSnowAt(level, surfacePos.below(2), expectedLayers);
+                    }
+                }
+            }
+        }
+        else
+        {
+            removeSnowAt(level, surfacePos, temperature, expectedLayers);
+        }
+    }
+
+    /**
+     * @return {@code true} if there was snow, or a snow block or snow pile was placed, at {@code pos}.
+     */
+    private static boolean catchUpSnowAt(Level level, BlockPos pos, int expectedLayers)
+    {
+        BlockState state = level.getBlockState(pos);
+        if (SnowPileBlock.canPlaceSnowPile(level, pos, state))
+        {
+            SnowPileBlock.placeSnowPile(level, pos, state, false);
+            state = level.getBlockState(pos);
+        }
+        else if (state.getBlock() instanceof KrummholzBlock)
+        {
+            KrummholzBlock.updateFreezingInColumn(level, pos, true);
+            return false;
+        }
+        else if (state.isAir() && Blocks.SNOW.defaultBlockState().canSurvive(level, pos))
+        {
+            state = Blocks.SNOW.defaultBlockState();
+            level.setBlock(pos, state, 3);
+        }
+
+        if (isSnow(state))
+        {
+            // Raise the snow directly to the expected height
+            final BlockState newState = state.setValue(SnowLayerBlock.LAYERS, expectedLayers);
+            if (state.getValue(SnowLayerBlock.LAYERS) < expectedLayers && newState.canSurvive(level, pos))
+            {
+                level.setBlock(pos, newState, 3);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * The deterministic equivalent of {@link #doIce}, which freezes or melts ice in a column without any chance.
+     */
+    private static void catchUpIce(Level level, BlockPos groundPos, float temperature)
+    {
+        BlockState groundState = level.getBlockState(groundPos);
+        if (temperature < OverworldClimateModel.ICE_FREEZE_TEMPERATURE)
+        {
+            if (!isIce(groundState))
+            {
+                if (groundState.getFluidState().getType() != Fluids.WATER)
+                {
+                    groundPos = groundPos.below();
+                    groundState = level.getBlockState(groundPos);
+                }
+                IcePileBlock.placeIcePileOrIce(level, groundPos, groundState, false);
+            }
+        }
+        else if (temperature > OverworldClimateModel.ICE_MELT_TEMPERATURE)
+        {
+            if (groundState.getBlock() == Blocks.ICE || groundState.getBlock() == TFCBlocks.ICE_PILE.get())
+            {
+                IcePileBlock.removeIcePileOrIce(level, groundPos, groundState);
+            }
+        }
+    }
+
     /**
      * Smoothens out snow creation, so it doesn't create as uneven piles, by moving snowfall to adjacent positions where possible.
      */
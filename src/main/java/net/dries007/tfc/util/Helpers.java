@@ -557,23 +557,31 @@ public final class Helpers
         int count = 0;
         for (int i = 0; i < container.getContainerSize(); i++)
         {
-            final ItemStack stack = container.getItem(i);
-            if (!stack.isEmpty())
+            if (isOverburdening(container.getItem(i)))
             {
-                IItemSize size = ItemSizeManager.get(stack);
-                if (size.getWeight(stack) == Weight.VERY_HEAVY && size.getSize(stack) == Size.HUGE)
+                count++;
+                if (count == 2)
                 {
-                    count++;
-                    if (count == 2)
-                    {
-                        return count;
-                    }
+                    return count;
                 }
             }
         }
         return count;
     }
 
+    /**
+     * @return {@code true} if the stack is huge and very heavy, and so counts towards {@link #countOverburdened(Container)}
+     */
+    public static boolean isOverburdening(ItemStack stack)
+    {
+        if (!stack.isEmpty())
+        {
+            final IItemSize size = ItemSizeManager.get(stack);
+            return size.getWeight(stack) == Weight.VERY_HEAVY && size.getSize(stack) == Size.HUGE;
+        }
+        return false;
+    }
+
     public static MobEffectInstance getOverburdened(boolean visible)
     {
         return new MobEffectInstance(TFCEffects.OVERBURDENED.get(), 25, 0, false, visible);
@@ -74,6 +74,7 @@ public class RegisteredDataManager<T> extends DataManager<RegisteredDataManager.
     @Override
     protected void apply(Map<ResourceLocation, JsonElement> elements, ResourceManager resourceManager, ProfilerFiller profiler)
     {
+        clearSyncPayload();
         types.values().forEach(e -> e.value = null);
 
         int valid = 0;
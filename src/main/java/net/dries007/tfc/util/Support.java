@@ -6,17 +6,24 @@
 
 package net.dries007.tfc.util;
 
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Set;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.recipes.ingredients.BlockIngredient;
@@ -35,52 +42,62 @@ public final class Support
 
     /**
      * Finds all unsupported positions in a large area. It's more efficient than checking each block individually and calling {@link Support#isSupported(BlockGetter, BlockPos)}
+     * <p>
+     * Support coverage is tracked in a bitset over the area, where each support marks the rows of its supported area that lie within the area. Unsupported positions are then any positions that remain clear.
      */
-    public static Set<BlockPos> findUnsupportedPositions(BlockGetter worldIn, BlockPos from, BlockPos to)
-    {
-        Set<BlockPos> listSupported = new HashSet<>();
-        Set<BlockPos> listUnsupported = new HashSet<>();
-        int minX = Math.min(from.getX(), to.getX());
-        int maxX = Math.max(from.getX(), to.getX());
-        int minY = Math.min(from.getY(), to.getY());
-        int maxY = Math.max(from.getY(), to.getY());
-        int minZ = Math.min(from.getZ(), to.getZ());
-        int maxZ = Math.max(from.getZ(), to.getZ());
-        for (BlockPos searchingPoint : getMaximumSupportedAreaAround(new BlockPos(minX, minY, minZ), new BlockPos(maxX, maxY, maxZ)))
-        {
-            if (!listSupported.contains(searchingPoint))
-            {
-                listUnsupported.add(searchingPoint.immutable()); // Adding blocks that wasn't found supported
-            }
-            final BlockState supportState = worldIn.getBlockState(searchingPoint);
-            final Support support = get(supportState);
-            if (support != null)
+    public static Set<BlockPos> findUnsupportedPositions(BlockGetter level, BlockPos from, BlockPos to)
+    {
+        final int minX = Math.min(from.getX(), to.getX());
+        final int maxX = Math.max(from.getX(), to.getX());
+        final int minY = Math.min(from.getY(), to.getY());
+        final int maxY = Math.max(from.getY(), to.getY());
+        final int minZ = Math.min(from.getZ(), to.getZ());
+        final int maxZ = Math.max(from.getZ(), to.getZ());
+
+        final int sizeX = maxX - minX + 1, sizeZ = maxZ - minZ + 1, size = sizeX * (maxY - minY + 1) * sizeZ;
+        final BitSet supported = new BitSet(size);
+
+        forEachSupportInArea(level, minX - RANGE.horizontal(), minY - RANGE.down(), minZ - RANGE.horizontal(), maxX + RANGE.horizontal(), maxY + RANGE.up(), maxZ + RANGE.horizontal(), (support, x, y, z) -> {
+            // The supported area of this support, clamped to the area we are checking
+            final int x0 = Math.max(x - support.supportHorizontal, minX), x1 = Math.min(x + support.supportHorizontal, maxX);
+            final int y0 = Math.max(y - support.supportDown, minY), y1 = Math.min(y + support.supportUp, maxY);
+            final int z0 = Math.max(z - support.supportHorizontal, minZ), z1 = Math.min(z + support.supportHorizontal, maxZ);
+            if (x0 <= x1)
             {
-                for (BlockPos supported : support.getSupportedArea(searchingPoint))
+                for (int y2 = y0; y2 <= y1; y2++)
                 {
-                    listSupported.add(supported.immutable()); // Adding all supported blocks by this support
-                    listUnsupported.remove(supported); // Remove if this block was added earlier
+                    for (int z2 = z0; z2 <= z1; z2++)
+                    {
+                        final int row = ((y2 - minY) * sizeZ + (z2 - minZ)) * sizeX - minX;
+                        supported.set(row + x0, row + x1 + 1);
+                    }
                 }
             }
+            return false;
+        });
+
+        final Set<BlockPos> unsupported = new HashSet<>();
+        for (int index = supported.nextClearBit(0); index < size; index = supported.nextClearBit(index + 1))
+        {
+            final int x = index % sizeX, z = (index / sizeX) % sizeZ, y = index / (sizeX * sizeZ);
+            unsupported.add(new BlockPos(minX + x, minY + y, minZ + z));
         }
-        // Searching point wasn't from points between from <-> to but
-        // Time to remove the outsides that were added for convenience
-        listUnsupported.removeIf(content -> content.getX() < minX || content.getX() > maxX || content.getY() < minY || content.getY() > maxY || content.getZ() < minZ || content.getZ() > maxZ);
-        return listUnsupported;
+        return unsupported;
     }
 
-    public static boolean isSupported(BlockGetter world, BlockPos pos)
+    public static boolean isSupported(BlockGetter level, BlockPos pos)
     {
-        for (BlockPos supportPos : getMaximumSupportedAreaAround(pos, pos))
-        {
-            final BlockState supportState = world.getBlockState(supportPos);
-            final Support support = get(supportState);
-            if (support != null && support.canSupport(supportPos, pos))
+        final int x = pos.getX(), y = pos.getY(), z = pos.getZ();
+        final MutableBoolean found = new MutableBoolean(false);
+        forEachSupportInArea(level, x - RANGE.horizontal(), y - RANGE.down(), z - RANGE.horizontal(), x + RANGE.horizontal(), y + RANGE.up(), z + RANGE.horizontal(), (support, supportX, supportY, supportZ) -> {
+            if (support.canSupport(supportX - x, supportY - y, supportZ - z))
             {
+                found.setTrue();
                 return true;
             }
-        }
-        return false;
+            return false;
+        });
+        return found.booleanValue();
     }
 
     public static Iterable<BlockPos> getMaximumSupportedAreaAround(BlockPos minPoint, BlockPos maxPoint)
@@ -88,6 +105,73 @@ public final class Support
         return BlockPos.betweenClosed(minPoint.offset(-RANGE.horizontal(), -RANGE.down(), -RANGE.horizontal()), maxPoint.offset(RANGE.horizontal(), RANGE.up(), RANGE.horizontal()));
     }
 
+    /**
+     * Visits every support block within an area (inclusive). Where possible, this reads block states directly from the chunk sections, and skips any sections whose palette cannot contain a support block.
+     */
+    private static void forEachSupportInArea(BlockGetter level, int minX, int minY, int minZ, int maxX, int maxY, int maxZ, SupportVisitor visitor)
+    {
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (int chunkX = SectionPos.blockToSectionCoord(minX); chunkX <= SectionPos.blockToSectionCoord(maxX); chunkX++)
+        {
+            for (int chunkZ = SectionPos.blockToSectionCoord(minZ); chunkZ <= SectionPos.blockToSectionCoord(maxZ); chunkZ++)
+            {
+                final int x0 = Math.max(minX, SectionPos.sectionToBlockCoord(chunkX)), x1 = Math.min(maxX, SectionPos.sectionToBlockCoord(chunkX, 15));
+                final int z0 = Math.max(minZ, SectionPos.sectionToBlockCoord(chunkZ)), z1 = Math.min(maxZ, SectionPos.sectionToBlockCoord(chunkZ, 15));
+                final @Nullable ChunkAccess chunk = level instanceof LevelReader reader ? reader.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false) : null;
+                if (chunk == null)
+                {
+                    // Not a level, or the chunk isn't loaded, so query each position individually
+                    for (int y = minY; y <= maxY; y++)
+                    {
+                        for (int z = z0; z <= z1; z++)
+                        {
+                            for (int x = x0; x <= x1; x++)
+                            {
+                                final Support support = get(level.getBlockState(cursor.set(x, y, z)));
+                                if (support != null && visitor.visit(support, x, y, z))
+                                {
+                                    return;
+                                }
+                            }
+                        }
+                    }
+                    continue;
+                }
+
+                for (int sectionY = SectionPos.blockToSectionCoord(minY); sectionY <= SectionPos.blockToSectionCoord(maxY); sectionY++)
+                {
+                    final int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+                    if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount())
+                    {
+                        continue;
+                    }
+
+                    final LevelChunkSection section = chunk.getSection(sectionIndex);
+                    if (section.hasOnlyAir() || !section.maybeHas(state -> get(state) != null))
+                    {
+                        continue; // No supports can be present in this section
+                    }
+
+                    final int y0 = Math.max(minY, SectionPos.sectionToBlockCoord(sectionY)), y1 = Math.min(maxY, SectionPos.sectionToBlockCoord(sectionY, 15));
+                    for (int y = y0; y <= y1; y++)
+                    {
+                        for (int z = z0; z <= z1; z++)
+                        {
+                            for (int x = x0; x <= x1; x++)
+                            {
+                                final Support support = get(section.getBlockState(x & 15, y & 15, z & 15));
+                                if (support != null && visitor.visit(support, x, y, z))
+                                {
+                                    return;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     @Nullable
     public static Support get(BlockState state)
     {
@@ -171,8 +255,15 @@ public final class Support
 
     public boolean canSupport(BlockPos supportPos, BlockPos testPos)
     {
-        BlockPos diff = supportPos.subtract(testPos);
-        return Math.abs(diff.getX()) <= supportHorizontal && -supportDown <= diff.getY() && diff.getY() <= supportUp && Math.abs(diff.getZ()) <= supportHorizontal;
+        return canSupport(supportPos.getX() - testPos.getX(), supportPos.getY() - testPos.getY(), supportPos.getZ() - testPos.getZ());
+    }
+
+    /**
+     * @param dx The x offset from the tested position to the support position (and likewise for {@code dy} and {@code dz}).
+     */
+    public boolean canSupport(int dx, int dy, int dz)
+    {
+        return Math.abs(dx) <= supportHorizontal && -supportDown <= dy && dy <= supportUp && Math.abs(dz) <= supportHorizontal;
     }
 
     public Iterable<BlockPos> getSupportedArea(BlockPos center)
@@ -191,5 +282,14 @@ public final class Support
 
     public record SupportRange(int up, int down, int horizontal) {}
 
+    @FunctionalInterface
+    private interface SupportVisitor
+    {
+        /**
+         * @return {@code true} to stop visiting any further supports.
+         */
+        boolean visit(Support support, int x, int y, int z);
+    }
+
     public static class Packet extends DataManagerSyncPacket<Support> {}
 }
\ No newline at end of file
@@ -8,6 +8,8 @@ package net.dries007.tfc.util.calendar;
 
 import net.minecraft.world.level.block.entity.BlockEntity;
 
+import net.dries007.tfc.util.metrics.Metrics;
+
 /**
  * This is implemented on {@link BlockEntity}s that need to receive special updates when the calendar skips/jumps ahead.
  * In order to implement this, a field `lastUpdateTick` should be added and serialized. Nothing else should access this field, or the provided accessors. Doing so is almost certainly a bug, as this field just represents the last tick the block entity has been actively ticked.
@@ -33,7 +35,10 @@ public interface ICalendarTickable
             final long tickDelta = thisTick - lastTick;
             if (lastTick != Integer.MIN_VALUE && tickDelta != 1)
             {
+                final long start = Metrics.CALENDAR_CATCH_UP.start();
                 onCalendarUpdate(tickDelta - 1);
+                Metrics.CALENDAR_CATCH_UP.stop(start);
+                Metrics.CALENDAR_CATCH_UP_TICKS.record(tickDelta - 1);
             }
             setLastCalendarUpdateTick(thisTick);
             markDirty();
@@ -28,6 +28,7 @@ import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.events.SelectClimateModelEvent;
+import net.dries007.tfc.util.metrics.Metrics;
 import net.dries007.tfc.util.tracker.WorldTracker;
 import net.dries007.tfc.util.tracker.WorldTrackerCapability;
 import net.dries007.tfc.world.chunkdata.ChunkData;
@@ -70,17 +71,17 @@ public final class Climate
 
     public static float getTemperature(Level level, BlockPos pos, long calendarTick, int daysInMonth)
     {
-        return model(level).getTemperature(level, pos, calendarTick, daysInMonth);
+        return query(level).getTemperature(level, pos, calendarTick, daysInMonth);
     }
 
     public static float getTemperature(Level level, BlockPos pos, ICalendar calendar, long calendarTick)
     {
-        return model(level).getTemperature(level, pos, calendarTick, calendar.getCalendarDaysInMonth());
+        return query(level).getTemperature(level, pos, calendarTick, calendar.getCalendarDaysInMonth());
     }
 
     public static float getTemperature(Level level, BlockPos pos, ICalendar calendar)
     {
-        return model(level).getTemperature(level, pos, calendar.getCalendarTicks(), calendar.getCalendarDaysInMonth());
+        return query(level).getTemperature(level, pos, calendar.getCalendarTicks(), calendar.getCalendarDaysInMonth());
     }
 
     public static float getTemperature(Level level, BlockPos pos)
@@ -90,27 +91,27 @@ public final class Climate
 
     public static float getAverageTemperature(Level level, BlockPos pos)
     {
-        return model(level).getAverageTemperature(level, pos);
+        return query(level).getAverageTemperature(level, pos);
     }
 
     public static float getRainfall(Level level, BlockPos pos)
     {
-        return model(level).getRainfall(level, pos);
+        return query(level).getRainfall(level, pos);
     }
 
     public static float getFogginess(Level level, BlockPos pos)
     {
-        return model(level).getFogginess(level, pos, Calendars.get(level).getTicks());
+        return query(level).getFogginess(level, pos, Calendars.get(level).getTicks());
     }
 
     public static float getWaterFogginess(Level level, BlockPos pos)
     {
-        return model(level).getWaterFogginess(level, pos, Calendars.get(level).getTicks());
+        return query(level).getWaterFogginess(level, pos, Calendars.get(level).getTicks());
     }
 
     public static Vec2 getWindVector(Level level, BlockPos pos)
     {
-        return model(level).getWindVector(level, pos, Calendars.get(level).getTicks());
+        return query(level).getWindVector(level, pos, Calendars.get(level).getTicks());
     }
 
     public static Biome.Precipitation getPrecipitation(Level level, BlockPos pos)
@@ -202,4 +203,13 @@ public final class Climate
             .map(WorldTracker::getClimateModel)
             .orElse(ClimateModels.BIOME_BASED.get().create());
     }
+
+    /**
+     * Like {@link #model(Level)}, but counted as a climate query for {@link Metrics#CLIMATE_QUERIES}.
+     */
+    private static ClimateModel query(Level level)
+    {
+        Metrics.CLIMATE_QUERIES.increment();
+        return model(level);
+    }
 }
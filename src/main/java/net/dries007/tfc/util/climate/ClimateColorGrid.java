@@ -0,0 +1,241 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.climate;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.world.chunkdata.ChunkData;
+
+/**
+ * A per-chunk cache of the climate used to tint blocks on client, for a single calendar hour, so that meshing a chunk section does not query the climate model for every tinted vertex.
+ * This is stored on {@link ChunkData}, is discarded when the chunk data is updated by a {@link net.dries007.tfc.network.ChunkWatchPacket}, and is rebuilt the first time it is queried in a new hour.
+ * <p>
+ * The average temperature and rainfall of each column are computed when the grid is created. The temperature, which also depends on elevation, is computed for each 16 block high band (a chunk section) the first time it is queried, at the bottom and top of the band in every column, and linearly interpolated between.
+ * This is exact, up to float rounding, wherever temperature varies linearly with elevation. In the overworld, temperature is piecewise linear in elevation, changing slope at a few elevations (such as sea level, and where it stops decreasing) which are more than a band apart. So the middle of each band is also computed, and any column which is not linear within {@link #NON_LINEAR_TOLERANCE} is computed exactly at every y instead.
+ * With a single change in slope in a band, the error of interpolating is at most twice the error at its middle, so the temperature used for colors is always within {@code 2 * NON_LINEAR_TOLERANCE} of the exact temperature.
+ * <p>
+ * Grids are queried from chunk meshing threads. Bands are immutable, so a band computed concurrently by two threads is simply computed twice.
+ */
+public final class ClimateColorGrid
+{
+    /**
+     * The maximum difference, in degrees, between the exact and interpolated temperature at the middle of a band, for a column to be interpolated.
+     */
+    public static final float NON_LINEAR_TOLERANCE = 0.01f;
+
+    /**
+     * @return The grid for the chunk containing {@code pos}, for the current hour, or {@code null} if the chunk has no data to cache.
+     */
+    @Nullable
+    public static ClimateColorGrid get(Level level, BlockPos pos)
+    {
+        final ChunkData data = ChunkData.get(level, pos);
+        if (data == ChunkData.EMPTY)
+        {
+            return null;
+        }
+
+        final ClimateModel model = Climate.model(level);
+        final ICalendar calendar = Calendars.get(level);
+        final long hour = ICalendar.getTotalHours(calendar.getCalendarTicks());
+        final int daysInMonth = calendar.getCalendarDaysInMonth();
+
+        final ClimateColorGrid grid = data.getClimateColorGrid();
+        if (grid != null && grid.isValid(model, hour, daysInMonth))
+        {
+            return grid;
+        }
+
+        final ClimateColorGrid newGrid = new ClimateColorGrid(model, hour, daysInMonth, data.getPos(), level.getMinSection(), level.getSectionsCount(), Source.of(level));
+        data.setClimateColorGrid(newGrid);
+        return newGrid;
+    }
+
+    private final ClimateModel model;
+    private final long hour;
+    private final int daysInMonth;
+
+    private final int minX, minZ, minSection;
+    private final float[] averageTemperature; // Indexed by column, see index()
+    private final float[] rainfall;
+    private final Band[] bands; // Indexed by section, from the bottom of the level, null until first queried
+
+    /**
+     * @param model         The climate model which this grid is valid for.
+     * @param minSection    The section y of the lowest section in the level.
+     * @param sectionsCount The number of sections in the level.
+     * @param source        The source of the climate, used to compute the average temperature and rainfall of each column.
+     */
+    public ClimateColorGrid(ClimateModel model, long hour, int daysInMonth, ChunkPos pos, int minSection, int sectionsCount, Source source)
+    {
+        this.model = model;
+        this.hour = hour;
+        this.daysInMonth = daysInMonth;
+        this.minX = pos.getMinBlockX();
+        this.minZ = pos.getMinBlockZ();
+        this.minSection = minSection;
+        this.averageTemperature = new float[16 * 16];
+        this.rainfall = new float[16 * 16];
+        this.bands = new Band[sectionsCount];
+
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                averageTemperature[index(x, z)] = source.getAverageTemperature(minX + x, minZ + z);
+                rainfall[index(x, z)] = source.getRainfall(minX + x, minZ + z);
+            }
+        }
+    }
+
+    public boolean isValid(ClimateModel model, long hour, int daysInMonth)
+    {
+        return this.model == model && this.hour == hour && this.daysInMonth == daysInMonth;
+    }
+
+    /**
+     * @return The temperature at {@code pos}, which must be within this grid's chunk.
+     */
+    public float getTemperature(Level level, BlockPos pos)
+    {
+        final int sectionIndex = SectionPos.blockToSectionCoord(pos.getY()) - minSection;
+        if (sectionIndex >= 0 && sectionIndex < bands.length && bands[sectionIndex] != null)
+        {
+            return interpolate(bands[sectionIndex], pos.getX(), pos.getY(), pos.getZ()); // Avoid creating a source if the band is already computed
+        }
+        return getTemperature(Source.of(level), pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * @param source The source of the climate, used to compute the temperature in the band containing {@code y}, if it has not been already.
+     * @return The temperature at the given position, which must be within this grid's chunk.
+     */
+    public float getTemperature(Source source, int x, int y, int z)
+    {
+        final int sectionIndex = SectionPos.blockToSectionCoord(y) - minSection;
+        if (sectionIndex < 0 || sectionIndex >= bands.length)
+        {
+            return source.getTemperature(x, y, z);
+        }
+
+        Band band = bands[sectionIndex];
+        if (band == null)
+        {
+            band = computeBand(source, SectionPos.sectionToBlockCoord(sectionIndex + minSection));
+            bands[sectionIndex] = band;
+        }
+        return interpolate(band, x, y, z);
+    }
+
+    public float getAverageTemperature(int x, int z)
+    {
+        return averageTemperature[index(x, z)];
+    }
+
+    public float getRainfall(int x, int z)
+    {
+        return rainfall[index(x, z)];
+    }
+
+    private Band computeBand(Source source, int minY)
+    {
+        final float[] temperature = new float[16 * 16];
+        final float[] slope = new float[16 * 16];
+        float[][] exact = null;
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                final int index = index(x, z);
+                final float bottom = source.getTemperature(minX + x, minY, minZ + z);
+                final float top = source.getTemperature(minX + x, minY + 15, minZ + z);
+                final float middle = source.getTemperature(minX + x, minY + 8, minZ + z);
+                temperature[index] = bottom;
+                slope[index] = (top - bottom) / 15f;
+
+                if (Math.abs(middle - (bottom + slope[index] * 8)) > NON_LINEAR_TOLERANCE)
+                {
+                    // The slope changes within this band (i.e. at sea level), so compute the column exactly
+                    if (exact == null)
+                    {
+                        exact = new float[16 * 16][];
+                    }
+                    final float[] column = new float[16];
+                    for (int y = 0; y < 16; y++)
+                    {
+                        column[y] = source.getTemperature(minX + x, minY + y, minZ + z);
+                    }
+                    exact[index] = column;
+                }
+            }
+        }
+        return new Band(temperature, slope, exact);
+    }
+
+    private static float interpolate(Band band, int x, int y, int z)
+    {
+        final int index = index(x, z);
+        if (band.exact() != null && band.exact()[index] != null)
+        {
+            return band.exact()[index][y & 15];
+        }
+        return band.temperature()[index] + band.slope()[index] * (y & 15);
+    }
+
+    private static int index(int x, int z)
+    {
+        return (x & 15) | ((z & 15) << 4);
+    }
+
+    /**
+     * The climate the grid is computed from. In a level, this is the level's climate model, at the current calendar time.
+     */
+    public interface Source
+    {
+        static Source of(Level level)
+        {
+            final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+            return new Source() {
+                @Override
+                public float getTemperature(int x, int y, int z)
+                {
+                    return Climate.getTemperature(level, cursor.set(x, y, z));
+                }
+
+                @Override
+                public float getAverageTemperature(int x, int z)
+                {
+                    return Climate.getAverageTemperature(level, cursor.set(x, 0, z));
+                }
+
+                @Override
+                public float getRainfall(int x, int z)
+                {
+                    return Climate.getRainfall(level, cursor.set(x, 0, z));
+                }
+            };
+        }
+
+        float getTemperature(int x, int y, int z);
+
+        float getAverageTemperature(int x, int z);
+
+        float getRainfall(int x, int z);
+    }
+
+    /**
+     * The temperature at the bottom of a band, in each column, and the change in temperature per block upwards.
+     * Columns which are not linear have the temperature at each y in {@code exact}, which is {@code null} if every column is linear.
+     */
+    record Band(float[] temperature, float[] slope, @Nullable float[][] exact) {}
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.climate;
+
+import net.dries007.tfc.world.chunkdata.ChunkData;
+
+/**
+ * A per-chunk cache of the monthly and daily parts of the temperature, for a single calendar hour.
+ * This is stored on {@link ChunkData}, and is rebuilt by the owning climate model the first time it is queried in a new hour.
+ * Instances are immutable, so they can be safely published to, and read from, multiple threads.
+ *
+ * @param model The climate model which created this snapshot. Snapshots from other models (i.e. before {@link ClimateModel#onWorldLoad}) are ignored.
+ * @param hour The total calendar hour this snapshot was computed for.
+ * @param monthTemperature The monthly temperature variation for each z coordinate in the chunk, indexed by {@code z & 15}.
+ * @param dailyTemperature The daily temperature variation, which is the same across the chunk, and for the whole hour.
+ */
+public record ClimateSnapshot(ClimateModel model, long hour, int daysInMonth, float[] monthTemperature, float dailyTemperature)
+{
+    public boolean isValid(ClimateModel model, long hour, int daysInMonth)
+    {
+        return this.model == model && this.hour == hour && this.daysInMonth == daysInMonth;
+    }
+
+    /**
+     * @return The monthly temperature variation at the given z coordinate, before any elevation adjustment.
+     */
+    public float monthTemperature(int z)
+    {
+        return monthTemperature[z & 15];
+    }
+}
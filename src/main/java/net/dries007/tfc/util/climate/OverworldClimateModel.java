@@ -10,6 +10,7 @@ import java.util.Random;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Holder;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.LinearCongruentialGenerator;
@@ -140,15 +141,57 @@ public class OverworldClimateModel implements WorldGenClimateModel
     @Override
     public float getTemperature(@Nullable LevelReader level, BlockPos pos, ChunkData data, long calendarTicks, int daysInMonth)
     {
-        // Month temperature
-        final Month currentMonth = ICalendar.getMonthOfYear(calendarTicks, daysInMonth);
-        final float delta = ICalendar.getFractionOfMonth(calendarTicks, daysInMonth);
-        final float monthFactor = Mth.lerp(delta, currentMonth.getTemperatureModifier(), currentMonth.next().getTemperatureModifier());
+        final ClimateSnapshot snapshot = data.getPos().z == SectionPos.blockToSectionCoord(pos.getZ()) ? getClimateSnapshot(level, data, calendarTicks, daysInMonth) : null;
+        if (snapshot == null)
+        {
+            // Position is not within the chunk data, the chunk data is empty, or the time is not the current hour, so compute directly
+            final float monthTemperature = calculateMonthlyTemperature(pos.getZ(), calculateMonthFactor(calendarTicks, daysInMonth));
+            return adjustTemperatureByElevation(pos.getY(), data.getAverageTemp(pos), monthTemperature, calculateDailyTemperature(calendarTicks));
+        }
+        return adjustTemperatureByElevation(pos.getY(), data.getAverageTemp(pos), snapshot.monthTemperature(pos.getZ()), snapshot.dailyTemperature());
+    }
+
+    /**
+     * Obtains the cached monthly and daily temperature for a chunk, recomputing it if the calendar has advanced to a new hour since it was last computed.
+     * The month factor is evaluated at the start of each hour, which is well within the precision of the monthly temperature, which changes over days. The daily temperature only depends on the hour, so it is exact.
+     * <p>
+     * Only the current calendar hour is ever cached. Queries for other times, such as those made by growth catch-up loops, miss the snapshot and are computed directly, so they don't evict the snapshot for the current hour. The calendar is only checked on a miss.
+     *
+     * @return The snapshot for the current hour, or {@code null} if the chunk data cannot hold one, or {@code calendarTicks} is not in the current hour.
+     */
+    @Nullable
+    protected ClimateSnapshot getClimateSnapshot(@Nullable LevelReader level, ChunkData data, long calendarTicks, int daysInMonth)
+    {
+        if (data == ChunkData.EMPTY)
+        {
+            return null;
+        }
 
-        final float monthTemperature = calculateMonthlyTemperature(pos.getZ(), monthFactor);
-        final float dailyTemperature = calculateDailyTemperature(calendarTicks);
+        final long hour = ICalendar.getTotalHours(calendarTicks);
+        final ClimateSnapshot snapshot = data.getClimateSnapshot();
+        if (snapshot != null && snapshot.isValid(this, hour, daysInMonth))
+        {
+            return snapshot;
+        }
 
-        return adjustTemperatureByElevation(pos.getY(), data.getAverageTemp(pos), monthTemperature, dailyTemperature);
+        final ICalendar calendar = level != null ? Calendars.get(level) : Calendars.get();
+        if (hour != ICalendar.getTotalHours(calendar.getCalendarTicks()))
+        {
+            return null;
+        }
+
+        final long hourTicks = hour * ICalendar.TICKS_IN_HOUR;
+        final float monthFactor = calculateMonthFactor(hourTicks, daysInMonth);
+        final int minZ = data.getPos().getMinBlockZ();
+        final float[] monthTemperature = new float[16];
+        for (int z = 0; z < 16; z++)
+        {
+            monthTemperature[z] = calculateMonthlyTemperature(minZ + z, monthFactor);
+        }
+
+        final ClimateSnapshot newSnapshot = new ClimateSnapshot(this, hour, daysInMonth, monthTemperature, calculateDailyTemperature(hourTicks));
+        data.setClimateSnapshot(newSnapshot);
+        return newSnapshot;
     }
 
     @Override
@@ -426,6 +469,16 @@ public class OverworldClimateModel implements WorldGenClimateModel
         }
     }
 
+    /**
+     * Calculates the month temperature modifier at a given time, interpolated between the current and next month.
+     */
+    protected float calculateMonthFactor(long calendarTicks, int daysInMonth)
+    {
+        final Month currentMonth = ICalendar.getMonthOfYear(calendarTicks, daysInMonth);
+        final float delta = ICalendar.getFractionOfMonth(calendarTicks, daysInMonth);
+        return Mth.lerp(delta, currentMonth.getTemperatureModifier(), currentMonth.next().getTemperatureModifier());
+    }
+
     /**
      * Calculates the monthly temperature for a given latitude and month modifier
      */
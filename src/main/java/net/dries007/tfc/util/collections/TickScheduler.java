@@ -0,0 +1,103 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.collections;
+
+import java.util.function.LongConsumer;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectRBTreeMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectSortedMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+/**
+ * A scheduler of primitive {@code long} values (typically, packed block positions via {@link net.minecraft.core.BlockPos#asLong()}), keyed by the tick at which they are due.
+ * Values are bucketed by due tick in a sorted map, so each {@link #tick(LongConsumer)} only visits the values which are due, rather than every scheduled value.
+ * <p>
+ * Values scheduled while running due values will never be run in the same tick, as the delay must be at least one tick.
+ */
+public class TickScheduler
+{
+    private final Long2ObjectSortedMap<LongArrayList> scheduled;
+    private long currentTick;
+    private int size;
+
+    public TickScheduler()
+    {
+        this.scheduled = new Long2ObjectRBTreeMap<>();
+        this.currentTick = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Schedules {@code value} to run after {@code delay} ticks have passed.
+     */
+    public void schedule(long value, int delay)
+    {
+        final long dueTick = currentTick + Math.max(delay, 1);
+        LongArrayList bucket = scheduled.get(dueTick);
+        if (bucket == null)
+        {
+            bucket = new LongArrayList();
+            scheduled.put(dueTick, bucket);
+        }
+        bucket.add(value);
+        size++;
+    }
+
+    /**
+     * Advances the scheduler by a single tick, and then runs {@code action} for every value which is now due, removing it from the scheduler.
+     */
+    public void tick(LongConsumer action)
+    {
+        currentTick++;
+        while (!scheduled.isEmpty() && scheduled.firstLongKey() <= currentTick)
+        {
+            final LongArrayList bucket = scheduled.remove(scheduled.firstLongKey());
+            size -= bucket.size();
+            for (int i = 0; i < bucket.size(); i++)
+            {
+                action.accept(bucket.getLong(i));
+            }
+        }
+    }
+
+    /**
+     * Visits every scheduled value, along with the remaining delay until it is due.
+     */
+    public void forEach(Visitor visitor)
+    {
+        for (Long2ObjectMap.Entry<LongArrayList> entry : scheduled.long2ObjectEntrySet())
+        {
+            final int delay = (int) (entry.getLongKey() - currentTick);
+            for (int i = 0; i < entry.getValue().size(); i++)
+            {
+                visitor.accept(entry.getValue().getLong(i), delay);
+            }
+        }
+    }
+
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public void clear()
+    {
+        scheduled.clear();
+        size = 0;
+    }
+
+    @FunctionalInterface
+    public interface Visitor
+    {
+        void accept(long value, int delay);
+    }
+}
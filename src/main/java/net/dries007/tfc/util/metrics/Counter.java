@@ -0,0 +1,77 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import com.google.gson.JsonObject;
+
+/**
+ * A count of events. Unlike other metrics, this may be incremented from any thread, i.e. for climate queries made during world generation.
+ */
+public final class Counter implements Metric
+{
+    private final String name;
+    private final LongAdder count;
+
+    Counter(String name)
+    {
+        this.name = name;
+        this.count = new LongAdder();
+    }
+
+    public void increment()
+    {
+        if (Metrics.isEnabled())
+        {
+            count.increment();
+        }
+    }
+
+    public void add(long amount)
+    {
+        if (Metrics.isEnabled())
+        {
+            count.add(amount);
+        }
+    }
+
+    public long count()
+    {
+        return count.sum();
+    }
+
+    @Override
+    public String name()
+    {
+        return name;
+    }
+
+    @Override
+    public void reset()
+    {
+        count.reset();
+    }
+
+    @Override
+    public String summary(long ticks)
+    {
+        final long count = count();
+        return String.format(Locale.ROOT, "%s: %d (%.1f / tick)", name, count, Metrics.perTick(count, ticks));
+    }
+
+    @Override
+    public JsonObject toJson(long ticks)
+    {
+        final JsonObject json = new JsonObject();
+        final long count = count();
+        json.addProperty("type", "counter");
+        json.addProperty("count", count);
+        json.addProperty("perTick", Metrics.perTick(count, ticks));
+        return json;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.metrics;
+
+import java.util.Arrays;
+import java.util.Locale;
+import com.google.gson.JsonObject;
+
+/**
+ * A histogram of non-negative values, bucketed by powers of two. Recording a value is constant time, and it uses a fixed amount of memory, at the cost of percentiles only being accurate to within a factor of two.
+ * <p>
+ * Values are only recorded on the server thread, see {@link Metrics#isRecording()}.
+ */
+public final class Histogram implements Metric
+{
+    private static final int BUCKETS = Long.SIZE; // Bucket 0 holds 0, and bucket n > 0 holds values in [2^(n-1), 2^n)
+
+    private final String name;
+    private final long[] buckets;
+    private long count;
+    private long sum;
+    private long max;
+
+    Histogram(String name)
+    {
+        this.name = name;
+        this.buckets = new long[BUCKETS];
+    }
+
+    public void record(long value)
+    {
+        if (Metrics.isRecording())
+        {
+            add(value);
+        }
+    }
+
+    public long count()
+    {
+        return count;
+    }
+
+    public long sum()
+    {
+        return sum;
+    }
+
+    public long max()
+    {
+        return max;
+    }
+
+    public double mean()
+    {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * @param percentile A percentile, in [0, 1].
+     * @return An upper bound on the value at the given percentile, or zero if no values have been recorded.
+     */
+    public long percentile(double percentile)
+    {
+        final long target = (long) Math.ceil(percentile * count);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++)
+        {
+            seen += buckets[bucket];
+            if (seen >= target && seen > 0)
+            {
+                return Math.min(max, (1L << bucket) - 1); // For the last bucket, this overflows to Long.MAX_VALUE
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String name()
+    {
+        return name;
+    }
+
+    @Override
+    public void reset()
+    {
+        Arrays.fill(buckets, 0);
+        count = sum = max = 0;
+    }
+
+    @Override
+    public String summary(long ticks)
+    {
+        return String.format(Locale.ROOT, "%s: %d values (%.1f / tick), mean %.1f, p50 %d, p99 %d, max %d", name, count, Metrics.perTick(count, ticks), mean(), percentile(0.5), percentile(0.99), max);
+    }
+
+    @Override
+    public JsonObject toJson(long ticks)
+    {
+        final JsonObject json = new JsonObject();
+        json.addProperty("type", "histogram");
+        json.addProperty("count", count);
+        json.addProperty("perTick", Metrics.perTick(count, ticks));
+        json.addProperty("mean", mean());
+        json.addProperty("p50", percentile(0.5));
+        json.addProperty("p99", percentile(0.99));
+        json.addProperty("max", max);
+        return json;
+    }
+
+    void add(long value)
+    {
+        value = Math.max(value, 0);
+        buckets[Long.SIZE - Long.numberOfLeadingZeros(value)]++;
+        count++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+}
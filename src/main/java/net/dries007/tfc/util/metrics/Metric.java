@@ -0,0 +1,30 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.metrics;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A single metric, tracked by {@link Metrics}.
+ */
+public interface Metric
+{
+    String name();
+
+    void reset();
+
+    /**
+     * @param ticks The number of server ticks since the metric was last reset.
+     * @return A one line, human readable summary of the metric.
+     */
+    String summary(long ticks);
+
+    /**
+     * @param ticks The number of server ticks since the metric was last reset.
+     */
+    JsonObject toJson(long ticks);
+}
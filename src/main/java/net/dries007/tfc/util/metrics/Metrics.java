@@ -0,0 +1,157 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import com.google.gson.JsonObject;
+import com.mojang.logging.LogUtils;
+import net.minecraft.server.MinecraftServer;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+
+import net.dries007.tfc.config.TFCConfig;
+
+/**
+ * A registry of lightweight, always on metrics for TFC's hot paths, so time spent in TFC's systems can be attributed without attaching a profiler.
+ * These can be viewed with {@code /tfc metrics}, and are periodically written to the log as JSON, if enabled via {@link net.dries007.tfc.config.ServerConfig#metricsLogInterval}.
+ * <p>
+ * With the exception of {@link Counter}s, metrics are only recorded on the server thread, and are not thread safe.
+ */
+public final class Metrics
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final List<Metric> METRICS = new ArrayList<>();
+
+    public static final Timer CHUNK_TICK = register(new Timer("chunk_tick"));
+    public static final Timer WORLD_TRACKER_TICK = register(new Timer("world_tracker_tick"));
+    public static final Timer CALENDAR_CATCH_UP = register(new Timer("calendar_catch_up"));
+    public static final Histogram CALENDAR_CATCH_UP_TICKS = register(new Histogram("calendar_catch_up_ticks"));
+    public static final Timer CROP_GROWTH = register(new Timer("crop_growth"));
+    public static final Timer BARREL_RECIPES = register(new Timer("barrel_recipes"));
+    public static final Timer ROTATION_NETWORK = register(new Timer("rotation_network"));
+    public static final Counter CLIMATE_QUERIES = register(new Counter("climate_queries"));
+    public static final Counter REGION_CACHE_HITS = register(new Counter("region_cache_hits"));
+    public static final Counter REGION_CACHE_MISSES = register(new Counter("region_cache_misses"));
+    public static final Counter PARTITION_CACHE_HITS = register(new Counter("partition_cache_hits"));
+    public static final Counter PARTITION_CACHE_MISSES = register(new Counter("partition_cache_misses"));
+    public static final Counter FALLING_BLOCK_ENTITIES = register(new Counter("falling_block_entities"));
+    public static final Counter SIMULATED_FALLING_BLOCKS = register(new Counter("simulated_falling_blocks"));
+    public static final Counter FALLING_BLOCKS_PACKET_BYTES = register(new Counter("falling_blocks_packet_bytes"));
+    public static final Timer FALLING_BLOCK_SIMULATION = register(new Timer("falling_block_simulation"));
+    public static final Timer AQUEDUCT_SOLVE = register(new Timer("aqueduct_solve"));
+    public static final Timer ENVIRONMENT_CATCH_UP = register(new Timer("environment_catch_up"));
+    public static final Counter SPAWN_PLACEMENTS_DENIED = register(new Counter("spawn_placements_denied"));
+
+    private static boolean enabled = false;
+    private static int sampleInterval = 1;
+    private static @Nullable Thread serverThread = null;
+    private static long ticks = 0; // Server ticks since the last reset
+
+    public static List<Metric> all()
+    {
+        return Collections.unmodifiableList(METRICS);
+    }
+
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * @return {@code true} if metrics are enabled, and this is the server thread.
+     */
+    public static boolean isRecording()
+    {
+        return enabled && Thread.currentThread() == serverThread;
+    }
+
+    public static int sampleInterval()
+    {
+        return sampleInterval;
+    }
+
+    public static long ticks()
+    {
+        return ticks;
+    }
+
+    public static void reset()
+    {
+        METRICS.forEach(Metric::reset);
+        ticks = 0;
+    }
+
+    public static JsonObject toJson()
+    {
+        final JsonObject json = new JsonObject();
+        json.addProperty("ticks", ticks);
+        for (Metric metric : METRICS)
+        {
+            json.add(metric.name(), metric.toJson(ticks));
+        }
+        return json;
+    }
+
+    public static void onServerStart(MinecraftServer server)
+    {
+        serverThread = server.getRunningThread();
+        updateConfig();
+        reset();
+    }
+
+    public static void onServerStop()
+    {
+        serverThread = null;
+        enabled = false;
+    }
+
+    /**
+     * Enables metrics without a server, i.e. for benchmarks and tests which drive world generation directly. As there is no server thread, only {@link Counter}s will be recorded.
+     */
+    @VisibleForTesting
+    public static void enableWithoutServer()
+    {
+        serverThread = null;
+        enabled = true;
+        reset();
+    }
+
+    public static void onServerTick()
+    {
+        updateConfig();
+        if (enabled)
+        {
+            ticks++;
+
+            final int logInterval = TFCConfig.SERVER.metricsLogInterval.get();
+            if (logInterval > 0 && ticks % logInterval == 0)
+            {
+                LOGGER.info("TFC metrics: {}", toJson());
+            }
+        }
+    }
+
+    static double perTick(double value, long ticks)
+    {
+        return ticks == 0 ? 0 : value / ticks;
+    }
+
+    private static void updateConfig()
+    {
+        enabled = TFCConfig.SERVER.enableMetrics.get();
+        sampleInterval = TFCConfig.SERVER.metricsSampleInterval.get();
+    }
+
+    private static <T extends Metric> T register(T metric)
+    {
+        METRICS.add(metric);
+        return metric;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.metrics;
+
+import java.util.Locale;
+import com.google.gson.JsonObject;
+
+/**
+ * Times a section of code on the server thread. Usage:
+ * <pre>{@code
+ * final long start = Metrics.EXAMPLE.start();
+ * // Timed code
+ * Metrics.EXAMPLE.stop(start);
+ * }</pre>
+ * Every call is counted, but only one in every {@link Metrics#sampleInterval()} calls is actually timed, and the total time is estimated from the sampled calls.
+ */
+public final class Timer implements Metric
+{
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private final String name;
+    private final Histogram durations; // Durations of sampled calls, in nanoseconds
+    private long calls;
+
+    Timer(String name)
+    {
+        this.name = name;
+        this.durations = new Histogram(name);
+    }
+
+    /**
+     * @return A value which must be passed to {@link #stop(long)} once the timed section is complete.
+     */
+    public long start()
+    {
+        if (!Metrics.isRecording())
+        {
+            return NOT_SAMPLED;
+        }
+        calls++;
+        return calls % Metrics.sampleInterval() == 0 ? System.nanoTime() : NOT_SAMPLED;
+    }
+
+    public void stop(long start)
+    {
+        if (start != NOT_SAMPLED)
+        {
+            durations.add(System.nanoTime() - start);
+        }
+    }
+
+    public long calls()
+    {
+        return calls;
+    }
+
+    /**
+     * @return The estimated total time spent in all calls, in nanoseconds.
+     */
+    public double estimatedTotalNanos()
+    {
+        return durations.mean() * calls;
+    }
+
+    @Override
+    public String name()
+    {
+        return name;
+    }
+
+    @Override
+    public void reset()
+    {
+        durations.reset();
+        calls = 0;
+    }
+
+    @Override
+    public String summary(long ticks)
+    {
+        return String.format(Locale.ROOT, "%s: %d calls (%.1f / tick), %.3f ms / tick, mean %.1f us, p50 %.1f us, p99 %.1f us, max %.1f us",
+            name, calls, Metrics.perTick(calls, ticks), Metrics.perTick(estimatedTotalNanos(), ticks) / 1_000_000,
+            durations.mean() / 1000, durations.percentile(0.5) / 1000.0, durations.percentile(0.99) / 1000.0, durations.max() / 1000.0);
+    }
+
+    @Override
+    public JsonObject toJson(long ticks)
+    {
+        final JsonObject json = new JsonObject();
+        json.addProperty("type", "timer");
+        json.addProperty("calls", calls);
+        json.addProperty("samples", durations.count());
+        json.addProperty("callsPerTick", Metrics.perTick(calls, ticks));
+        json.addProperty("nanosPerTick", Metrics.perTick(estimatedTotalNanos(), ticks));
+        json.addProperty("meanNanos", durations.mean());
+        json.addProperty("p50Nanos", durations.percentile(0.5));
+        json.addProperty("p99Nanos", durations.percentile(0.99));
+        json.addProperty("maxNanos", durations.max());
+        return json;
+    }
+}
@@ -7,18 +7,20 @@
 package net.dries007.tfc.util.rotation;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Queue;
-import java.util.Set;
 import java.util.stream.Collectors;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import org.jetbrains.annotations.CheckReturnValue;
 import org.jetbrains.annotations.Nullable;
 
+import net.dries007.tfc.util.Helpers;
+
 
 /**
  * A single network, consisting of a rotation source, plus any connected components. Forms a <em>directed tree</em>.
@@ -196,64 +198,68 @@ final class RotationNetwork
 
     /**
      * Update a network, once a node within it has been updated or removed.
+     * <p>
+     * Only nodes which receive their rotation through the changed node (the subtree rooted at it, following {@link Node#source()}) can be affected by the change, as every other node still has an intact path back to the source.
+     * So, rather than walking the entire network from the source, this detaches that subtree, and then reconnects it from any adjacent nodes that remain in the network.
+     *
+     * @param changed The node that was updated or removed.
+     * @param level Access to all nodes in the world. If {@code changed} has been removed, it must no longer be accessible through this.
      */
-    void updateNetwork()
+    void updateNetwork(Node changed, RotationAccess level)
     {
-        // BFS from the source, marking each node as either visited, or unvisited.
-        // This method assumes all current nodes in the graph represent the real state in world.
-        // Thus, it should be called whenever nodes are removed, to detect disconnected components
-
+        final List<Node> detached = new ArrayList<>();
         final Queue<Node> queue = new ArrayDeque<>();
-        final Set<Node> visited = new ReferenceOpenHashSet<>();
         final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
 
-        queue.add(source);
-
-        // Initially populate the visited set with all nodes, and remove them as we find them
-        // This leaves the final set as all disconnected nodes, which makes removing them trivial
-        visited.addAll(nodes.values());
+        nodes.remove(changed.posKey());
+        queue.add(changed);
 
         while (!queue.isEmpty())
         {
             final Node current = queue.poll();
 
-            for (Direction direction : current.connections())
+            // Check every direction, not just current connections, as the changed node may have lost a connection that a downstream node is sourced from
+            for (Direction direction : Helpers.DIRECTIONS)
             {
                 cursor.setWithOffset(current.pos(), direction);
 
-                final @Nullable Node next = getNode(cursor);
-                final Direction inverseDirection = direction.getOpposite();
-
-                if (next != null && // There is a node at this position
-                    next.connections().contains(inverseDirection) && // That connects in the matching direction
-                    visited.contains(next) // We haven't already visited this node, and updated its rotation (and source). Prevents cycles
-                )
+                final @Nullable Node next = nodes.get(cursor.asLong());
+                if (next != null && next.source() == direction.getOpposite())
                 {
-                    // This node connects in the given direction, so we need to (1) mark it as seen, (2) push it to the queue, and (3) update the rotation parameters
-                    final Rotation exitRotation = current.rotation(direction);
-
-                    // The node currently belongs to a network, so it's rotation should never be null
-                    assert exitRotation != null;
-
-                    if (!next.update(id, inverseDirection, exitRotation))
-                    {
-                        // This node could not be updated to be part of the network, so we have to abort here
-                        // We don't enqueue the node or add it to the network
-                        // Removal of the node is already handled (as per the contract of `update()`)
-                        continue;
-                    }
-
+                    // This node receives its rotation from the current node, so it is part of the detached subtree
+                    nodes.remove(next.posKey());
                     queue.add(next);
-                    visited.remove(next);
                 }
             }
+
+            current.remove();
+            detached.add(current);
         }
 
-        // Any nodes that were not visited, are disconnected and are removed from the network
-        for (Node node : visited)
+        // Then, reconnect any detached nodes from adjacent nodes which are still in the network
+        // Nodes which are not reached by this are disconnected, and have already been removed from the network
+        for (Node node : detached)
         {
-            node.remove();
-            nodes.remove(node.posKey());
+            if (node.isConnectedToNetwork())
+            {
+                continue; // Already reconnected by a previous search, which will have also explored all its neighbors
+            }
+            for (Direction direction : node.connections())
+            {
+                cursor.setWithOffset(node.pos(), direction);
+
+                final @Nullable Node adjacent = getNode(cursor);
+                final Direction inverseDirection = direction.getOpposite();
+
+                if (adjacent != null && // There is a node at this position
+                    adjacent.network() == id && // Which is still connected to this network
+                    adjacent.connections().contains(inverseDirection) && // That connects in the matching direction
+                    adjacent.source() != inverseDirection // And we are not trying to connect from its source
+                )
+                {
+                    updateAfterAdd(adjacent, level);
+                }
+            }
         }
     }
 
@@ -6,7 +6,9 @@
 
 package net.dries007.tfc.util.rotation;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Collectors;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
@@ -15,6 +17,7 @@ import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.Nullable;
 
+import net.dries007.tfc.util.metrics.Metrics;
 import net.dries007.tfc.util.tracker.WorldTracker;
 import net.dries007.tfc.util.tracker.WorldTrackerCapability;
 
@@ -53,7 +56,8 @@ public final class RotationNetworkManager implements RotationAccess
      */
     public boolean performAction(Node node, NetworkAction action)
     {
-        return switch (action)
+        final long start = Metrics.ROTATION_NETWORK.start();
+        final boolean result = switch (action)
             {
                 case ADD -> add(node);
                 case ADD_SOURCE -> addSource((SourceNode) node);
@@ -63,6 +67,8 @@ public final class RotationNetworkManager implements RotationAccess
                     yield true;
                 }
             };
+        Metrics.ROTATION_NETWORK.stop(start);
+        return result;
     }
 
     /**
@@ -112,7 +118,7 @@ public final class RotationNetworkManager implements RotationAccess
     public boolean add(Node toAdd)
     {
         @Nullable RotationNetwork addedNetwork = null;
-        for (RotationNetwork network : networks.values())
+        for (RotationNetwork network : getAdjacentNetworks(toAdd))
         {
             switch (network.updateOnAdd(toAdd))
             {
@@ -169,7 +175,7 @@ public final class RotationNetworkManager implements RotationAccess
             // If so, this update needs to be reverted and the current block broken, which means removing it from its original network
             final RotationNetwork originNetwork = getNetwork(networkId);
 
-            for (RotationNetwork network : networks.values())
+            for (RotationNetwork network : getAdjacentNetworks(toUpdate))
             {
                 // Note that the node already belongs to a network, so if this returns true, it is already broken and will not add
                 switch (network.updateOnAdd(toUpdate))
@@ -184,8 +190,9 @@ public final class RotationNetworkManager implements RotationAccess
                         // Cannot be added here if this update connects in incompatible ways to the current network
 
                         // Remove from the original network, and then update any connected nodes
+                        // The node is still present in the world until it is broken, so it must not be reconnected
                         originNetwork.removeNode(toUpdate);
-                        originNetwork.updateNetwork();
+                        originNetwork.updateNetwork(toUpdate, pos -> pos.equals(toUpdate.pos()) ? null : getNode(pos));
 
                         // Return false, indicating the node was broken and needs to be removed
                         return false;
@@ -193,11 +200,9 @@ public final class RotationNetworkManager implements RotationAccess
                 }
             }
 
-            // We first have to reconsider this node as 'added', because it may have increased connectivity to nodes outside the network, that were disconnected.
-            originNetwork.updateAfterAdd(toUpdate, this);
-
-            // Then, we need to update the network, because likewise we may have _lost_ connectivity with this node
-            originNetwork.updateNetwork();
+            // Then, we need to update the network, because we may have _lost_ connectivity with this node
+            // This also reconsiders this node as 'added', because it may have increased connectivity to nodes outside the network, that were disconnected.
+            originNetwork.updateNetwork(toUpdate, this);
             return true;
         }
         else
@@ -232,7 +237,7 @@ public final class RotationNetworkManager implements RotationAccess
                 {
                     // Otherwise, we need to update the network regularly, after removing the specific node
                     network.removeNode(toRemove);
-                    network.updateNetwork();
+                    network.updateNetwork(toRemove, this);
                 }
             }
         }
@@ -262,6 +267,35 @@ public final class RotationNetworkManager implements RotationAccess
             .collect(Collectors.joining("\n"));
     }
 
+    /**
+     * Finds all networks which the given node could connect to, by looking at the adjacent nodes in each of its connections.
+     * A node can only connect to a network through an adjacent node, so this avoids needing to query every network in the world.
+     */
+    private List<RotationNetwork> getAdjacentNetworks(Node node)
+    {
+        final List<RotationNetwork> adjacentNetworks = new ArrayList<>(2);
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        for (Direction direction : node.connections())
+        {
+            cursor.setWithOffset(node.pos(), direction);
+
+            final @Nullable Node adjacent = getNode(cursor);
+            if (adjacent != null && // There is a node at this location
+                adjacent.network() != Node.NO_NETWORK && // And it is connected to a network
+                adjacent.connections().contains(direction.getOpposite()) // And it can connect in this direction
+            )
+            {
+                final @Nullable RotationNetwork network = networks.get(adjacent.network());
+                if (network != null && !adjacentNetworks.contains(network))
+                {
+                    adjacentNetworks.add(network);
+                }
+            }
+        }
+        return adjacentNetworks;
+    }
+
     private RotationNetwork getNetwork(long networkId)
     {
         final RotationNetwork network = networks.get(networkId);
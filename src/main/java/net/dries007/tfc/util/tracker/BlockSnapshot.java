@@ -0,0 +1,102 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable copy of the block states in an area of a level, which may be read from any thread.
+ * Every chunk section which intersects the area is copied whole, by copying its palette and storage, which is much cheaper than reading each state in the area individually.
+ * <p>
+ * Positions in sections which were not copied, including those in unloaded chunks, are {@link Blocks#VOID_AIR}. Block entities are not copied.
+ */
+public final class BlockSnapshot implements BlockGetter
+{
+    /**
+     * Copies every loaded section which intersects the area between {@code from} and {@code to}. Must be called on the main thread.
+     */
+    public static BlockSnapshot capture(Level level, BlockPos from, BlockPos to)
+    {
+        final Long2ObjectMap<PalettedContainer<BlockState>> sections = new Long2ObjectOpenHashMap<>();
+        final int minX = SectionPos.blockToSectionCoord(Math.min(from.getX(), to.getX())), maxX = SectionPos.blockToSectionCoord(Math.max(from.getX(), to.getX()));
+        final int minY = SectionPos.blockToSectionCoord(Math.min(from.getY(), to.getY())), maxY = SectionPos.blockToSectionCoord(Math.max(from.getY(), to.getY()));
+        final int minZ = SectionPos.blockToSectionCoord(Math.min(from.getZ(), to.getZ())), maxZ = SectionPos.blockToSectionCoord(Math.max(from.getZ(), to.getZ()));
+        for (int chunkX = minX; chunkX <= maxX; chunkX++)
+        {
+            for (int chunkZ = minZ; chunkZ <= maxZ; chunkZ++)
+            {
+                if (level.hasChunk(chunkX, chunkZ))
+                {
+                    final LevelChunk chunk = level.getChunk(chunkX, chunkZ);
+                    for (int sectionY = minY; sectionY <= maxY; sectionY++)
+                    {
+                        final int index = chunk.getSectionIndexFromSectionY(sectionY);
+                        if (index >= 0 && index < chunk.getSectionsCount())
+                        {
+                            sections.put(SectionPos.asLong(chunkX, sectionY, chunkZ), chunk.getSection(index).getStates().copy());
+                        }
+                    }
+                }
+            }
+        }
+        return new BlockSnapshot(sections, level.getMinBuildHeight(), level.getHeight());
+    }
+
+    private final Long2ObjectMap<PalettedContainer<BlockState>> sections; // Section pos -> copied states
+    private final int minBuildHeight, height;
+
+    private BlockSnapshot(Long2ObjectMap<PalettedContainer<BlockState>> sections, int minBuildHeight, int height)
+    {
+        this.sections = sections;
+        this.minBuildHeight = minBuildHeight;
+        this.height = height;
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos)
+    {
+        final PalettedContainer<BlockState> states = sections.get(SectionPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getY()), SectionPos.blockToSectionCoord(pos.getZ())));
+        return states == null ? Blocks.VOID_AIR.defaultBlockState() : states.get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos)
+    {
+        return getBlockState(pos).getFluidState();
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity getBlockEntity(BlockPos pos)
+    {
+        return null;
+    }
+
+    @Override
+    public int getHeight()
+    {
+        return height;
+    }
+
+    @Override
+    public int getMinBuildHeight()
+    {
+        return minBuildHeight;
+    }
+}
@@ -6,9 +6,10 @@
 
 package net.dries007.tfc.util.tracker;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.core.BlockPos;
@@ -16,29 +17,40 @@ import net.minecraft.core.BlockPos;
 public class Collapse
 {
     BlockPos centerPos;
-    List<BlockPos> nextPositions;
+    LongList nextPositions; // Packed via BlockPos#asLong
     double radiusSquared;
+    long nextTick; // Not serialized, the next step is rescheduled on load
 
     public Collapse(BlockPos centerPos, List<BlockPos> nextPositions, double radiusSquared)
     {
         this.centerPos = centerPos;
-        this.nextPositions = nextPositions;
+        this.nextPositions = new LongArrayList(nextPositions.size());
         this.radiusSquared = radiusSquared;
+
+        for (BlockPos pos : nextPositions)
+        {
+            this.nextPositions.add(pos.asLong());
+        }
     }
 
     public Collapse(CompoundTag nbt)
     {
         centerPos = BlockPos.of(nbt.getLong("centerPos"));
-        nextPositions = Arrays.stream(nbt.getLongArray("nextPositions")).mapToObj(BlockPos::of).collect(Collectors.toList());
+        nextPositions = new LongArrayList(nbt.getLongArray("nextPositions"));
         radiusSquared = nbt.getDouble("radiusSquared");
     }
 
+    public List<BlockPos> getNextPositions()
+    {
+        return nextPositions.longStream().mapToObj(BlockPos::of).collect(Collectors.toList());
+    }
+
     public CompoundTag serializeNBT()
     {
         CompoundTag nbt = new CompoundTag();
         nbt.putLong("centerPos", centerPos.asLong());
-        nbt.putLongArray("nextPositions", nextPositions.stream().mapToLong(BlockPos::asLong).toArray());
+        nbt.putLongArray("nextPositions", nextPositions.toLongArray());
         nbt.putDouble("radiusSquared", radiusSquared);
         return nbt;
     }
-}
\ No newline at end of file
+}
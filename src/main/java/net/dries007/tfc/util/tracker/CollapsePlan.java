@@ -0,0 +1,21 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import java.util.List;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.minecraft.core.BlockPos;
+
+import net.dries007.tfc.common.recipes.CollapseRecipe;
+
+/**
+ * The start of a collapse, as planned by {@link CollapseRecipe#planCollapse}, possibly off the main thread.
+ *
+ * @param triggerPos The position which triggered the collapse, where the collapse sound is played from once it is applied.
+ * @param columns For each column which may collapse, the positions in that column which may start collapsing, packed via {@link BlockPos#asLong()}, from the bottom up. When applied, the first of these positions which still can collapse, does.
+ */
+public record CollapsePlan(BlockPos triggerPos, BlockPos centerPos, int radiusSquared, List<LongList> columns) {}
@@ -0,0 +1,260 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntitySelector;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.GameRules;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.FallingBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.minecraftforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.TFCTags;
+import net.dries007.tfc.common.blocks.rock.IFallableBlock;
+import net.dries007.tfc.common.entities.misc.TFCFallingBlockEntity;
+import net.dries007.tfc.common.fluids.FluidHelpers;
+import net.dries007.tfc.config.TFCConfig;
+import net.dries007.tfc.network.FallingBlocksPacket;
+import net.dries007.tfc.network.PacketHandler;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.metrics.Metrics;
+
+/**
+ * An entity-free alternative to {@link TFCFallingBlockEntity} for the blocks moved by landslides and collapses, enabled via {@link net.dries007.tfc.config.ServerConfig#enableBatchedBlockPhysics}, on server.
+ * <p>
+ * Blocks which start falling during a tick are queued, and resolved together at the end of the tick by {@link WorldTracker}. They are grouped by column, and resolved from the bottom up, so blocks land on top of those which fell below them. Each block falls straight down, breaking the blocks it can fall through, and is placed where a falling block entity would have come to rest. Only the final states are set, and the neighbors of each changed position are updated once after every fall is resolved, rather than after every intermediate state.
+ * <p>
+ * In place of entities, players tracking each chunk are sent a single {@link FallingBlocksPacket}, which displays each fall with particles.
+ */
+public class FallingBlockSimulation
+{
+    @Nullable
+    public static FallingBlockSimulation get(Level level)
+    {
+        return level instanceof ServerLevel serverLevel ? serverLevel.getCapability(WorldTrackerCapability.CAPABILITY).map(WorldTracker::getFallingBlockSimulation).orElse(null) : null;
+    }
+
+    /**
+     * Starts a block falling from {@code pos}, which should already be set to {@code state}. If enabled, and possible, this is queued to be simulated, otherwise a falling block entity is spawned.
+     *
+     * @param damagePerBlock The damage per block fallen, to entities the block lands on.
+     * @param maxDamage      The maximum damage to entities the block lands on.
+     */
+    public static void fall(Level level, BlockPos pos, BlockState state, float damagePerBlock, int maxDamage)
+    {
+        fall(level, pos, state, damagePerBlock, maxDamage, TFCConfig.SERVER.enableBatchedBlockPhysics.get());
+    }
+
+    /**
+     * Starts a block falling from {@code pos}, as {@link #fall(Level, BlockPos, BlockState, float, int)}, but with an explicit choice of if it should be simulated, rather than reading the server config.
+     *
+     * @param batched If the fall should be simulated, where possible.
+     */
+    public static void fall(Level level, BlockPos pos, BlockState state, float damagePerBlock, int maxDamage, boolean batched)
+    {
+        final FallingBlockSimulation simulation = batched && canSimulate(state) ? get(level) : null;
+        if (simulation != null)
+        {
+            simulation.add(pos, state, damagePerBlock, maxDamage);
+        }
+        else
+        {
+            level.addFreshEntity(new TFCFallingBlockEntity(level, pos.getX() + 0.5, pos.getY(), pos.getZ() + 0.5, state, damagePerBlock, maxDamage));
+            Metrics.FALLING_BLOCK_ENTITIES.increment();
+        }
+    }
+
+    /**
+     * Blocks with block entities, or which react to landing, require an actual falling block entity.
+     */
+    public static boolean canSimulate(BlockState state)
+    {
+        return !state.hasBlockEntity() && !(state.getBlock() instanceof IFallableBlock) && !(state.getBlock() instanceof FallingBlock);
+    }
+
+    private static final int FLAGS = Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE;
+
+    private final Long2ObjectMap<Fall> queuedFalls; // Start pos -> fall, in the order they were queued
+
+    public FallingBlockSimulation()
+    {
+        this.queuedFalls = new Long2ObjectLinkedOpenHashMap<>();
+    }
+
+    /**
+     * Queues a block to fall from {@code pos}, which should already be set to {@code state}, when this simulation next ticks.
+     */
+    public void add(BlockPos pos, BlockState state, float damagePerBlock, int maxDamage)
+    {
+        queuedFalls.putIfAbsent(pos.asLong(), new Fall(pos.immutable(), state, damagePerBlock, maxDamage));
+    }
+
+    /**
+     * Resolves every queued fall.
+     */
+    public void tick(ServerLevel level, WorldTracker tracker)
+    {
+        if (queuedFalls.isEmpty())
+        {
+            return;
+        }
+
+        final long start = Metrics.FALLING_BLOCK_SIMULATION.start();
+        final Long2ObjectMap<List<Fall>> fallsByColumn = new Long2ObjectLinkedOpenHashMap<>();
+        for (Fall fall : queuedFalls.values())
+        {
+            fallsByColumn.computeIfAbsent(BlockPos.asLong(fall.pos.getX(), 0, fall.pos.getZ()), key -> new ArrayList<>()).add(fall);
+        }
+        queuedFalls.clear();
+
+        final LongSet changedPositions = new LongLinkedOpenHashSet();
+        final Long2ObjectMap<FallingBlocksPacket> packetsByChunk = new Long2ObjectOpenHashMap<>();
+        for (List<Fall> column : fallsByColumn.values())
+        {
+            column.sort(Comparator.comparingInt(fall -> fall.pos.getY()));
+            for (Fall fall : column)
+            {
+                resolve(level, tracker, fall, changedPositions, packetsByChunk);
+            }
+        }
+
+        // Update neighbors of every changed position once, with their final state
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (long packedPos : changedPositions)
+        {
+            cursor.set(packedPos);
+            final BlockState state = level.getBlockState(cursor);
+            level.blockUpdated(cursor, state.getBlock());
+            state.updateNeighbourShapes(level, cursor, Block.UPDATE_ALL);
+        }
+
+        for (Long2ObjectMap.Entry<FallingBlocksPacket> entry : packetsByChunk.long2ObjectEntrySet())
+        {
+            final ChunkPos chunkPos = new ChunkPos(entry.getLongKey());
+            PacketHandler.send(PacketDistributor.TRACKING_CHUNK.with(() -> level.getChunk(chunkPos.x, chunkPos.z)), entry.getValue());
+        }
+        Metrics.FALLING_BLOCK_SIMULATION.stop(start);
+    }
+
+    /**
+     * Resolves a single fall, following the same rules as {@link TFCFallingBlockEntity#tick()}.
+     */
+    private void resolve(ServerLevel level, WorldTracker tracker, Fall fall, LongSet changedPositions, Long2ObjectMap<FallingBlocksPacket> packetsByChunk)
+    {
+        final BlockState fallingState = fall.state;
+        if (level.getBlockState(fall.pos).getBlock() != fallingState.getBlock())
+        {
+            return; // The block was replaced before it could fall
+        }
+
+        Metrics.SIMULATED_FALLING_BLOCKS.increment();
+        level.setBlock(fall.pos, level.getFluidState(fall.pos).createLegacyBlock(), FLAGS);
+        changedPositions.add(fall.pos.asLong());
+
+        // Fall through every block that can be fallen through. Blocks without collision are passed through, and blocks with collision are broken.
+        final BlockPos.MutableBlockPos cursor = fall.pos.mutable();
+        final BlockPos.MutableBlockPos below = new BlockPos.MutableBlockPos();
+        while (true)
+        {
+            below.setWithOffset(cursor, Direction.DOWN);
+            if (level.isOutsideBuildHeight(below))
+            {
+                return; // Fell out of the world
+            }
+            final BlockState stateBelow = level.getBlockState(below);
+            if (!TFCFallingBlockEntity.canFallThrough(level, below, stateBelow, Direction.DOWN, fallingState))
+            {
+                break;
+            }
+            if (!stateBelow.getCollisionShape(level, below).isEmpty())
+            {
+                level.destroyBlock(below, true);
+            }
+            cursor.set(below);
+        }
+
+        // Break any block the falling block ended up inside
+        final BlockState stateAt = level.getBlockState(cursor);
+        if (!FluidHelpers.isAirOrEmptyFluid(stateAt) && TFCFallingBlockEntity.canFallThrough(level, cursor, stateAt, Direction.DOWN, fallingState))
+        {
+            level.destroyBlock(cursor, true);
+        }
+
+        // An entity would come to rest inside the block below if it's less than a full block tall, so try to place there first, then above, as the entity does
+        BlockPos restPos = cursor.immutable();
+        final BlockPos posBelow = restPos.below();
+        if (level.getBlockState(posBelow).getCollisionShape(level, posBelow).max(Direction.Axis.Y) < 1)
+        {
+            restPos = posBelow;
+        }
+
+        final BlockState hitState = level.getBlockState(restPos);
+        if (!TFCFallingBlockEntity.canPlaceAt(level, hitState, restPos, fallingState, fallingState))
+        {
+            restPos = restPos.above();
+            if (!TFCFallingBlockEntity.canPlaceAt(level, level.getBlockState(restPos), restPos, fallingState, Blocks.BEDROCK.defaultBlockState()))
+            {
+                restPos = null;
+            }
+        }
+
+        final BlockPos landingPos = restPos != null ? restPos : cursor.immutable();
+        final int distance = Math.max(0, fall.pos.getY() - landingPos.getY());
+        if (restPos != null && level.setBlock(restPos, fallingState, FLAGS))
+        {
+            changedPositions.add(restPos.asLong());
+            if (Helpers.isBlock(fallingState, TFCTags.Blocks.CAN_LANDSLIDE))
+            {
+                tracker.addLandslidePos(restPos);
+            }
+            hurtEntities(level, fall, restPos, distance);
+        }
+        else if (level.getGameRules().getBoolean(GameRules.RULE_DOENTITYDROPS))
+        {
+            Helpers.dropWithContext(level, fallingState, landingPos, p -> {}, true);
+        }
+
+        packetsByChunk.computeIfAbsent(ChunkPos.asLong(SectionPos.blockToSectionCoord(fall.pos.getX()), SectionPos.blockToSectionCoord(fall.pos.getZ())), key -> new FallingBlocksPacket(new ChunkPos(key)))
+            .add(fall.pos, distance, fallingState);
+    }
+
+    /**
+     * Damages entities inside the position the block landed in, as a falling block entity does when it lands.
+     */
+    private void hurtEntities(ServerLevel level, Fall fall, BlockPos pos, int distance)
+    {
+        final int damage = Math.min(Mth.floor(Math.max(0, distance - 1) * fall.damagePerBlock), fall.maxDamage);
+        if (damage > 0)
+        {
+            for (Entity entity : level.getEntities((Entity) null, new AABB(pos), EntitySelector.NO_CREATIVE_OR_SPECTATOR.and(EntitySelector.LIVING_ENTITY_STILL_ALIVE)))
+            {
+                entity.hurt(level.damageSources().fallingBlock(null), damage);
+            }
+        }
+    }
+
+    record Fall(BlockPos pos, BlockState state, float damagePerBlock, int maxDamage) {}
+}
@@ -30,6 +30,11 @@ public class TickEntry
         return pos;
     }
 
+    public int getTicks()
+    {
+        return ticks;
+    }
+
     public boolean tick()
     {
         this.ticks--;
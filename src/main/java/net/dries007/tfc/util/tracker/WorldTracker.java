@@ -7,9 +7,17 @@
 package net.dries007.tfc.util.tracker;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import com.mojang.logging.LogUtils;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.LongArrayTag;
@@ -18,8 +26,12 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.Mth;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.SnowLayerBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
@@ -29,39 +41,60 @@ import net.minecraftforge.network.PacketDistributor;
 
 import net.dries007.tfc.client.TFCSounds;
 import net.dries007.tfc.common.TFCTags;
+import net.dries007.tfc.common.blocks.TFCBlocks;
+import net.dries007.tfc.common.blocks.rock.AqueductGraph;
+import net.dries007.tfc.common.blocks.soil.HydrationCache;
+import net.dries007.tfc.common.capabilities.heat.HeatCapability;
+import net.dries007.tfc.common.capabilities.heat.IHeat;
+import net.dries007.tfc.common.entities.ai.livestock.NestBoxIndex;
 import net.dries007.tfc.common.entities.misc.TFCFallingBlockEntity;
+import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.common.recipes.CollapseRecipe;
 import net.dries007.tfc.common.recipes.LandslideRecipe;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.network.PacketHandler;
 import net.dries007.tfc.network.RainfallUpdatePacket;
+import net.dries007.tfc.util.EnvironmentHelpers;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.events.CollapseEvent;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.climate.BiomeBasedClimateModel;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateModel;
-import net.dries007.tfc.util.collections.BufferedList;
+import net.dries007.tfc.util.collections.TickScheduler;
 import net.dries007.tfc.util.loot.TFCLoot;
 import net.dries007.tfc.util.rotation.RotationNetworkManager;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
 
 public class WorldTracker implements ICapabilitySerializable<CompoundTag>
 {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final int LANDSLIDE_DELAY = 2;
+    private static final int COLLAPSE_MIN_DELAY = 5, COLLAPSE_MAX_DELAY = 15;
+
     private final Level level;
     private final Random random;
     private final LazyOptional<WorldTracker> capability;
 
-    private final BufferedList<TickEntry> landslideTicks;
-    private final BufferedList<BlockPos> isolatedPositions;
-    private final List<Collapse> collapsesInProgress;
+    private final TickScheduler landslideTicks;
+    private LongArrayList isolatedPositions;
+    private final PriorityQueue<Collapse> collapsesInProgress;
+    private final List<CompletableFuture<CollapsePlan>> plannedCollapses; // Not serialized, as they are only pending for a few ticks at most
+    private long currentTick;
+    private int environmentCatchUps; // Chunks which have caught up snow and ice on the current tick
 
     private final ClimateModel defaultClimateModel = new BiomeBasedClimateModel();
     @Nullable private ClimateModel climateModel;
 
     private final RotationNetworkManager rotationManager;
+    private final NestBoxIndex nestBoxIndex;
+    private final HydrationCache hydrationCache;
+    private final FallingBlockSimulation fallingBlockSimulation;
+    private final AqueductGraph aqueductGraph;
+    private final Set<ItemEntity> hotItemEntities;
 
     private long rainStartTick, rainEndTick;
     private float rainIntensity;
@@ -72,26 +105,48 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
         this.random = new Random();
         this.capability = LazyOptional.of(() -> this);
         this.climateModel = null;
-        this.landslideTicks = new BufferedList<>();
-        this.isolatedPositions = new BufferedList<>();
-        this.collapsesInProgress = new ArrayList<>();
+        this.landslideTicks = new TickScheduler();
+        this.isolatedPositions = new LongArrayList();
+        this.collapsesInProgress = new PriorityQueue<>(Comparator.comparingLong(collapse -> collapse.nextTick));
+        this.plannedCollapses = new ArrayList<>();
         this.rotationManager = new RotationNetworkManager();
+        this.nestBoxIndex = new NestBoxIndex();
+        this.hydrationCache = new HydrationCache();
+        this.fallingBlockSimulation = new FallingBlockSimulation();
+        this.aqueductGraph = new AqueductGraph();
+        this.hotItemEntities = new ReferenceOpenHashSet<>();
     }
 
     public void addLandslidePos(BlockPos pos)
     {
-        landslideTicks.add(new TickEntry(pos, 2));
+        landslideTicks.schedule(pos.asLong(), LANDSLIDE_DELAY);
     }
 
     public void addIsolatedPos(BlockPos pos)
     {
-        isolatedPositions.add(pos);
+        isolatedPositions.add(pos.asLong());
     }
 
     public void addCollapseData(Collapse collapse)
     {
-        collapsesInProgress.add(collapse);
-        MinecraftForge.EVENT_BUS.post(new CollapseEvent(level, collapse.centerPos, collapse.nextPositions, collapse.radiusSquared, false));
+        scheduleCollapse(collapse);
+        MinecraftForge.EVENT_BUS.post(new CollapseEvent(level, collapse.centerPos, collapse.getNextPositions(), collapse.radiusSquared, false));
+    }
+
+    /**
+     * Adds a collapse which is being planned off the main thread, which will be applied on the first tick after the plan is complete.
+     */
+    public void addPlannedCollapse(CompletableFuture<CollapsePlan> plan)
+    {
+        plannedCollapses.add(plan);
+    }
+
+    /**
+     * Tracks a hot item entity, which will be cooled by the blocks around it, until it is removed or reaches zero temperature. Items are not saved, and must be re-added when they are loaded.
+     */
+    public void addHotItemEntity(ItemEntity entity)
+    {
+        hotItemEntities.add(entity);
     }
 
     public void setClimateModel(ClimateModel climateModel)
@@ -155,61 +210,116 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
         return rotationManager;
     }
 
+    public NestBoxIndex getNestBoxIndex()
+    {
+        return nestBoxIndex;
+    }
+
+    public HydrationCache getHydrationCache()
+    {
+        return hydrationCache;
+    }
+
+    public FallingBlockSimulation getFallingBlockSimulation()
+    {
+        return fallingBlockSimulation;
+    }
+
+    public AqueductGraph getAqueductGraph()
+    {
+        return aqueductGraph;
+    }
+
+    /**
+     * Chunks catching up snow and ice are limited to {@link EnvironmentHelpers#CATCH_UP_CHUNKS_PER_TICK} per tick, so that the start of a month, when every loaded chunk needs to catch up, is spread across many ticks.
+     *
+     * @return {@code true} if another chunk may catch up this tick.
+     */
+    public boolean tryEnvironmentCatchUp()
+    {
+        if (environmentCatchUps < EnvironmentHelpers.CATCH_UP_CHUNKS_PER_TICK)
+        {
+            environmentCatchUps++;
+            return true;
+        }
+        return false;
+    }
+
     public void tick(ServerLevel level)
     {
-        if (!collapsesInProgress.isEmpty() && random.nextInt(10) == 0)
+        currentTick++;
+        environmentCatchUps = 0;
+
+        if (!plannedCollapses.isEmpty())
         {
-            for (Collapse collapse : collapsesInProgress)
-            {
-                Set<BlockPos> updatedPositions = new HashSet<>();
-                for (BlockPos posAt : collapse.nextPositions)
+            // Remove plans first, so applying them can't modify the list while it's being iterated
+            final List<CollapsePlan> completedPlans = new ArrayList<>();
+            plannedCollapses.removeIf(future -> {
+                if (!future.isDone())
+                {
+                    return false;
+                }
+                try
                 {
-                    // Check the current position for collapsing
-                    BlockState stateAt = level.getBlockState(posAt);
-                    if (Helpers.isBlock(stateAt, TFCTags.Blocks.CAN_COLLAPSE) && TFCFallingBlockEntity.canFallInDirection(level, posAt, Direction.DOWN) && posAt.distSqr(collapse.centerPos) < collapse.radiusSquared && random.nextFloat() < TFCConfig.SERVER.collapsePropagateChance.get())
-                    {
-                        if (CollapseRecipe.collapseBlock(level, posAt, stateAt))
-                        {
-                            // This column has started to collapse. Mark the next block above as unstable for the "follow up"
-                            updatedPositions.add(posAt.above());
-                        }
-                    }
+                    completedPlans.add(future.join());
                 }
-                collapse.nextPositions.clear();
-                if (!updatedPositions.isEmpty())
+                catch (CompletionException e)
                 {
-                    level.playSound(null, collapse.centerPos, TFCSounds.ROCK_SLIDE_SHORT.get(), SoundSource.BLOCKS, 0.6f, 1.0f);
-                    collapse.nextPositions.addAll(updatedPositions);
-                    collapse.radiusSquared *= 0.8; // lower radius each successive time
+                    LOGGER.error("Failed to plan collapse", e);
                 }
+                return true;
+            });
+            for (CollapsePlan plan : completedPlans)
+            {
+                CollapseRecipe.applyCollapse(level, plan);
             }
-            collapsesInProgress.removeIf(collapse -> collapse.nextPositions.isEmpty());
         }
 
-        landslideTicks.flush();
-        Iterator<TickEntry> tickIterator = landslideTicks.listIterator();
-        while (tickIterator.hasNext())
+        // Collapses are ordered by their next tick, so only those which are due are visited
+        while (!collapsesInProgress.isEmpty() && collapsesInProgress.peek().nextTick <= currentTick)
         {
-            TickEntry entry = tickIterator.next();
-            if (entry.tick())
+            final Collapse collapse = collapsesInProgress.poll();
+            if (tickCollapse(level, collapse))
             {
-                final BlockState currentState = level.getBlockState(entry.getPos());
-                LandslideRecipe.tryLandslide(level, entry.getPos(), currentState);
-                tickIterator.remove();
+                scheduleCollapse(collapse);
             }
         }
 
-        isolatedPositions.flush();
-        Iterator<BlockPos> isolatedIterator = isolatedPositions.listIterator();
-        while (isolatedIterator.hasNext())
-        {
-            final BlockPos pos = isolatedIterator.next();
+        landslideTicks.tick(packedPos -> {
+            final BlockPos pos = BlockPos.of(packedPos);
             final BlockState currentState = level.getBlockState(pos);
-            if (Helpers.isBlock(currentState.getBlock(), TFCTags.Blocks.BREAKS_WHEN_ISOLATED) && isIsolated(level, pos))
+            LandslideRecipe.tryLandslide(level, pos, currentState);
+        });
+
+        if (!isolatedPositions.isEmpty())
+        {
+            // Swap the list first, so any positions added while breaking blocks are handled on the next tick
+            final LongArrayList positions = isolatedPositions;
+            isolatedPositions = new LongArrayList();
+            for (int i = 0; i < positions.size(); i++)
             {
-                Helpers.destroyBlockAndDropBlocksManually(level, pos, ctx -> ctx.withParameter(TFCLoot.ISOLATED, true));
+                final BlockPos pos = BlockPos.of(positions.getLong(i));
+                final BlockState currentState = level.getBlockState(pos);
+                if (Helpers.isBlock(currentState.getBlock(), TFCTags.Blocks.BREAKS_WHEN_ISOLATED) && isIsolated(level, pos))
+                {
+                    Helpers.destroyBlockAndDropBlocksManually(level, pos, ctx -> ctx.withParameter(TFCLoot.ISOLATED, true));
+                }
+            }
+        }
+
+        // Resolve falls last, so blocks that started falling from collapses and landslides this tick land this tick
+        fallingBlockSimulation.tick(level, this);
+
+        if (!hotItemEntities.isEmpty() && currentTick % TFCConfig.SERVER.ticksBeforeItemCool.get() == 0)
+        {
+            if (TFCConfig.SERVER.coolHotItemEntities.get())
+            {
+                hotItemEntities.removeIf(entity -> !coolHotItemEntity(level, entity));
+            }
+            else
+            {
+                hotItemEntities.clear();
             }
-            isolatedIterator.remove();
         }
     }
 
@@ -234,18 +344,12 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
     @Override
     public CompoundTag serializeNBT()
     {
-        landslideTicks.flush();
-        isolatedPositions.flush();
-
         CompoundTag nbt = new CompoundTag();
         ListTag landslideNbt = new ListTag();
-        for (TickEntry entry : landslideTicks)
-        {
-            landslideNbt.add(entry.serializeNBT());
-        }
+        landslideTicks.forEach((pos, delay) -> landslideNbt.add(new TickEntry(BlockPos.of(pos), delay).serializeNBT()));
         nbt.put("landslideTicks", landslideNbt);
 
-        LongArrayTag isolatedNbt = new LongArrayTag(isolatedPositions.stream().mapToLong(BlockPos::asLong).toArray());
+        LongArrayTag isolatedNbt = new LongArrayTag(isolatedPositions.toLongArray());
         nbt.put("isolatedPositions", isolatedNbt);
 
         ListTag collapseNbt = new ListTag();
@@ -274,16 +378,16 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
             ListTag landslideNbt = nbt.getList("landslideTicks", Tag.TAG_COMPOUND);
             for (int i = 0; i < landslideNbt.size(); i++)
             {
-                landslideTicks.add(new TickEntry(landslideNbt.getCompound(i)));
+                final TickEntry entry = new TickEntry(landslideNbt.getCompound(i));
+                landslideTicks.schedule(entry.getPos().asLong(), entry.getTicks());
             }
 
-            long[] isolatedNbt = nbt.getLongArray("isolatedPositions");
-            Arrays.stream(isolatedNbt).mapToObj(BlockPos::of).forEach(isolatedPositions::add);
+            isolatedPositions.addElements(0, nbt.getLongArray("isolatedPositions"));
 
             ListTag collapseNbt = nbt.getList("collapsesInProgress", Tag.TAG_COMPOUND);
             for (int i = 0; i < collapseNbt.size(); i++)
             {
-                collapsesInProgress.add(new Collapse(collapseNbt.getCompound(i)));
+                scheduleCollapse(new Collapse(collapseNbt.getCompound(i)));
             }
 
             rainStartTick = nbt.getLong("rainStartTick");
@@ -299,6 +403,46 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
         return WorldTrackerCapability.CAPABILITY.orEmpty(cap, capability);
     }
 
+    private void scheduleCollapse(Collapse collapse)
+    {
+        collapse.nextTick = currentTick + COLLAPSE_MIN_DELAY + random.nextInt(1 + COLLAPSE_MAX_DELAY - COLLAPSE_MIN_DELAY);
+        collapsesInProgress.add(collapse);
+    }
+
+    /**
+     * Runs a single step of a collapse in progress.
+     *
+     * @return {@code true} if the collapse propagated, and should be scheduled to run again.
+     */
+    private boolean tickCollapse(ServerLevel level, Collapse collapse)
+    {
+        final LongSet updatedPositions = new LongOpenHashSet();
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (int i = 0; i < collapse.nextPositions.size(); i++)
+        {
+            // Check the current position for collapsing
+            cursor.set(collapse.nextPositions.getLong(i));
+            final BlockState stateAt = level.getBlockState(cursor);
+            if (Helpers.isBlock(stateAt, TFCTags.Blocks.CAN_COLLAPSE) && TFCFallingBlockEntity.canFallInDirection(level, cursor, Direction.DOWN) && cursor.distSqr(collapse.centerPos) < collapse.radiusSquared && random.nextFloat() < TFCConfig.SERVER.collapsePropagateChance.get())
+            {
+                if (CollapseRecipe.collapseBlock(level, cursor.immutable(), stateAt))
+                {
+                    // This column has started to collapse. Mark the next block above as unstable for the "follow up"
+                    updatedPositions.add(BlockPos.offset(cursor.asLong(), Direction.UP));
+                }
+            }
+        }
+        collapse.nextPositions.clear();
+        if (!updatedPositions.isEmpty())
+        {
+            level.playSound(null, collapse.centerPos, TFCSounds.ROCK_SLIDE_SHORT.get(), SoundSource.BLOCKS, 0.6f, 1.0f);
+            collapse.nextPositions.addAll(updatedPositions);
+            collapse.radiusSquared *= 0.8; // lower radius each successive time
+            return true;
+        }
+        return false;
+    }
+
     private float exactRainfallIntensity(long tick)
     {
         final float progress = Mth.clamp(Helpers.inverseLerp(tick, rainStartTick, rainEndTick), 0, 1);
@@ -306,6 +450,92 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
         return rainIntensity * 0.5f + progressFactor;
     }
 
+    /**
+     * Cools a hot item entity based on the blocks it is in, or on top of, which may in turn melt or evaporate.
+     *
+     * @return {@code true} if the item entity should continue to be tracked.
+     */
+    private boolean coolHotItemEntity(ServerLevel level, ItemEntity entity)
+    {
+        if (entity.isRemoved())
+        {
+            return false;
+        }
+
+        final ItemStack stack = entity.getItem();
+        final IHeat heat = HeatCapability.get(stack);
+        if (heat == null || heat.getTemperature() <= 0f)
+        {
+            return false;
+        }
+
+        final BlockPos pos = entity.blockPosition();
+        final BlockState state = level.getBlockState(pos);
+        float coolAmount = 0;
+        if (FluidHelpers.canFluidExtinguishFire(state.getFluidState().getType()))
+        {
+            coolAmount = 50f;
+            if (level.random.nextFloat() < 0.001F && FluidHelpers.isAirOrEmptyFluid(state))
+            {
+                level.setBlockAndUpdate(pos, Blocks.AIR.defaultBlockState());
+            }
+        }
+        else if (Helpers.isBlock(state, Blocks.SNOW))
+        {
+            coolAmount = 70f;
+            if (level.random.nextFloat() < 0.1F)
+            {
+                final int layers = state.getValue(SnowLayerBlock.LAYERS);
+                if (layers > 1)
+                {
+                    level.destroyBlock(pos, false);
+                    level.setBlockAndUpdate(pos, state.setValue(SnowLayerBlock.LAYERS, layers - 1));
+                }
+                else
+                {
+                    level.setBlockAndUpdate(pos, Blocks.AIR.defaultBlockState());
+                }
+            }
+        }
+        else
+        {
+            final BlockPos belowPos = pos.below();
+            final BlockState belowState = level.getBlockState(belowPos);
+            if (Helpers.isBlock(belowState, Blocks.SNOW_BLOCK))
+            {
+                coolAmount = 75f;
+                if (level.random.nextFloat() < 0.1F)
+                {
+                    level.destroyBlock(belowPos, false);
+                }
+            }
+            else if (belowState.getBlock() == Blocks.ICE || belowState.getBlock() == Blocks.FROSTED_ICE)
+            {
+                coolAmount = 100f;
+                if (level.random.nextFloat() < 0.01F)
+                {
+                    level.setBlockAndUpdate(belowPos, Helpers.isBlock(belowState, TFCBlocks.SEA_ICE.get()) ? TFCBlocks.SALT_WATER.get().defaultBlockState() : Blocks.WATER.defaultBlockState());
+                }
+            }
+            else if (belowState.getBlock() == Blocks.PACKED_ICE || belowState.getBlock() == Blocks.BLUE_ICE)
+            {
+                coolAmount = 125f;
+                if (level.random.nextFloat() < 0.005F)
+                {
+                    level.setBlockAndUpdate(belowPos, Blocks.WATER.defaultBlockState());
+                }
+            }
+        }
+
+        if (coolAmount > 0f)
+        {
+            heat.setTemperature(Math.max(0f, heat.getTemperature() - coolAmount));
+            Helpers.playSound(level, pos, TFCSounds.ITEM_COOL.get());
+            level.sendParticles(ParticleTypes.SMOKE, entity.getX(), entity.getY(), entity.getZ(), 1, 0D, 0D, 0D, 1f);
+        }
+        return heat.getTemperature() > 0f;
+    }
+
     private boolean isIsolated(LevelAccessor level, BlockPos pos)
     {
         for (Direction direction : Helpers.DIRECTIONS)
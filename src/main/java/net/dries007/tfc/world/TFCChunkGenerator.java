@@ -6,7 +6,9 @@
 
 package net.dries007.tfc.world;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashSet;
@@ -14,7 +16,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
 import java.util.function.UnaryOperator;
@@ -77,6 +81,10 @@ import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
 import net.minecraft.world.level.levelgen.blending.Blender;
 import net.minecraft.world.level.levelgen.carver.CarvingContext;
 import net.minecraft.world.level.levelgen.carver.ConfiguredWorldCarver;
+import net.minecraft.world.level.levelgen.feature.ConfiguredFeature;
+import net.minecraft.world.level.levelgen.feature.Feature;
+import net.minecraft.world.level.levelgen.feature.configurations.FeatureConfiguration;
+import net.minecraft.world.level.levelgen.placement.BiomeFilter;
 import net.minecraft.world.level.levelgen.placement.PlacedFeature;
 import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.levelgen.structure.Structure;
@@ -84,6 +92,7 @@ import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemp
 import net.minecraftforge.registries.DeferredRegister;
 import org.jetbrains.annotations.Nullable;
 
+import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.mixin.accessor.ChunkAccessAccessor;
 import net.dries007.tfc.mixin.accessor.ChunkGeneratorAccessor;
 import net.dries007.tfc.mixin.accessor.ChunkMapAccessor;
@@ -97,6 +106,7 @@ import net.dries007.tfc.world.chunkdata.ChunkDataGenerator;
 import net.dries007.tfc.world.chunkdata.ChunkDataProvider;
 import net.dries007.tfc.world.chunkdata.RegionChunkDataGenerator;
 import net.dries007.tfc.world.chunkdata.RockData;
+import net.dries007.tfc.world.feature.SectionBoundedFeature;
 import net.dries007.tfc.world.layer.TFCLayers;
 import net.dries007.tfc.world.layer.framework.AreaFactory;
 import net.dries007.tfc.world.layer.framework.ConcurrentArea;
@@ -125,6 +135,8 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
     public static final int SEA_LEVEL_Y = 63; // Matches vanilla
     public static final Kernel KERNEL_9x9 = Kernel.create((x, z) -> 0.0211640211641D * (1 - 0.03125D * (z * z + x * x)), 4);
 
+    private static final int MAX_CACHED_BIOME_SETS = 4096; // Bounds the feature index cache, in case of an unusually large number of biomes
+
     static
     {
         CHUNK_GENERATOR.register("overworld", () -> CODEC);
@@ -295,6 +307,8 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
 
     private final NoiseBasedChunkGenerator stupidMojangChunkGenerator; // Mojang fix your god awful deprecated carver nonsense
     private final FastConcurrentCache<TFCAquifer> aquiferCache;
+    private final Map<Set<Biome>, int[][]> featureIndicesByAdjacentBiomes; // Sorted feature indices for each decoration step, see getFeatureIndicesByStep()
+    private volatile @Nullable StructuresByStep structuresByStep;
 
     private ChunkDataProvider chunkDataProvider;
     private long noiseSamplerSeed;
@@ -311,6 +325,7 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
 
         this.stupidMojangChunkGenerator = new NoiseBasedChunkGenerator(biomeSource.self(), noiseSettings);
         this.aquiferCache = new FastConcurrentCache<>(256);
+        this.featureIndicesByAdjacentBiomes = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -467,9 +482,7 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         final SectionPos sectionPos = SectionPos.of(chunkPos, level.getMinSection());
         final BlockPos originPos = sectionPos.origin();
 
-        final Registry<Structure> structureFeatures = level.registryAccess().registryOrThrow(Registries.STRUCTURE);
-        final Map<Integer, List<Structure>> structureFeaturesByStep = structureFeatures.stream()
-            .collect(Collectors.groupingBy(feature -> feature.step().ordinal()));
+        final Map<Integer, List<Structure>> structureFeaturesByStep = getStructuresByStep(level.registryAccess().registryOrThrow(Registries.STRUCTURE));
 
         final List<FeatureSorter.StepFeatureData> orderedFeatures = ((ChunkGeneratorAccessor) this).accessor$getFeaturesPerStep().get();
         final WorldgenRandom random = new WorldgenRandom(new XoroshiroRandomSource(RandomSupport.generateUniqueSeed()));
@@ -483,6 +496,8 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
                 adjSection.getBiomes().getAll(biome -> allAdjacentBiomes.add(biome.value()));
             }
         });
+        final int[][] featureIndicesByStep = getFeatureIndicesByStep(level, allAdjacentBiomes, orderedFeatures);
+        final boolean parallel = Helpers.getValueOrDefault(TFCConfig.SERVER.enableParallelFeaturePlacement);
 
         for (int decorationIndex = 0; decorationIndex < Math.max(DECORATION_STEPS, orderedFeatures.size()); ++decorationIndex)
         {
@@ -502,32 +517,7 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
 
             if (decorationIndex < orderedFeatures.size())
             {
-                final IntSet featureIndices = new IntArraySet();
-                for (Biome biome : allAdjacentBiomes)
-                {
-                    List<HolderSet<PlacedFeature>> featuresPerBiome = TFCBiomes.getExtensionOrThrow(level, biome).getFlattenedFeatures(biome);
-                    if (decorationIndex < featuresPerBiome.size())
-                    {
-                        final HolderSet<PlacedFeature> featuresPerBiomeAtStep = featuresPerBiome.get(decorationIndex);
-                        final FeatureSorter.StepFeatureData stepIndex = orderedFeatures.get(decorationIndex);
-                        for (Holder<PlacedFeature> holder : featuresPerBiomeAtStep)
-                        {
-                            featureIndices.add(stepIndex.indexMapping().applyAsInt(holder.value()));
-                        }
-                    }
-                }
-
-                final int[] sortedIndices = featureIndices.toIntArray();
-                final FeatureSorter.StepFeatureData step = orderedFeatures.get(decorationIndex);
-
-                Arrays.sort(sortedIndices);
-                for (int featureIndex : sortedIndices)
-                {
-                    Helpers.seedLargeFeatures(random, baseSeed, featureIndex, decorationIndex);
-                    step.features()
-                        .get(featureIndex)
-                        .placeWithBiomeCheck(level, this, random, originPos);
-                }
+                placeFeatures(level, this, orderedFeatures.get(decorationIndex).features(), featureIndicesByStep[decorationIndex], random, baseSeed, decorationIndex, originPos, parallel);
             }
         }
 
@@ -764,8 +754,142 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         return builder;
     }
 
+    /**
+     * Structures, grouped by the ordinal of their decoration step. This is computed once, rather than for every chunk, as the structure registry does not change while a level is loaded.
+     */
+    private Map<Integer, List<Structure>> getStructuresByStep(Registry<Structure> registry)
+    {
+        final StructuresByStep cached = structuresByStep;
+        if (cached != null && cached.registry() == registry)
+        {
+            return cached.structures();
+        }
+        final Map<Integer, List<Structure>> structures = registry.stream().collect(Collectors.groupingBy(feature -> feature.step().ordinal()));
+        structuresByStep = new StructuresByStep(registry, structures);
+        return structures;
+    }
+
+    /**
+     * @return The indices of the features placed in each decoration step, in a chunk with the given adjacent biomes, sorted so they are placed in a fixed order.
+     * Most chunks share one of a small number of sets of adjacent biomes, so this is cached by the set of biomes, rather than collected from every biome for every chunk.
+     */
+    private int[][] getFeatureIndicesByStep(WorldGenLevel level, Set<Biome> adjacentBiomes, List<FeatureSorter.StepFeatureData> orderedFeatures)
+    {
+        final int[][] cached = featureIndicesByAdjacentBiomes.get(adjacentBiomes);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final int[][] featureIndicesByStep = new int[orderedFeatures.size()][];
+        for (int decorationIndex = 0; decorationIndex < orderedFeatures.size(); decorationIndex++)
+        {
+            final IntSet featureIndices = new IntArraySet();
+            final FeatureSorter.StepFeatureData stepIndex = orderedFeatures.get(decorationIndex);
+            for (Biome biome : adjacentBiomes)
+            {
+                final List<HolderSet<PlacedFeature>> featuresPerBiome = TFCBiomes.getExtensionOrThrow(level, biome).getFlattenedFeatures(biome);
+                if (decorationIndex < featuresPerBiome.size())
+                {
+                    for (Holder<PlacedFeature> holder : featuresPerBiome.get(decorationIndex))
+                    {
+                        featureIndices.add(stepIndex.indexMapping().applyAsInt(holder.value()));
+                    }
+                }
+            }
+
+            final int[] sortedIndices = featureIndices.toIntArray();
+            Arrays.sort(sortedIndices);
+            featureIndicesByStep[decorationIndex] = sortedIndices;
+        }
+
+        if (featureIndicesByAdjacentBiomes.size() < MAX_CACHED_BIOME_SETS)
+        {
+            featureIndicesByAdjacentBiomes.put(Set.copyOf(adjacentBiomes), featureIndicesByStep);
+        }
+        return featureIndicesByStep;
+    }
+
+    /**
+     * Places the features of a single decoration step in a chunk, in the order of {@code featureIndices}, each seeded by its index via {@link Helpers#seedLargeFeatures}.
+     * <p>
+     * If {@code parallel}, consecutive features which declare a footprint via {@link SectionBoundedFeature}, whose footprints are in different chunk sections, are placed at the same time on a fork join pool. Every other feature is placed alone, once all features before it are placed. As features placed at the same time only modify their own sections of the chunk, and each has its own random, seeded the same as it would be when placed in order, the chunk is identical to placing every feature in order.
+     */
+    public static void placeFeatures(WorldGenLevel level, ChunkGenerator generator, List<PlacedFeature> features, int[] featureIndices, WorldgenRandom random, long baseSeed, int decorationIndex, BlockPos originPos, boolean parallel)
+    {
+        final List<ForkJoinTask<?>> batch = new ArrayList<>();
+        final BitSet batchSections = new BitSet(); // Indexed by section index in the chunk
+        for (int featureIndex : featureIndices)
+        {
+            final PlacedFeature feature = features.get(featureIndex);
+            final BoundingBox footprint = parallel ? getFootprint(feature) : null;
+            if (footprint != null)
+            {
+                final int minSection = level.getSectionIndex(Math.max(footprint.minY(), level.getMinBuildHeight()));
+                final int maxSection = level.getSectionIndex(Math.min(footprint.maxY(), level.getMaxBuildHeight() - 1));
+                final BitSet sections = new BitSet();
+                if (minSection <= maxSection)
+                {
+                    sections.set(minSection, maxSection + 1);
+                }
+                if (sections.intersects(batchSections))
+                {
+                    placeBatch(batch, batchSections);
+                }
+                batch.add(ForkJoinTask.adapt(() -> {
+                    final WorldgenRandom featureRandom = new WorldgenRandom(new XoroshiroRandomSource(0));
+                    Helpers.seedLargeFeatures(featureRandom, baseSeed, featureIndex, decorationIndex);
+                    feature.placeWithBiomeCheck(level, generator, featureRandom, originPos);
+                }));
+                batchSections.or(sections);
+            }
+            else
+            {
+                placeBatch(batch, batchSections);
+                Helpers.seedLargeFeatures(random, baseSeed, featureIndex, decorationIndex);
+                feature.placeWithBiomeCheck(level, generator, random, originPos);
+            }
+        }
+        placeBatch(batch, batchSections);
+    }
+
+    private static void placeBatch(List<ForkJoinTask<?>> batch, BitSet batchSections)
+    {
+        if (!batch.isEmpty())
+        {
+            ForkJoinTask.invokeAll(batch);
+            batch.clear();
+            batchSections.clear();
+        }
+    }
+
+    /**
+     * @return The footprint of {@code feature} in a chunk, if it is a {@link SectionBoundedFeature}. Placement modifiers, other than biome filters, may move the feature out of the chunk, so only features placed directly at the chunk origin are bounded.
+     */
+    @Nullable
+    private static BoundingBox getFootprint(PlacedFeature feature)
+    {
+        for (var modifier : feature.placement())
+        {
+            if (!(modifier instanceof BiomeFilter))
+            {
+                return null;
+            }
+        }
+        return getFootprint(feature.feature().value());
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <C extends FeatureConfiguration, F extends Feature<C>> BoundingBox getFootprint(ConfiguredFeature<C, F> feature)
+    {
+        return feature.feature() instanceof SectionBoundedFeature<?> bounded ? ((SectionBoundedFeature<C>) bounded).getFootprint(feature.config()) : null;
+    }
+
     private TFCChunkGenerator copy()
     {
         return new TFCChunkGenerator(customBiomeSource.copy(), noiseSettings, settings);
     }
-}
\ No newline at end of file
+
+    private record StructuresByStep(Registry<Structure> registry, Map<Integer, List<Structure>> structures) {}
+}
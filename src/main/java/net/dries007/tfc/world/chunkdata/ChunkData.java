@@ -23,6 +23,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.network.ChunkWatchPacket;
+import net.dries007.tfc.util.climate.ClimateColorGrid;
+import net.dries007.tfc.util.climate.ClimateSnapshot;
 
 import static net.dries007.tfc.TerraFirmaCraft.*;
 
@@ -80,6 +82,10 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
     private ForestType forestType;
     private float forestWeirdness;
     private float forestDensity;
+    private long environmentMonth; // The calendar month snow and ice were last caught up in, or -1 if they never have been
+
+    @Nullable private ClimateSnapshot climateSnapshot; // Not serialized, rebuilt on demand by the climate model
+    @Nullable private ClimateColorGrid climateColorGrid; // Not serialized, only used on client, rebuilt on demand
 
     public ChunkData(ChunkPos pos)
     {
@@ -94,6 +100,7 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
         this.status = Status.EMPTY;
         this.rockData = new RockData(generator);
         this.forestType = ForestType.NONE;
+        this.environmentMonth = -1;
     }
 
     public ChunkPos getPos()
@@ -150,6 +157,42 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
         return forestDensity;
     }
 
+    /**
+     * @return The total calendar month in which snow and ice in this chunk were last caught up to the climate, or {@code -1} if they never have been.
+     * @see net.dries007.tfc.util.EnvironmentHelpers#catchUpChunk
+     */
+    public long getEnvironmentMonth()
+    {
+        return environmentMonth;
+    }
+
+    public void setEnvironmentMonth(long environmentMonth)
+    {
+        this.environmentMonth = environmentMonth;
+    }
+
+    @Nullable
+    public ClimateSnapshot getClimateSnapshot()
+    {
+        return climateSnapshot;
+    }
+
+    public void setClimateSnapshot(ClimateSnapshot climateSnapshot)
+    {
+        this.climateSnapshot = climateSnapshot;
+    }
+
+    @Nullable
+    public ClimateColorGrid getClimateColorGrid()
+    {
+        return climateColorGrid;
+    }
+
+    public void setClimateColorGrid(ClimateColorGrid climateColorGrid)
+    {
+        this.climateColorGrid = climateColorGrid;
+    }
+
     public Status status()
     {
         return status;
@@ -200,6 +243,8 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
         this.forestType = forestType;
         this.forestDensity = forestDensity;
         this.forestWeirdness = forestWeirdness;
+        this.climateSnapshot = null;
+        this.climateColorGrid = null;
 
         switch (status)
         {
@@ -238,6 +283,7 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
             nbt.putFloat("forestWeirdness", forestWeirdness);
             nbt.putFloat("forestDensity", forestDensity);
         }
+        nbt.putLong("environmentMonth", environmentMonth);
         return nbt;
     }
 
@@ -260,6 +306,7 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
             forestWeirdness = nbt.getFloat("forestWeirdness");
             forestDensity = nbt.getFloat("forestDensity");
         }
+        environmentMonth = nbt.contains("environmentMonth") ? nbt.getLong("environmentMonth") : -1;
     }
 
     @Override
@@ -306,6 +353,15 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
         @Override
         public void deserializeNBT(CompoundTag nbt) { error(); }
 
+        @Override
+        public void setClimateSnapshot(ClimateSnapshot climateSnapshot) {} // The empty instance is shared between all positions, so it cannot cache anything
+
+        @Override
+        public void setClimateColorGrid(ClimateColorGrid climateColorGrid) {}
+
+        @Override
+        public void setEnvironmentMonth(long environmentMonth) { error(); }
+
         @Override
         public String toString()
         {
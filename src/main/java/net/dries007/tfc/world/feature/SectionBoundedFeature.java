@@ -0,0 +1,27 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.feature;
+
+import net.minecraft.world.level.levelgen.feature.configurations.FeatureConfiguration;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.world.TFCChunkGenerator;
+
+/**
+ * A feature which declares the region of a chunk it may modify, so it can be placed at the same time as other features whose regions are in different chunk sections. This is only used when {@link net.dries007.tfc.config.ServerConfig#enableParallelFeaturePlacement} is enabled, see {@link TFCChunkGenerator#placeFeatures}.
+ * <p>
+ * When placed at the origin of a chunk, a bounded feature must only read and write blocks within its footprint, in that chunk. It may read biomes anywhere, as they are not modified by features. The blocks it places must not have block entities, or need post processing, and must not change any heightmap, i.e. they may only replace solid blocks with other solid blocks.
+ */
+public interface SectionBoundedFeature<C extends FeatureConfiguration>
+{
+    /**
+     * @return The region this feature may read and write, in coordinates relative to the chunk, or {@code null} if it cannot be bounded with this config.
+     */
+    @Nullable
+    BoundingBox getFootprint(C config);
+}
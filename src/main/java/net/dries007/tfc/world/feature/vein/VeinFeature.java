@@ -30,8 +30,9 @@ import org.jetbrains.annotations.Nullable;
 import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.util.EnvironmentHelpers;
 import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.world.feature.SectionBoundedFeature;
 
-public abstract class VeinFeature<C extends IVeinConfig, V extends IVein> extends Feature<C>
+public abstract class VeinFeature<C extends IVeinConfig, V extends IVein> extends Feature<C> implements SectionBoundedFeature<C>
 {
     private static final int MAX_VEIN_Y_NO_ORE_PLACED = Integer.MIN_VALUE;
 
@@ -62,6 +63,20 @@ public abstract class VeinFeature<C extends IVeinConfig, V extends IVein> extend
         return false;
     }
 
+    /**
+     * Ore placement only replaces rock within the vein's y range, in the chunk being placed. Indicators may be placed in neighboring chunks and on the surface, and both projected veins, and veins near lava, read blocks outside that range, so those cannot be bounded.
+     */
+    @Nullable
+    @Override
+    public BoundingBox getFootprint(C config)
+    {
+        if (config.indicator() != null || config.config().projectToSurface() || config.config().nearLava())
+        {
+            return null;
+        }
+        return new BoundingBox(0, config.minY(), 0, 15, config.maxY(), 15);
+    }
+
     public final List<V> getNearbyVeins(WorldGenLevel level, WorldGenerationContext context, ChunkPos pos, int radius, C config, Function<BlockPos, Holder<Biome>> biomeQuery)
     {
         final List<V> veins = new ArrayList<>();
@@ -15,6 +15,7 @@ import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
 import org.jetbrains.annotations.TestOnly;
 import org.jetbrains.annotations.VisibleForTesting;
 
+import net.dries007.tfc.util.metrics.Metrics;
 import net.dries007.tfc.world.FastConcurrentCache;
 import net.dries007.tfc.world.layer.TFCLayers;
 import net.dries007.tfc.world.layer.framework.Area;
@@ -113,9 +114,14 @@ public class RegionGenerator
         RegionPartition entry = partitionCache.getIfPresent(cellX, cellZ);
         if (entry == null)
         {
+            Metrics.PARTITION_CACHE_MISSES.increment();
             entry = createPartition(cellX, cellZ);
             partitionCache.set(cellX, cellZ, entry);
         }
+        else
+        {
+            Metrics.PARTITION_CACHE_HITS.increment();
+        }
         return entry;
     }
 
@@ -176,9 +182,14 @@ public class RegionGenerator
         Region entry = cellCache.getIfPresent(cellX, cellZ);
         if (entry == null)
         {
+            Metrics.REGION_CACHE_MISSES.increment();
             entry = createRegion(cell, (id, r) -> {});
             cellCache.set(cellX, cellZ, entry);
         }
+        else
+        {
+            Metrics.REGION_CACHE_HITS.increment();
+        }
         return entry;
     }
 
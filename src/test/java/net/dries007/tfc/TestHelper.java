@@ -7,6 +7,9 @@
 package net.dries007.tfc;
 
 import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
 import net.minecraft.DetectedVersion;
@@ -18,12 +21,15 @@ import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.CraftingContainer;
 import net.minecraft.world.inventory.TransientCraftingContainer;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraftforge.registries.GameData;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeAll;
 
 import net.dries007.tfc.common.recipes.ingredients.TFCIngredients;
 import net.dries007.tfc.common.recipes.outputs.ItemStackModifiers;
+import net.dries007.tfc.world.settings.RockLayerSettings;
+import net.dries007.tfc.world.settings.RockSettings;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -73,6 +79,22 @@ public class TestHelper
         return seed;
     }
 
+    /**
+     * @return Rock layer settings with a single rock, used for every layer. Requires {@link #bootstrap()}.
+     */
+    public static RockLayerSettings rockLayerSettings()
+    {
+        return new RockLayerSettings.Data(
+            Map.of("rock", new RockSettings(Blocks.STONE, Blocks.DEEPSLATE, null, null, null, null, Optional.empty(), Optional.empty(), Optional.empty())),
+            List.of("rock"),
+            List.of(new RockLayerSettings.LayerData("base", Map.of("rock", "bottom"))),
+            List.of("base"),
+            List.of("base"),
+            List.of("base"),
+            List.of("base")
+        ).parse();
+    }
+
     public static CraftingContainer mock(int width, int height)
     {
         return new TransientCraftingContainer(new AbstractContainerMenu(null, 0) {
@@ -0,0 +1,233 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.drawing;
+
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import net.dries007.tfc.Artist;
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.util.metrics.Counter;
+import net.dries007.tfc.util.metrics.Metrics;
+import net.dries007.tfc.world.BiomeNoiseSampler;
+import net.dries007.tfc.world.biome.BiomeExtension;
+import net.dries007.tfc.world.chunkdata.ChunkData;
+import net.dries007.tfc.world.chunkdata.RegionChunkDataGenerator;
+import net.dries007.tfc.world.layer.TFCLayers;
+import net.dries007.tfc.world.layer.framework.Area;
+import net.dries007.tfc.world.layer.framework.AreaFactory;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.settings.Settings;
+
+/**
+ * A headless throughput harness for world generation. For a fixed seed, this generates every chunk in a square area on a number of threads: regions, chunk data via {@link RegionChunkDataGenerator}, and the biome layer and biome height noise of each column. It reports chunks per second, the allocation rate, and the hit rates of the region caches, as JSON, so runs can be compared between commits.
+ * <p>
+ * Run with {@code ./gradlew worldgenThroughput}, which accepts the following properties (via {@code -P}):
+ * <ul>
+ *     <li>{@code tfc.worldgen.seed}: The world seed (default {@code 0})</li>
+ *     <li>{@code tfc.worldgen.radius}: The radius of the area, in chunks (default {@code 64}, i.e. 129 x 129 chunks)</li>
+ *     <li>{@code tfc.worldgen.threads}: The number of threads (default: the number of available processors)</li>
+ *     <li>{@code tfc.worldgen.output}: The path to write the JSON results to (default {@code worldgen_throughput.json})</li>
+ *     <li>{@code tfc.worldgen.draw}: If {@code true}, also draws the biomes of the generated area, using {@link Artist}</li>
+ * </ul>
+ */
+@EnabledIfSystemProperty(named = "tfc.worldgen.throughput", matches = "true")
+public class WorldGenThroughputTest extends TestHelper
+{
+    @Test
+    public void testWorldGenThroughput() throws Exception
+    {
+        final long seed = Long.getLong("tfc.worldgen.seed", 0);
+        final int radius = Integer.getInteger("tfc.worldgen.radius", 64);
+        final int threads = Integer.getInteger("tfc.worldgen.threads", Runtime.getRuntime().availableProcessors());
+        final Path output = Path.of(System.getProperty("tfc.worldgen.output", "worldgen_throughput.json"));
+        final boolean draw = Boolean.getBoolean("tfc.worldgen.draw");
+
+        final int width = 1 + 2 * radius;
+        final int chunks = width * width;
+        final int[] biomes = new int[chunks];
+
+        // Construct the generators in the same order as TFCChunkGenerator does
+        final XoroshiroRandomSource random = new XoroshiroRandomSource(seed);
+        final RegionGenerator regionGenerator = new RegionGenerator(new Settings(false, 0, 0, 0, 20_000, 0, 20_000, 0, rockLayerSettings(), 0.5f, 0.5f), random);
+        final RegionChunkDataGenerator chunkDataGenerator = RegionChunkDataGenerator.create(random.nextLong(), rockLayerSettings(), regionGenerator);
+        final AreaFactory biomeLayer = TFCLayers.createRegionBiomeLayer(regionGenerator, random.nextLong());
+
+        Metrics.enableWithoutServer();
+
+        final AtomicInteger nextChunk = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<Worker>> futures = new ArrayList<>();
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < threads; i++)
+        {
+            futures.add(executor.submit(() -> {
+                final Worker worker = new Worker(chunkDataGenerator, biomeLayer.get(), seed);
+                worker.run(nextChunk, chunks, width, radius, biomes);
+                return worker;
+            }));
+        }
+
+        final List<Worker> workers = new ArrayList<>();
+        for (Future<Worker> future : futures)
+        {
+            workers.add(future.get());
+        }
+        final long elapsedNanos = System.nanoTime() - startNanos;
+        executor.shutdown();
+
+        final double seconds = elapsedNanos / 1e9;
+        long allocatedBytes = 0, chunkDataNanos = 0, biomeNanos = 0;
+        double heightSum = 0;
+        for (Worker worker : workers)
+        {
+            allocatedBytes = allocatedBytes < 0 || worker.allocatedBytes < 0 ? -1 : allocatedBytes + worker.allocatedBytes;
+            chunkDataNanos += worker.chunkDataNanos;
+            biomeNanos += worker.biomeNanos;
+            heightSum += worker.heightSum;
+        }
+
+        final JsonObject json = new JsonObject();
+        json.addProperty("seed", seed);
+        json.addProperty("radius", radius);
+        json.addProperty("threads", threads);
+        json.addProperty("chunks", chunks);
+        json.addProperty("seconds", seconds);
+        json.addProperty("chunksPerSecond", chunks / seconds);
+        json.addProperty("allocatedBytes", allocatedBytes);
+        json.addProperty("allocatedBytesPerSecond", allocatedBytes >= 0 ? allocatedBytes / seconds : -1);
+        json.addProperty("allocatedBytesPerChunk", allocatedBytes >= 0 ? (double) allocatedBytes / chunks : -1);
+        json.addProperty("chunkDataMillis", chunkDataNanos / 1e6); // Summed over all threads
+        json.addProperty("biomeNoiseMillis", biomeNanos / 1e6);
+        json.addProperty("averageHeight", heightSum / (chunks * 16 * 16)); // A sanity check that the same terrain was sampled
+        json.addProperty("regionCacheHitRate", hitRate(Metrics.REGION_CACHE_HITS, Metrics.REGION_CACHE_MISSES));
+        json.addProperty("regionCacheMisses", Metrics.REGION_CACHE_MISSES.count());
+        json.addProperty("partitionCacheHitRate", hitRate(Metrics.PARTITION_CACHE_HITS, Metrics.PARTITION_CACHE_MISSES));
+        json.addProperty("partitionCacheMisses", Metrics.PARTITION_CACHE_MISSES.count());
+
+        final String result = new GsonBuilder().setPrettyPrinting().create().toJson(json);
+        System.out.println(result);
+        try (Writer writer = Files.newBufferedWriter(output))
+        {
+            writer.write(result);
+        }
+
+        if (draw)
+        {
+            Artist.raw()
+                .dimensionsSized(width)
+                .draw("worldgen_throughput_biomes", Artist.Pixel.coerceInt((x, z) -> RegionGeneratorTest.biomeColor(biomes[x + width * z])));
+        }
+    }
+
+    private static double hitRate(Counter hits, Counter misses)
+    {
+        final long total = hits.count() + misses.count();
+        return total == 0 ? 0 : (double) hits.count() / total;
+    }
+
+    static final class Worker
+    {
+        private final RegionChunkDataGenerator chunkDataGenerator;
+        private final Area biomeArea; // Areas are not thread safe, so each worker has its own
+        private final long seed;
+        private final Map<BiomeExtension, BiomeNoiseSampler> noiseSamplers;
+
+        long allocatedBytes;
+        long chunkDataNanos;
+        long biomeNanos;
+        double heightSum;
+
+        Worker(RegionChunkDataGenerator chunkDataGenerator, Area biomeArea, long seed)
+        {
+            this.chunkDataGenerator = chunkDataGenerator;
+            this.biomeArea = biomeArea;
+            this.seed = seed;
+            this.noiseSamplers = new IdentityHashMap<>();
+        }
+
+        void run(AtomicInteger nextChunk, int chunks, int width, int radius, int[] biomes)
+        {
+            final long allocatedBefore = allocatedBytes();
+            int index;
+            while ((index = nextChunk.getAndIncrement()) < chunks)
+            {
+                final ChunkPos pos = new ChunkPos(index % width - radius, index / width - radius);
+
+                final long start = System.nanoTime();
+                chunkDataGenerator.generate(new ChunkData(chunkDataGenerator, pos));
+                final long mid = System.nanoTime();
+                biomes[index] = sampleBiomes(pos);
+                final long end = System.nanoTime();
+
+                chunkDataNanos += mid - start;
+                biomeNanos += end - mid;
+            }
+            final long allocatedAfter = allocatedBytes();
+            allocatedBytes = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+        }
+
+        /**
+         * Samples the biome of each quart, and the height noise of that biome at each column, as the chunk generator does before blending.
+         *
+         * @return The biome layer id at the center of the chunk.
+         */
+        private int sampleBiomes(ChunkPos pos)
+        {
+            final int minQuartX = pos.x << 2, minQuartZ = pos.z << 2;
+            for (int quartX = 0; quartX < 4; quartX++)
+            {
+                for (int quartZ = 0; quartZ < 4; quartZ++)
+                {
+                    final BiomeExtension biome = TFCLayers.getFromLayerId(biomeArea.get(minQuartX + quartX, minQuartZ + quartZ));
+                    final @Nullable BiomeNoiseSampler sampler = noiseSamplers.computeIfAbsent(biome, key -> key.createNoiseSampler(seed));
+                    if (sampler != null)
+                    {
+                        for (int dx = 0; dx < 4; dx++)
+                        {
+                            for (int dz = 0; dz < 4; dz++)
+                            {
+                                sampler.setColumn(((minQuartX + quartX) << 2) + dx, ((minQuartZ + quartZ) << 2) + dz);
+                                heightSum += sampler.height();
+                            }
+                        }
+                    }
+                }
+            }
+            return biomeArea.get(minQuartX + 2, minQuartZ + 2);
+        }
+
+        /**
+         * @return The total bytes allocated by the current thread, or {@code -1} if this is not supported by the JVM.
+         */
+        private static long allocatedBytes()
+        {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported())
+            {
+                return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+            return -1;
+        }
+    }
+}
@@ -7,18 +7,25 @@
 package net.dries007.tfc.gametest;
 
 import java.util.Collection;
+import java.util.function.Predicate;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.gametest.framework.GameTestGenerator;
 import net.minecraft.gametest.framework.GameTestHelper;
 import net.minecraft.gametest.framework.TestFunction;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.Fluids;
 import net.minecraftforge.gametest.GameTestHolder;
 
 import net.dries007.tfc.MyTest;
 import net.dries007.tfc.TestAssertions;
 import net.dries007.tfc.common.blocks.TFCBlocks;
+import net.dries007.tfc.common.blocks.rock.AqueductBlock;
+import net.dries007.tfc.common.blocks.rock.AqueductGraph;
+import net.dries007.tfc.common.blocks.rock.Rock;
 
 @GameTestHolder
 public class AqueductTests
@@ -173,4 +180,88 @@ public class AqueductTests
             helper.succeed();
         });
     }
+
+    /**
+     * A network of over 500 aqueducts, in 20 rows of 25, connected at alternating ends. Filling one aqueduct at a time, with a tick delay each, this would take over 10,000 ticks to settle. Solved as a single network, it settles shortly after the source is placed.
+     */
+    @MyTest(structure = "aqueduct/serpentine_empty", timeoutTicks = 100)
+    public void testAddingWaterInLongSerpentine(GameTestHelper helper)
+    {
+        final Block aqueduct = TFCBlocks.ROCK_BLOCKS.get(Rock.ANDESITE).get(Rock.BlockType.AQUEDUCT).get();
+        for (int row = 0; row < 20; row++)
+        {
+            final int z = 1 + 2 * row;
+            for (int x = 1; x <= 25; x++)
+            {
+                helper.setBlock(x, 2, z, aqueduct);
+            }
+            if (row < 19)
+            {
+                helper.setBlock(row % 2 == 0 ? 25 : 1, 2, z + 1, aqueduct);
+            }
+        }
+
+        // Placing aqueducts only updates the open sides of their neighbors, so update every aqueduct once all are placed
+        for (int x = 1; x <= 25; x++)
+        {
+            for (int z = 1; z <= 39; z++)
+            {
+                final BlockPos pos = helper.absolutePos(new BlockPos(x, 2, z));
+                final BlockState state = helper.getLevel().getBlockState(pos);
+                if (state.getBlock() == aqueduct)
+                {
+                    helper.getLevel().setBlockAndUpdate(pos, Block.updateFromNeighbourShapes(state, helper.getLevel(), pos));
+                }
+            }
+        }
+
+        helper.setBlock(0, 2, 1, Blocks.WATER);
+        helper.succeedWhen(() -> helper.assertBlockState(new BlockPos(1, 2, 39), state -> state.getFluidState().is(Fluids.WATER), () -> "Expected water at the end of the network"));
+    }
+
+    /**
+     * The west end of the line is in an unloaded chunk, and the east end has a new source. The loaded part of the network should still be solved, and filled from the east.
+     */
+    @MyTest(structure = "aqueduct/line_empty")
+    public void testAddingWaterInLineWithUnloadedEnd(GameTestHelper helper)
+    {
+        // Place the source without updating the aqueducts, so only the solve below fills them
+        helper.getLevel().setBlock(helper.absolutePos(new BlockPos(5, 2, 1)), Blocks.WATER.defaultBlockState(), Block.UPDATE_CLIENTS);
+        solveWithUnloadedWestEnd(helper, new BlockPos(3, 2, 1));
+        for (int x = 2; x <= 4; x++)
+        {
+            helper.assertBlockState(new BlockPos(x, 2, 1), state -> state.getFluidState().is(Fluids.WATER) && state.getValue(AqueductBlock.FACING) == Direction.EAST, () -> "Expected water flowing from the east");
+        }
+        helper.succeed();
+    }
+
+    /**
+     * The water source, at the west end of the line, is in an unloaded chunk. The aqueduct facing it should keep its water as a source, and refill the rest of the network.
+     */
+    @MyTest(structure = "aqueduct/line_water")
+    public void testUnloadedSourceKeepsLineFilled(GameTestHelper helper)
+    {
+        final BlockPos end = helper.absolutePos(new BlockPos(4, 2, 1));
+        final BlockState state = helper.getLevel().getBlockState(end);
+        helper.getLevel().setBlock(end, state.setValue(AqueductBlock.FLUID, AqueductBlock.FLUID.keyFor(Fluids.EMPTY)), Block.UPDATE_CLIENTS);
+        solveWithUnloadedWestEnd(helper, new BlockPos(4, 2, 1));
+        for (int x = 2; x <= 4; x++)
+        {
+            helper.assertBlockState(new BlockPos(x, 2, 1), aqueduct -> aqueduct.getFluidState().is(Fluids.WATER) && aqueduct.getValue(AqueductBlock.FACING) == Direction.WEST, () -> "Expected water flowing from the west");
+        }
+        helper.succeed();
+    }
+
+    /**
+     * Solves the network at {@code pos}, as if every position at or west of the source position in the line structures was in an unloaded chunk.
+     */
+    private void solveWithUnloadedWestEnd(GameTestHelper helper, BlockPos pos)
+    {
+        final AqueductGraph graph = AqueductGraph.get(helper.getLevel());
+        final int westEdge = helper.absolutePos(new BlockPos(1, 2, 1)).getX();
+        final Predicate<BlockPos> isLoaded = p -> p.getX() > westEdge;
+
+        helper.assertTrue(graph != null, "Expected an aqueduct graph on server");
+        graph.solve(helper.getLevel(), helper.absolutePos(pos), isLoaded);
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.gametest;
+
+import java.util.Collection;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTestGenerator;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.gametest.framework.TestFunction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.Block;
+import net.minecraftforge.gametest.GameTestHolder;
+
+import net.dries007.tfc.MyTest;
+import net.dries007.tfc.TestAssertions;
+import net.dries007.tfc.common.blocks.TFCBlocks;
+import net.dries007.tfc.common.blocks.rock.Rock;
+import net.dries007.tfc.common.recipes.CollapseRecipe;
+import net.dries007.tfc.util.tracker.BlockSnapshot;
+import net.dries007.tfc.util.tracker.CollapsePlan;
+
+@GameTestHolder
+public class CollapseTests
+{
+    @GameTestGenerator
+    public Collection<TestFunction> generator()
+    {
+        return TestAssertions.testGenerator();
+    }
+
+    @MyTest(structure = "5x5_platform")
+    public void testPlanningFromSnapshotMatchesLevel(GameTestHelper helper)
+    {
+        buildCeiling(helper);
+
+        final BlockPos center = helper.absolutePos(new BlockPos(2, 5, 2));
+        final BlockSnapshot snapshot = BlockSnapshot.capture(helper.getLevel(), center.offset(-4, -4, -4), center.offset(4, 4, 4));
+        final CollapsePlan fromLevel = CollapseRecipe.planCollapse(helper.getLevel(), center, center, 4, 0.5, RandomSource.create(1234));
+        final CollapsePlan fromSnapshot = CollapseRecipe.planCollapse(snapshot, center, center, 4, 0.5, RandomSource.create(1234));
+
+        helper.assertFalse(fromLevel.columns().isEmpty(), "Expected some columns to be able to collapse");
+        helper.assertTrue(fromLevel.columns().equals(fromSnapshot.columns()), "Expected the same columns planned from the snapshot " + fromSnapshot.columns() + " as from the level " + fromLevel.columns());
+        helper.succeed();
+    }
+
+    @MyTest(structure = "5x5_platform")
+    public void testCollapseIsAppliedOnLaterTick(GameTestHelper helper)
+    {
+        buildCeiling(helper);
+        helper.assertTrue(CollapseRecipe.startCollapse(helper.getLevel(), helper.absolutePos(new BlockPos(2, 5, 2))), "Expected a collapse to be planned");
+
+        // The collapse is planned off the main thread, so nothing has collapsed yet
+        helper.assertTrue(countCeiling(helper) == 25, "Expected the collapse to not be applied on the tick it was started");
+        helper.succeedWhen(() -> helper.assertTrue(countCeiling(helper) < 25, "Expected part of the ceiling to have collapsed"));
+    }
+
+    /**
+     * Fills the top layer of the platform with raw rock, with air below, which can collapse.
+     */
+    private void buildCeiling(GameTestHelper helper)
+    {
+        final Block rock = TFCBlocks.ROCK_BLOCKS.get(Rock.GRANITE).get(Rock.BlockType.RAW).get();
+        for (int x = 0; x < 5; x++)
+        {
+            for (int z = 0; z < 5; z++)
+            {
+                helper.setBlock(x, 5, z, rock);
+            }
+        }
+    }
+
+    private int countCeiling(GameTestHelper helper)
+    {
+        final Block rock = TFCBlocks.ROCK_BLOCKS.get(Rock.GRANITE).get(Rock.BlockType.RAW).get();
+        int count = 0;
+        for (int x = 0; x < 5; x++)
+        {
+            for (int z = 0; z < 5; z++)
+            {
+                if (helper.getBlockState(new BlockPos(x, 5, z)).getBlock() == rock)
+                {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.gametest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.gametest.framework.GameTestGenerator;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.gametest.framework.TestFunction;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.WorldGenRegion;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.levelgen.WorldgenRandom;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import net.minecraft.world.level.levelgen.feature.ConfiguredFeature;
+import net.minecraft.world.level.levelgen.feature.configurations.FeatureConfiguration;
+import net.minecraft.world.level.levelgen.placement.PlacedFeature;
+import net.minecraftforge.gametest.GameTestHolder;
+
+import net.dries007.tfc.MyTest;
+import net.dries007.tfc.TestAssertions;
+import net.dries007.tfc.common.blocks.TFCBlocks;
+import net.dries007.tfc.common.blocks.rock.Rock;
+import net.dries007.tfc.world.TFCChunkGenerator;
+import net.dries007.tfc.world.feature.SectionBoundedFeature;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@GameTestHolder
+public class FeaturePlacementTests
+{
+    private static final long SEED = 1234L;
+    private static final int CHUNKS = 64;
+
+    @GameTestGenerator
+    public Collection<TestFunction> generator()
+    {
+        return TestAssertions.testGenerator();
+    }
+
+    /**
+     * Places every bounded vein, in order and in parallel, in chunks filled with raw rock, and checks every section of the chunk is identical.
+     */
+    @MyTest(unitTest = true)
+    public void testParallelPlacementMatchesSequential(GameTestHelper helper)
+    {
+        final ServerLevel level = helper.getLevel();
+        final List<PlacedFeature> features = getBoundedVeins(level);
+        final int[] featureIndices = new int[features.size()];
+        for (int i = 0; i < featureIndices.length; i++)
+        {
+            featureIndices[i] = i;
+        }
+
+        assertFalse(features.isEmpty(), "Expected some veins which are section bounded");
+
+        int changedChunks = 0;
+        for (int i = 0; i < CHUNKS; i++)
+        {
+            final ChunkPos pos = new ChunkPos(i * 7 - 200, i * 13 - 400);
+            final byte[] initial = write(createChunk(level, pos));
+            final byte[] sequential = place(level, pos, features, featureIndices, false);
+            final byte[] parallel = place(level, pos, features, featureIndices, true);
+
+            assertArrayEquals(sequential, parallel, "Chunk " + pos + " placed in parallel differs from placed in order");
+            if (!Arrays.equals(initial, sequential))
+            {
+                changedChunks++;
+            }
+        }
+        assertTrue(changedChunks > 0, "Expected some veins to be placed in " + CHUNKS + " chunks");
+    }
+
+    private byte[] place(ServerLevel level, ChunkPos pos, List<PlacedFeature> features, int[] featureIndices, boolean parallel)
+    {
+        final ChunkAccess chunk = createChunk(level, pos);
+        final WorldGenRegion region = new WorldGenRegion(level, List.of(chunk), ChunkStatus.FEATURES, 0);
+        final WorldgenRandom random = new WorldgenRandom(new XoroshiroRandomSource(0));
+        final long baseSeed = random.setDecorationSeed(SEED, pos.getMinBlockX(), pos.getMinBlockZ());
+
+        TFCChunkGenerator.placeFeatures(region, level.getChunkSource().getGenerator(), features, featureIndices, random, baseSeed, 0, pos.getWorldPosition(), parallel);
+        return write(chunk);
+    }
+
+    /**
+     * A chunk at the same status, with the same heightmaps present, as during the features step, with each section filled with a different raw rock.
+     */
+    private ChunkAccess createChunk(ServerLevel level, ChunkPos pos)
+    {
+        final ProtoChunk chunk = new ProtoChunk(pos, UpgradeData.EMPTY, level, level.registryAccess().registryOrThrow(Registries.BIOME), null);
+        final LevelChunkSection[] sections = chunk.getSections();
+        final Rock[] rocks = Rock.values();
+        for (int i = 0; i < sections.length; i++)
+        {
+            final Block rock = TFCBlocks.ROCK_BLOCKS.get(rocks[i % rocks.length]).get(Rock.BlockType.RAW).get();
+            sections[i] = new LevelChunkSection(new PalettedContainer<>(Block.BLOCK_STATE_REGISTRY, rock.defaultBlockState(), PalettedContainer.Strategy.SECTION_STATES), sections[i].getBiomes());
+        }
+        chunk.setStatus(ChunkStatus.LIQUID_CARVERS);
+        Heightmap.primeHeightmaps(chunk, EnumSet.allOf(Heightmap.Types.class));
+        return chunk;
+    }
+
+    private byte[] write(ChunkAccess chunk)
+    {
+        final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        for (LevelChunkSection section : chunk.getSections())
+        {
+            section.write(buffer);
+        }
+        final byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Every TFC vein which is bounded, placed directly at the chunk origin, in a consistent order.
+     */
+    private List<PlacedFeature> getBoundedVeins(ServerLevel level)
+    {
+        final Registry<ConfiguredFeature<?, ?>> registry = level.registryAccess().registryOrThrow(Registries.CONFIGURED_FEATURE);
+        final List<PlacedFeature> features = new ArrayList<>();
+        registry.holders()
+            .filter(holder -> holder.key().location().getNamespace().equals("tfc") && holder.key().location().getPath().startsWith("vein/"))
+            .filter(holder -> isBounded(holder.value()))
+            .sorted(Comparator.comparing(holder -> holder.key().location()))
+            .forEach(holder -> features.add(new PlacedFeature(holder, List.of())));
+        return features;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <C extends FeatureConfiguration> boolean isBounded(ConfiguredFeature<C, ?> feature)
+    {
+        return feature.feature() instanceof SectionBoundedFeature<?> bounded && ((SectionBoundedFeature<C>) bounded).getFootprint(feature.config()) != null;
+    }
+}
@@ -6,7 +6,10 @@
 
 package net.dries007.tfc.gametest;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import net.minecraft.core.BlockPos;
 import net.minecraft.gametest.framework.GameTestGenerator;
 import net.minecraft.gametest.framework.GameTestHelper;
@@ -29,6 +32,7 @@ import net.dries007.tfc.common.capabilities.VesselLike;
 import net.dries007.tfc.common.capabilities.heat.Heat;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
 import net.dries007.tfc.common.capabilities.heat.IHeat;
+import net.dries007.tfc.common.capabilities.heat.SlotHeatCache;
 import net.dries007.tfc.common.fluids.TFCFluids;
 import net.dries007.tfc.common.items.TFCItems;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
@@ -295,6 +299,76 @@ public class HeatingBehaviorTests
         assertEquals(4386, ticksRequiredToBeNotWorkable(new ItemStack(TFCItems.METAL_ITEMS.get(Metal.Default.WROUGHT_IRON).get(Metal.ItemType.DOUBLE_INGOT).get())));
     }
 
+    @MyTest(unitTest = true)
+    public void checkHeatingAtIntervalsMatchesHeatingEveryTick(GameTestHelper helper)
+    {
+        final ItemStack everyTick = new ItemStack(TFCItems.METAL_ITEMS.get(Metal.Default.BRONZE).get(Metal.ItemType.INGOT).get());
+        final ItemStack atIntervals = everyTick.copy();
+        final IHeat everyTickHeat = Helpers.getCapability(everyTick, HeatCapability.CAPABILITY);
+        final IHeat atIntervalsHeat = Helpers.getCapability(atIntervals, HeatCapability.CAPABILITY);
+        assertNotNull(everyTickHeat);
+        assertNotNull(atIntervalsHeat);
+
+        try (CalendarTransaction tr = Calendars.SERVER.transaction())
+        {
+            // Start above zero, as passive cooling is clamped at zero, which only applies to heating every tick
+            everyTickHeat.setTemperature(100f);
+            atIntervalsHeat.setTemperature(100f);
+            for (int ticks = 1; ticks <= 2000; ticks++)
+            {
+                tr.add(1);
+                HeatCapability.addTemp(everyTickHeat, 800f);
+                if (ticks % 5 == 0)
+                {
+                    HeatCapability.addTemp(atIntervalsHeat, 800f, 3, 5);
+                    assertEquals(everyTickHeat.getTemperature(), atIntervalsHeat.getTemperature(), 0.5f, "After " + ticks + " ticks");
+                }
+            }
+        }
+    }
+
+    @MyTest(unitTest = true)
+    public void checkMeltingOneOfSeveralInputsAtIntervals(GameTestHelper helper)
+    {
+        final int interval = 5;
+        final ItemStack ingot = new ItemStack(TFCItems.METAL_ITEMS.get(Metal.Default.BRONZE).get(Metal.ItemType.INGOT).get());
+        final List<ItemStack> inputs = new ArrayList<>(List.of(ingot.copy(), ingot.copy(), ingot.copy()));
+        final IHeat referenceHeat = Helpers.getCapability(ingot, HeatCapability.CAPABILITY);
+        final SlotHeatCache cache = new SlotHeatCache(inputs.size());
+        assertNotNull(referenceHeat);
+
+        try (CalendarTransaction tr = Calendars.SERVER.transaction())
+        {
+            long gameTime = 0;
+            for (int update = 0; update < 40; update++)
+            {
+                tr.add(interval);
+                gameTime += interval;
+
+                // The first update of a new stack only accounts for a single tick
+                HeatCapability.addTemp(referenceHeat, 800f, 3, update == 0 ? 1 : interval);
+
+                // Heat, and remove the first input part way through, as the blast furnace does when an input melts
+                final Iterator<ItemStack> iterator = inputs.iterator();
+                int index = 0;
+                while (iterator.hasNext())
+                {
+                    final IHeat heat = cache.get(index, iterator.next(), gameTime);
+                    assertNotNull(heat);
+                    cache.heat(index, heat, 800f, 3, gameTime, interval);
+                    if (update == 10 && index == 0)
+                    {
+                        iterator.remove();
+                        cache.remove(index);
+                        continue;
+                    }
+                    assertEquals(referenceHeat.getTemperature(), heat.getTemperature(), 0.5f, "Input " + index + " after " + (update + 1) + " updates");
+                    index++;
+                }
+            }
+        }
+    }
+
     @MyTest(unitTest = true)
     public String checkBloomeryFuelEfficiencyWithPoorOres(GameTestHelper helper)
     {
@@ -17,13 +17,15 @@ import net.minecraft.world.level.ItemLike;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraftforge.gametest.GameTestHolder;
+import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.MyTest;
 import net.dries007.tfc.TestAssertions;
 import net.dries007.tfc.common.blocks.TFCBlocks;
 import net.dries007.tfc.common.blocks.rock.Rock;
 import net.dries007.tfc.common.blocks.soil.SoilBlockType;
-import org.jetbrains.annotations.Nullable;
+import net.dries007.tfc.common.recipes.LandslideRecipe;
+import net.dries007.tfc.common.entities.TFCEntities;
 
 @GameTestHolder
 public class LandslideTests
@@ -82,28 +84,74 @@ public class LandslideTests
         expectStaysOnTop(helper, TFCBlocks.SOIL.get(SoilBlockType.MUD).get(SoilBlockType.Variant.LOAM).get());
     }
 
+    // The same scenarios, with the landslide batched, so it is resolved by the simulation instead of falling block entities
+
+    @MyTest(structure = "5x5_platform")
+    public void testBatchedDirtBreaksTorch(GameTestHelper helper)
+    {
+        expectBreaksBlock(helper, Blocks.TORCH, Blocks.TORCH, true);
+    }
+
+    @MyTest(structure = "5x5_platform")
+    public void testBatchedDirtBreaksFarmland(GameTestHelper helper)
+    {
+        expectBreaksBlock(helper, Blocks.FARMLAND, Blocks.DIRT, true);
+    }
+
+    @MyTest(structure = "5x5_platform")
+    public void testBatchedDirtDoesNotBreakCharcoal(GameTestHelper helper)
+    {
+        expectPopsOff(helper, TFCBlocks.CHARCOAL_PILE.get(), true);
+    }
+
+    @MyTest(structure = "5x5_platform")
+    public void testBatchedCobbleBreaksCharcoal(GameTestHelper helper)
+    {
+        run(helper, TFCBlocks.ROCK_BLOCKS.get(Rock.GRANITE).get(Rock.BlockType.COBBLE).get(), TFCBlocks.CHARCOAL_PILE.get(), TFCBlocks.ROCK_BLOCKS.get(Rock.GRANITE).get(Rock.BlockType.COBBLE).get(), null, Items.CHARCOAL, true);
+    }
+
+    @MyTest(structure = "5x5_platform")
+    public void testBatchedDirtDoesNotBreakSoulSand(GameTestHelper helper)
+    {
+        expectStaysOnTop(helper, Blocks.SOUL_SAND, true);
+    }
 
     private void expectBreaksBlock(GameTestHelper helper, Block blockToFallOn, ItemLike expectedItem)
     {
-        run(helper, Blocks.DIRT, blockToFallOn, Blocks.DIRT, null, expectedItem);
+        expectBreaksBlock(helper, blockToFallOn, expectedItem, false);
+    }
+
+    private void expectBreaksBlock(GameTestHelper helper, Block blockToFallOn, ItemLike expectedItem, boolean batched)
+    {
+        run(helper, Blocks.DIRT, blockToFallOn, Blocks.DIRT, null, expectedItem, batched);
     }
 
     private void expectBreaksBlock(GameTestHelper helper, Block blockToFall, Block blockToFallOn, ItemLike expectedItem)
     {
-        run(helper, blockToFall, blockToFallOn, blockToFall, null, expectedItem);
+        run(helper, blockToFall, blockToFallOn, blockToFall, null, expectedItem, false);
     }
 
     private void expectPopsOff(GameTestHelper helper, Block blockToFallOn)
     {
-        run(helper, Blocks.DIRT, blockToFallOn, blockToFallOn, null, Blocks.DIRT);
+        expectPopsOff(helper, blockToFallOn, false);
+    }
+
+    private void expectPopsOff(GameTestHelper helper, Block blockToFallOn, boolean batched)
+    {
+        run(helper, Blocks.DIRT, blockToFallOn, blockToFallOn, null, Blocks.DIRT, batched);
     }
 
     private void expectStaysOnTop(GameTestHelper helper, Block blockToFallOn)
     {
-        run(helper, Blocks.DIRT, blockToFallOn, blockToFallOn, Blocks.DIRT, null);
+        expectStaysOnTop(helper, blockToFallOn, false);
+    }
+
+    private void expectStaysOnTop(GameTestHelper helper, Block blockToFallOn, boolean batched)
+    {
+        run(helper, Blocks.DIRT, blockToFallOn, blockToFallOn, Blocks.DIRT, null, batched);
     }
 
-    private void run(GameTestHelper helper, Block blockToDrop, Block blockToFallOn, Block expectBottomBlock, @Nullable Block expectBlockAbove, @Nullable ItemLike expectItem)
+    private void run(GameTestHelper helper, Block blockToDrop, Block blockToFallOn, Block expectBottomBlock, @Nullable Block expectBlockAbove, @Nullable ItemLike expectItem, boolean batched)
     {
         helper.setBlock(1, 2, 2, blockToFallOn); // Landing Area
         helper.setBlock(2, 2, 1, blockToFallOn);
@@ -111,7 +159,17 @@ public class LandslideTests
         helper.setBlock(2, 2, 3, blockToFallOn);
         helper.setBlock(2, 2, 2, blockToFallOn);
         helper.setBlock(2, 5, 2, blockToDrop); // Falling Block
-        helper.setBlock(2, 6, 2, Blocks.POLISHED_ANDESITE_SLAB); // Triggers block update, causing the falling block to fall
+        if (batched)
+        {
+            // Trigger the landslide directly, batched, rather than via the server config, which is shared with the other tests. The fall should be resolved by the simulation, without ever spawning an entity
+            final BlockPos pos = new BlockPos(2, 5, 2);
+            helper.onEachTick(() -> helper.assertEntityNotPresent(TFCEntities.FALLING_BLOCK.get()));
+            helper.assertTrue(LandslideRecipe.tryLandslide(helper.getLevel(), helper.absolutePos(pos), helper.getBlockState(pos), true), "Expected a landslide to occur");
+        }
+        else
+        {
+            helper.setBlock(2, 6, 2, Blocks.POLISHED_ANDESITE_SLAB); // Triggers block update, causing the falling block to fall
+        }
         helper.succeedWhen(() -> {
             helper.assertBlockPresent(expectBottomBlock, 2, 2, 2);
             if (expectBlockAbove != null)
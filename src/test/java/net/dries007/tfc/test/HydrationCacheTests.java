@@ -0,0 +1,62 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test;
+
+import java.util.Random;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.common.blocks.soil.HydrationCache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HydrationCacheTests
+{
+    @Test
+    public void testNoFluid()
+    {
+        final byte[] costs = new byte[256];
+        HydrationCache.computeLayer((x, y, z) -> false, 0, 64, 0, costs);
+        for (byte cost : costs)
+        {
+            assertEquals(HydrationCache.MAX_COST, cost);
+        }
+    }
+
+    @Test
+    public void testLayerMatchesScanningEachPosition()
+    {
+        final Random random = new Random(12345);
+        for (int trial = 0; trial < 50; trial++)
+        {
+            // Sparse fluid, on the same level and the level below, including in the border around the chunk
+            final LongSet fluids = new LongOpenHashSet();
+            final int count = 1 + random.nextInt(12);
+            for (int i = 0; i < count; i++)
+            {
+                fluids.add(BlockPos.asLong(random.nextInt(24) - 4, 63 + random.nextInt(2), random.nextInt(24) - 4));
+            }
+
+            final HydrationCache.FluidSource source = (x, y, z) -> fluids.contains(BlockPos.asLong(x, y, z));
+            final byte[] costs = new byte[256];
+            HydrationCache.computeLayer(source, 0, 64, 0, costs);
+
+            for (int x = 0; x < 16; x++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    if (!source.isHydrating(x, 64, z)) // Farmland is never a fluid itself
+                    {
+                        assertEquals(HydrationCache.findMinCostWater(source, x, 64, z), costs[x | (z << 4)], "trial = " + trial + ", pos = (" + x + ", " + z + ")");
+                    }
+                }
+            }
+        }
+    }
+}
@@ -504,8 +504,46 @@ public class RotationNetworkTests
             """, mock.toString());
     }
 
+    @Test
+    public void testManyDisconnectedNetworks()
+    {
+        final RotationMock mock = mock();
+        final int networks = 500;
+
+        for (int i = 0; i < networks; i++)
+        {
+            final int x = 2 * i;
+            assertTrue(mock.addSource(x, 0, 0, SOUTH));
+            for (int z = 1; z <= 4; z++)
+            {
+                assertTrue(mock.add(x, 0, z, NORTH, SOUTH));
+            }
+        }
+
+        // Each network is a source plus four nodes
+        assertEquals(networks * 5, countNodes(mock));
+
+        // Breaking the middle of every network should only disconnect the nodes downstream of it
+        for (int i = 0; i < networks; i++)
+        {
+            mock.remove(2 * i, 0, 2);
+        }
+        assertEquals(networks * 2, countNodes(mock));
+
+        // And re-adding it reconnects them
+        for (int i = 0; i < networks; i++)
+        {
+            assertTrue(mock.add(2 * i, 0, 2, NORTH, SOUTH));
+        }
+        assertEquals(networks * 5, countNodes(mock));
+        assertEquals(networks, mock.toString().lines().filter(line -> line.startsWith("[network=")).count());
+    }
+
+    private int countNodes(RotationMock mock)
+    {
+        return (int) mock.toString().lines().filter(line -> line.startsWith("Node[")).count();
+    }
 
-    
     private RotationMock mock()
     {
         return new RotationMock(new RotationNetworkManager(), new HashMap<>());